@@ -0,0 +1,77 @@
+package com.morago_backend.security;
+
+import com.morago_backend.entity.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.access.expression.SecurityExpressionRoot;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link RolePolicy} check against the mask compiled into the token, next to the {@code hasRole} /
+ * {@code hasAnyRole} expressions it replaces, which build the caller's role set on every invocation.
+ * The caller is a client, so the administrator checks are denials and walk every authority.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleMaskBenchmark {
+
+    private Authentication authentication;
+
+    @Setup
+    public void setUp() {
+        List<String> roles = List.of(UserRole.CLIENT.name());
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("+821000000000")
+                .claim("roles", roles)
+                .build();
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + UserRole.CLIENT.name()));
+        authentication = new RoleMaskAuthenticationToken(jwt, authorities, RoleMask.ofNames(roles.toArray(String[]::new)));
+    }
+
+    // ========== SINGLE ROLE ==========
+    @Benchmark
+    public boolean policyAdministrator() {
+        return RolePolicy.ADMINISTRATOR.allows(authentication);
+    }
+
+    @Benchmark
+    public boolean hasRoleAdministrator() {
+        return expressionRoot().hasRole("ADMINISTRATOR");
+    }
+
+    // ========== ANY OF SEVERAL ROLES ==========
+    @Benchmark
+    public boolean policyInterpreterOrAdmin() {
+        return RolePolicy.INTERPRETER_OR_ADMIN.allows(authentication);
+    }
+
+    @Benchmark
+    public boolean hasAnyRoleInterpreterOrAdmin() {
+        return expressionRoot().hasAnyRole("INTERPRETER", "ADMINISTRATOR");
+    }
+
+    // A new root per check, as method security creates one per invocation
+    private SecurityExpressionRoot expressionRoot() {
+        return new SecurityExpressionRoot(authentication) {
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.morago_backend.service;
+
+import com.morago_backend.entity.UserRole;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issuing and verifying access tokens with keys derived once in the constructor: signing, the JJWT
+ * parser used by {@link JwtService#parseClaims}, and the resource-server decoder built by
+ * {@link JwtService#buildJwtDecoder}. Verification uses a token signed with a retired key as well,
+ * which is located by its {@code kid}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-that-is-long-enough-for-hs256-signing";
+    private static final String PREVIOUS_SECRET = "retired-benchmark-secret-that-is-also-long-enough";
+    private static final List<UserRole> ROLES = List.of(UserRole.CLIENT, UserRole.INTERPRETER);
+
+    private JwtService jwtService;
+    private JwtDecoder decoder;
+    private String token;
+    private String previousKeyToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, "current", "previous:" + PREVIOUS_SECRET, "3600000");
+        decoder = jwtService.buildJwtDecoder(jwt -> OAuth2TokenValidatorResult.success());
+        token = jwtService.generateToken(42L, "+821012345678", ROLES);
+
+        JwtService previous = new JwtService(PREVIOUS_SECRET, "previous", "", "3600000");
+        previousKeyToken = previous.generateToken(42L, "+821012345678", ROLES);
+    }
+
+    // ========== ISSUE ==========
+    @Benchmark
+    public String issue() {
+        return jwtService.generateToken(42L, "+821012345678", ROLES);
+    }
+
+    // ========== VERIFY ==========
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtService.parseClaims(token);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return decoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decodePreviousKey() {
+        return decoder.decode(previousKeyToken);
+    }
+}
@@ -0,0 +1,161 @@
+package com.morago_backend.config;
+
+import com.morago_backend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt encoder that hashes on a dedicated pool sized to the CPU instead of on the request thread.
+ * <p>
+ * At most {@code threads + queueCapacity} operations are admitted at once; anything beyond that is
+ * rejected immediately with a 429 rather than piling up behind CPU-bound work and starving cheap
+ * requests. Verifications (logins) are served ahead of new hashes (signup, password changes).
+ * {@link #upgradeEncoding} reports hashes made with a lower cost than the configured one, so Spring
+ * Security rehashes them on the next successful login.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+    private static final int PRIORITY_VERIFY = 0;
+    private static final int PRIORITY_ENCODE = 1;
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore admission;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Timer encodeTimer;
+    private final Timer verifyTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.admission = new Semaphore(threads + queueCapacity);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.encodeTimer = Timer.builder("password.hash.duration")
+                .description("Time spent computing BCrypt hashes")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("password.hash.duration")
+                .description("Time spent computing BCrypt hashes")
+                .tag("operation", "verify")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("Password operations rejected because the hashing pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password operations waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password operations currently being hashed")
+                .register(meterRegistry);
+
+        logger.info("Password hashing pool started: bcryptStrength={}, threads={}, queueCapacity={}", strength, threads, queueCapacity);
+    }
+
+    // ========== PASSWORD ENCODER ==========
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(PRIORITY_ENCODE, encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(PRIORITY_VERIFY, verifyTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Parses the cost from the hash, no hashing involved
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    // ========== EXECUTION ==========
+    private <T> T submit(int priority, Timer timer, Supplier<T> work) {
+        if (!admission.tryAcquire()) {
+            rejected.increment();
+            throw new TooManyRequestsException("Too many password operations in progress, please retry shortly", RETRY_AFTER_SECONDS);
+        }
+
+        HashTask<T> task = new HashTask<>(priority, sequence.incrementAndGet(), () -> timer.record(work));
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            admission.release();
+            throw new IllegalStateException("Password hashing pool is shut down", e);
+        }
+
+        try {
+            return task.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Queue entry ordered by priority, then by arrival
+     */
+    private final class HashTask<T> implements Runnable, Comparable<HashTask<?>> {
+        private final int priority;
+        private final long sequence;
+        private final Supplier<T> work;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private HashTask(int priority, long sequence, Supplier<T> work) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.work = work;
+        }
+
+        @Override
+        public void run() {
+            try {
+                result.complete(work.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                admission.release();
+            }
+        }
+
+        @Override
+        public int compareTo(HashTask<?> other) {
+            int byPriority = Integer.compare(priority, other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
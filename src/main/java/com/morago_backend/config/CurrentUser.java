@@ -0,0 +1,35 @@
+package com.morago_backend.config;
+
+import com.morago_backend.entity.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * Identity of the authenticated caller, taken from the verified access token.
+ * <p>
+ * Declare it as a controller method parameter to get the caller's ID, phone and roles without a
+ * database lookup; see {@link CurrentUserArgumentResolver}. Load the {@code User} entity only when
+ * its mutable state (balance, password, profile fields) is actually needed.
+ */
+@Getter
+@AllArgsConstructor
+public class CurrentUser {
+
+    private final Long id;
+    private final String phone;
+    private final Set<UserRole> roles;
+
+    public boolean hasRole(UserRole role) {
+        return roles.contains(role);
+    }
+
+    public boolean isInterpreter() {
+        return hasRole(UserRole.INTERPRETER);
+    }
+
+    public boolean isAdministrator() {
+        return hasRole(UserRole.ADMINISTRATOR);
+    }
+}
@@ -0,0 +1,86 @@
+package com.morago_backend.config;
+
+import com.morago_backend.entity.UserRole;
+import com.morago_backend.security.RoleMask;
+import com.morago_backend.security.RoleMaskAuthenticationToken;
+import com.morago_backend.service.PrincipalCache;
+import com.morago_backend.service.PrincipalCache.CachedPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Resolves {@link CurrentUser} controller parameters from the verified JWT's {@code sub}, {@code id}
+ * and {@code roles} claims. Tokens without an {@code id} claim fall back to the principal cache.
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(CurrentUserArgumentResolver.class);
+
+    private final PrincipalCache principalCache;
+
+    public CurrentUserArgumentResolver(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return CurrentUser.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public CurrentUser resolveArgument(MethodParameter parameter,
+                                       ModelAndViewContainer mavContainer,
+                                       NativeWebRequest webRequest,
+                                       WebDataBinderFactory binderFactory) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) {
+            throw new AuthenticationCredentialsNotFoundException("No authenticated user");
+        }
+
+        if (auth.getPrincipal() instanceof Jwt jwt && jwt.getClaim("id") != null) {
+            // Roles were already compiled into a mask when the token was authenticated
+            Set<UserRole> roles = auth instanceof RoleMaskAuthenticationToken token
+                    ? RoleMask.toRoles(token.getRoleMask())
+                    : toRoles(jwt.getClaimAsStringList("roles"));
+            return new CurrentUser(toLong(jwt.getClaim("id")), jwt.getSubject(), roles);
+        }
+
+        logger.debug("Token for {} has no id claim, resolving the current user from the principal cache", auth.getName());
+        CachedPrincipal principal = principalCache.getByPhone(auth.getName())
+                .orElseThrow(() -> new AuthenticationCredentialsNotFoundException("Current user not found"));
+        return new CurrentUser(principal.getId(), principal.getPhone(), principal.getRoles());
+    }
+
+    private static Long toLong(Object claim) {
+        if (claim instanceof Number number) return number.longValue();
+        return Long.valueOf(claim.toString());
+    }
+
+    private static Set<UserRole> toRoles(List<String> claim) {
+        Set<UserRole> roles = EnumSet.noneOf(UserRole.class);
+        if (claim == null) return roles;
+        for (String role : claim) {
+            try {
+                roles.add(UserRole.valueOf(role));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Ignoring unknown role claim: {}", role);
+            }
+        }
+        return roles;
+    }
+}
@@ -0,0 +1,73 @@
+package com.morago_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting, enabled when {@code datasource.replica.urls} is set.
+ * <p>
+ * The primary pool is built from the usual {@code spring.datasource.*} and
+ * {@code spring.datasource.hikari.*} properties; each replica URL gets its own smaller pool with the
+ * same driver and, unless overridden, the same credentials. Without replica URLs the default
+ * auto-configured data source is used unchanged.
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replica.urls:}'.isBlank()")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${datasource.replica.urls}") List<String> replicaUrls,
+            @Value("${datasource.replica.username:}") String replicaUsername,
+            @Value("${datasource.replica.password:}") String replicaPassword,
+            @Value("${datasource.replica.pool-size:10}") int replicaPoolSize,
+            @Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds) {
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) continue;
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url.trim());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(replicaUsername.isBlank() ? properties.determineUsername() : replicaUsername);
+            replica.setPassword(replicaPassword.isBlank() ? properties.determinePassword() : replicaPassword);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas, maxLagSeconds);
+        routing.checkReplicas();
+        return routing;
+    }
+
+    /**
+     * The data source used by JPA, JdbcTemplate and Flyway. Connections are fetched lazily so the
+     * routing decision sees the transaction's read-only flag.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,103 @@
+package com.morago_backend.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.env.Environment;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET for read-mostly endpoints.
+ * <p>
+ * The controller passes the resource's strong ETag; when the request's {@code If-None-Match} matches,
+ * the response is a bodiless 304 and the body supplier is never called, so nothing is built or
+ * serialized. Every response carries the route's {@code Cache-Control}, configured with
+ * {@code http-cache.<route>.max-age-seconds} (0 = clients revalidate on every use) and
+ * {@code http-cache.<route>.public} (responses are private to the user by default).
+ */
+@Component
+public class HttpCacheSupport {
+
+    private static final int ETAG_BYTES = 16;
+
+    private final Environment environment;
+    private final ObjectMapper objectMapper;
+    private final Map<String, CacheControl> policies = new ConcurrentHashMap<>();
+
+    public HttpCacheSupport(Environment environment, ObjectMapper objectMapper) {
+        this.environment = environment;
+        this.objectMapper = objectMapper;
+    }
+
+    // ========== ETAGS ==========
+    /**
+     * Strong ETag of a value's JSON representation
+     */
+    public String etagOf(Object value) {
+        return contentEtag(objectMapper, value);
+    }
+
+    /**
+     * First 16 bytes of the SHA-256 of the value's JSON, hex encoded; equal JSON always gives the same tag
+     */
+    public static String contentEtag(ObjectMapper objectMapper, Object value) {
+        try {
+            return contentEtag(objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not compute ETag", e);
+        }
+    }
+
+    /**
+     * Same tag for an already encoded representation, so bytes served as they are get the ETag their
+     * value would
+     */
+    public static String contentEtag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, ETAG_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not compute ETag", e);
+        }
+    }
+
+    // ========== RESPONSES ==========
+
+    public <T> ResponseEntity<T> respond(WebRequest request, String route, String etag, Supplier<T> body) {
+        return respond(request, route, etag, HttpHeaders.EMPTY, body);
+    }
+
+    /**
+     * Same as {@link #respond(WebRequest, String, String, Supplier)}, adding {@code headers} to both the
+     * 200 and the 304 response
+     */
+    public <T> ResponseEntity<T> respond(WebRequest request, String route, String etag, HttpHeaders headers, Supplier<T> body) {
+        CacheControl cacheControl = policies.computeIfAbsent(route, this::policy);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).headers(headers).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).headers(headers).body(body.get());
+    }
+
+    private CacheControl policy(String route) {
+        long maxAgeSeconds = environment.getProperty("http-cache." + route + ".max-age-seconds", Long.class, 0L);
+        boolean isPublic = environment.getProperty("http-cache." + route + ".public", Boolean.class, false);
+
+        CacheControl cacheControl = maxAgeSeconds > 0
+                ? CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).mustRevalidate()
+                : CacheControl.noCache();
+        return isPublic ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+    }
+}
@@ -0,0 +1,131 @@
+package com.morago_backend.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morago_backend.service.IdempotencyService;
+import com.morago_backend.service.IdempotencyService.StoredResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Applies {@link Idempotent} to controller methods.
+ * <p>
+ * A key is scoped to the authenticated user, the HTTP method and the request path, and is bound to a
+ * hash of the method arguments so a reused key with a different payload is rejected. Only 2xx responses
+ * are stored; anything else releases the key.
+ */
+@Aspect
+@Component
+public class IdempotencyAspect {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyAspect.class);
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyAspect(IdempotencyService idempotencyService, ObjectMapper objectMapper) {
+        this.idempotencyService = idempotencyService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Around("@annotation(com.morago_backend.config.Idempotent)")
+    public Object handle(ProceedingJoinPoint joinPoint) throws Throwable {
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key == null || key.isBlank()) {
+            return joinPoint.proceed();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(IDEMPOTENCY_KEY_HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String principal = auth == null ? "anonymous" : auth.getName();
+        String target = request.getMethod() + " " + request.getRequestURI();
+        String scopeHash = sha256(principal + "|" + target + "|" + key);
+        String requestHash = sha256(objectMapper.writeValueAsString(requestArguments(joinPoint.getArgs())));
+
+        Optional<StoredResponse> stored = idempotencyService.begin(scopeHash, key, principal, target, requestHash);
+        if (stored.isPresent()) {
+            logger.info("Replaying stored response for {} with Idempotency-Key={}", target, key);
+            return replay(stored.get(), (MethodSignature) joinPoint.getSignature());
+        }
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable t) {
+            idempotencyService.release(scopeHash);
+            throw t;
+        }
+
+        if (result instanceof ResponseEntity<?> response && response.getStatusCode().is2xxSuccessful()) {
+            URI location = response.getHeaders().getLocation();
+            idempotencyService.complete(scopeHash, response.getStatusCode().value(),
+                    objectMapper.writeValueAsString(response.getBody()),
+                    location == null ? null : location.toString());
+        } else {
+            idempotencyService.release(scopeHash);
+        }
+        return result;
+    }
+
+    private ResponseEntity<Object> replay(StoredResponse stored, MethodSignature signature) throws Exception {
+        JavaType bodyType = objectMapper.constructType(
+                ResolvableType.forMethodReturnType(signature.getMethod()).getGeneric(0).getType());
+        Object body = stored.getBody() == null ? null : objectMapper.readValue(stored.getBody(), bodyType);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(stored.getStatus()).header(REPLAYED_HEADER, "true");
+        if (stored.getLocation() != null) {
+            builder.header(HttpHeaders.LOCATION, stored.getLocation());
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Arguments that describe the request payload; servlet objects are left out
+     */
+    private List<Object> requestArguments(Object[] args) {
+        List<Object> payload = new ArrayList<>();
+        for (Object arg : args) {
+            if (arg instanceof HttpServletRequest || arg instanceof HttpServletResponse || arg instanceof CurrentUser) continue;
+            payload.add(arg);
+        }
+        return payload;
+    }
+
+    private String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
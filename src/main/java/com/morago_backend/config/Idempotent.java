@@ -0,0 +1,22 @@
+package com.morago_backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller method that honours the {@code Idempotency-Key} request header.
+ * <p>
+ * The first successful response for a key is stored; a retry with the same key, user, method and path
+ * gets that response back without the method running again. The method must return a
+ * {@code ResponseEntity}. Requests without the header are handled as usual.
+ *
+ * @see IdempotencyAspect
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
@@ -0,0 +1,64 @@
+package com.morago_backend.config;
+
+import com.morago_backend.service.RateLimiterService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies {@link RateLimited} to controller methods. Runs before any other aspect, so throttled
+ * requests do no further work.
+ */
+@Aspect
+@Component
+@Order(0)
+public class RateLimitAspect {
+
+    private final RateLimiterService rateLimiterService;
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    public RateLimitAspect(RateLimiterService rateLimiterService) {
+        this.rateLimiterService = rateLimiterService;
+    }
+
+    @Around("@annotation(rateLimited)")
+    public Object handle(ProceedingJoinPoint joinPoint, RateLimited rateLimited) throws Throwable {
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        // The client address; behind a proxy it comes from X-Forwarded-For (server.forward-headers-strategy)
+        rateLimiterService.consume(rateLimited.route(), "ip:" + request.getRemoteAddr(),
+                rateLimited.capacity(), rateLimited.periodSeconds());
+
+        if (!rateLimited.phone().isEmpty()) {
+            String phone = evaluatePhone(joinPoint, rateLimited.phone());
+            if (phone != null && !phone.isBlank()) {
+                rateLimiterService.consume(rateLimited.route(), "phone:" + phone.trim(),
+                        rateLimited.capacity(), rateLimited.periodSeconds());
+            }
+        }
+        return joinPoint.proceed();
+    }
+
+    private String evaluatePhone(ProceedingJoinPoint joinPoint, String expression) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                joinPoint.getTarget(), signature.getMethod(), joinPoint.getArgs(), parameterNames);
+        Object value = expressions.computeIfAbsent(expression, parser::parseExpression).getValue(context);
+        return value == null ? null : value.toString();
+    }
+}
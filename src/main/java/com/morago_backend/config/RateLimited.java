@@ -0,0 +1,37 @@
+package com.morago_backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Throttles a controller method with token buckets per client IP and, when {@link #phone} is set,
+ * per phone number. Each bucket holds {@link #capacity} requests and refills completely over
+ * {@link #periodSeconds}; an empty bucket answers 429 with a {@code Retry-After} header.
+ * <p>
+ * Both limits can be overridden per route with {@code rate-limit.<route>.capacity} and
+ * {@code rate-limit.<route>.period-seconds}.
+ *
+ * @see RateLimitAspect
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    /**
+     * Route name; methods sharing a route share their buckets
+     */
+    String route();
+
+    int capacity();
+
+    long periodSeconds();
+
+    /**
+     * SpEL expression over the method parameters that yields the phone number, e.g. {@code #request.phone}
+     */
+    String phone() default "";
+}
@@ -0,0 +1,21 @@
+package com.morago_backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets a {@code @Transactional(readOnly = true)} service method read from a replica. Read-only
+ * transactions without this marker, including the implicit ones around Spring Data repository methods,
+ * stay on the primary, so reads that must see a just-committed write are never served stale data.
+ * Only mark methods that tolerate {@code datasource.replica.max-lag-seconds} of lag.
+ *
+ * @see ReplicaRoutingDataSource
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
@@ -0,0 +1,28 @@
+package com.morago_backend.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks the current thread as allowed to read from a replica for the duration of a {@link ReplicaRead}
+ * method. Runs outside the transaction interceptor, so the marker is set before any connection is fetched.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReplicaReadAspect {
+
+    @Around("@annotation(com.morago_backend.config.ReplicaRead)")
+    public Object markReplicaRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = ReplicaRoutingDataSource.enterReplicaRead();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRoutingDataSource.exitReplicaRead(previous);
+        }
+    }
+}
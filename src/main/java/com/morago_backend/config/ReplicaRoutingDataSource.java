@@ -0,0 +1,151 @@
+package com.morago_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions started by a {@link ReplicaRead} method to a healthy replica and
+ * everything else to the primary.
+ * <p>
+ * The read-only flag alone is not enough: Spring Data wraps every repository read in an implicit
+ * read-only transaction, including reads that must see a write this instance just committed (e.g.
+ * reloading a cache after an eviction). Those stay on the primary unless a {@link ReplicaRead} method
+ * is on the call stack.
+ * <p>
+ * Replicas are checked on a fixed delay: a replica is used only while it answers and its replication
+ * lag is within {@code maxLagSeconds}. When no replica is healthy, reads fall back to the primary.
+ * Must be wrapped in a {@code LazyConnectionDataSourceProxy} so the connection is fetched after the
+ * transaction's read-only flag is known.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final String PRIMARY = "primary";
+    private static final ThreadLocal<Boolean> REPLICA_READ = ThreadLocal.withInitial(() -> false);
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final List<String> replicaKeys;
+    private final long maxLagSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, long maxLagSeconds) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLagSeconds;
+
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            keys.add("replica-" + i);
+        }
+        this.replicaKeys = List.copyOf(keys);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(replicaKeys.get(i), replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        super.afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!REPLICA_READ.get() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        List<String> healthy = healthyReplicas;
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(nextReplica.getAndIncrement(), healthy.size()));
+    }
+
+    /**
+     * Allow replica reads on this thread; returns the previous state for {@link #exitReplicaRead}
+     */
+    static boolean enterReplicaRead() {
+        boolean previous = REPLICA_READ.get();
+        REPLICA_READ.set(true);
+        return previous;
+    }
+
+    static void exitReplicaRead(boolean previous) {
+        if (previous) {
+            REPLICA_READ.set(true);
+        } else {
+            REPLICA_READ.remove();
+        }
+    }
+
+    // ========== HEALTH CHECK ==========
+    @Scheduled(fixedDelayString = "${datasource.replica.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        List<String> healthy = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = replicaKeys.get(i);
+            Long lag = replicationLagSeconds(replicas.get(i), key);
+            if (lag != null && lag <= maxLagSeconds) {
+                healthy.add(key);
+            }
+        }
+        if (!healthy.equals(healthyReplicas)) {
+            if (healthy.isEmpty()) {
+                logger.warn("No healthy read replica; read-only transactions fall back to the primary");
+            } else {
+                logger.info("Healthy read replicas: {}", healthy);
+            }
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    /**
+     * Replication lag in seconds, 0 for a server that is not replicating (e.g. a local stand-in),
+     * or null when the replica is unreachable or its replication threads are stopped. Lag is only read
+     * from MySQL; any other database counts as up to date while it answers.
+     */
+    private Long replicationLagSeconds(HikariDataSource replica, String key) {
+        try (Connection connection = replica.getConnection()) {
+            if (!"MySQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return connection.isValid(2) ? 0L : null;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(2);
+                try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                    if (!rs.next()) return 0L;
+                    long lag = rs.getLong("Seconds_Behind_Source");
+                    return rs.wasNull() ? null : lag;
+                }
+            }
+        } catch (SQLException e) {
+            logger.warn("Read replica {} is unavailable: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        primary.close();
+        replicas.forEach(HikariDataSource::close);
+    }
+}
@@ -1,6 +1,7 @@
 package com.morago_backend.config;
 
-import com.morago_backend.entity.RoleConstants;
+import com.morago_backend.security.RoleMask;
+import com.morago_backend.security.RolePolicy;
 import com.morago_backend.service.RoleBasedAccessControlService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,24 +34,15 @@ public class RoleBasedAccessControlConfig {
         @Override
         public boolean hasPermission(org.springframework.security.core.Authentication authentication, 
                                    Object targetDomainObject, Object permission) {
-            if (authentication == null || !authentication.isAuthenticated()) {
-                return false;
-            }
-            
-            String role = authentication.getAuthorities().iterator().next().getAuthority();
+            int roleMask = RoleMask.of(authentication);
             String permissionStr = permission.toString();
             
-            // Define permission mappings based on roles
-            switch (role) {
-                case RoleConstants.ADMINISTRATOR:
-                    return true; // Administrators have all permissions
-                case RoleConstants.INTERPRETER:
-                    return isInterpreterPermission(permissionStr);
-                case RoleConstants.CLIENT:
-                    return isClientPermission(permissionStr);
-                default:
-                    return false;
+            // Define permission mappings based on roles; a user with several roles gets the union
+            if (RolePolicy.ADMINISTRATOR.allows(roleMask)) {
+                return true; // Administrators have all permissions
             }
+            return (RolePolicy.INTERPRETER.allows(roleMask) && isInterpreterPermission(permissionStr))
+                    || (RolePolicy.CLIENT.allows(roleMask) && isClientPermission(permissionStr));
         }
         
         @Override
@@ -0,0 +1,12 @@
+package com.morago_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} housekeeping jobs (e.g. sweeping expired idempotency keys)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,15 +1,11 @@
 package com.morago_backend.config;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.crypto.SecretKey;
-
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -17,17 +13,26 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import com.morago_backend.security.RoleMask;
+import com.morago_backend.security.RoleMaskAuthenticationToken;
+import com.morago_backend.security.RolePolicy;
+import com.morago_backend.service.JwtService;
+import com.morago_backend.service.TokenRevocationService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 
 @Configuration
 @EnableMethodSecurity
@@ -61,22 +66,24 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-resources/**", "/configuration/**", "/webjars/**", "/actuator/**","/h2-console/**").permitAll()
                         // Allow other public endpoints
                         .requestMatchers("/", "/api/auth/**", "/api/tokens/**", "/api/password-resets/**", "/webrtc-test.html", "/socket.io/**", "/actuator/**").permitAll()
-                        .requestMatchers("/api/admin/**").hasRole("ADMINISTRATOR")
-                        .requestMatchers("/api/roles/**").hasRole("ADMINISTRATOR")
+                        .requestMatchers("/api/admin/**").access(RolePolicy.ADMINISTRATOR)
+                        .requestMatchers("/api/roles/**").access(RolePolicy.ADMINISTRATOR)
                         // Allow authenticated users to access their own profile and change password
-                        .requestMatchers("/api/users/deposit").hasRole("CLIENT")
-                        .requestMatchers("/api/users/me", "/api/users/password", "/api/users/balance").hasAnyRole("CLIENT", "INTERPRETER", "ADMINISTRATOR")
-                        .requestMatchers("/api/users/all/**").hasRole("ADMINISTRATOR") // Only list/all endpoints are admin-only
+                        .requestMatchers("/api/users/deposit").access(RolePolicy.CLIENT)
+                        .requestMatchers("/api/users/me", "/api/users/password", "/api/users/balance").access(RolePolicy.ANY_ROLE)
+                        .requestMatchers("/api/users/all/**").access(RolePolicy.ADMINISTRATOR) // Only list/all endpoints are admin-only
                         .requestMatchers("/api/users/**").authenticated() // All other user endpoints accessible to authenticated users
-                        .requestMatchers("/api/translator-profiles/**").hasAnyRole("INTERPRETER", "ADMINISTRATOR")
-                        .requestMatchers("/api/calls/**").hasAnyRole("CLIENT", "INTERPRETER", "ADMINISTRATOR")
-                        .requestMatchers("/api/ratings/**").hasAnyRole("CLIENT", "INTERPRETER", "ADMINISTRATOR")
-                        .requestMatchers("/api/deposits/**", "/api/withdrawals/**").hasRole("ADMINISTRATOR")
-                        .requestMatchers("/api/categories/**", "/api/languages/**", "/api/themes/**").hasRole("ADMINISTRATOR")
-                        .requestMatchers("/api/files/**", "/api/file-resources/**").hasAnyRole("CLIENT", "INTERPRETER", "ADMINISTRATOR")
-                        .requestMatchers("/api/uploads/themes/**").hasRole("ADMINISTRATOR")
+                        .requestMatchers("/api/translator-profiles/**").access(RolePolicy.INTERPRETER_OR_ADMIN)
+                        .requestMatchers("/api/calls/**").access(RolePolicy.ANY_ROLE)
+                        .requestMatchers("/api/ratings/**").access(RolePolicy.ANY_ROLE)
+                        .requestMatchers("/api/deposits/**", "/api/withdrawals/**").access(RolePolicy.ADMINISTRATOR)
+                        .requestMatchers("/api/themes/suggest").access(RolePolicy.ANY_ROLE)
+                        .requestMatchers("/api/categories/**", "/api/languages/**", "/api/themes/**").access(RolePolicy.ADMINISTRATOR)
+                        .requestMatchers("/api/catalog/**").access(RolePolicy.ANY_ROLE)
+                        .requestMatchers("/api/files/**", "/api/file-resources/**").access(RolePolicy.ANY_ROLE)
+                        .requestMatchers("/api/uploads/themes/**").access(RolePolicy.ADMINISTRATOR)
                         .requestMatchers("/api/uploads/**").authenticated()
-                        .requestMatchers("/api/notifications/**").hasAnyRole("CLIENT", "INTERPRETER", "ADMINISTRATOR")
+                        .requestMatchers("/api/notifications/**").access(RolePolicy.ANY_ROLE)
                         .anyRequest().authenticated()
                 )
                 .userDetailsService(userDetailsService)
@@ -88,8 +95,13 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength,
+                                           @Value("${security.password.hash-threads:0}") int threads,
+                                           @Value("${security.password.hash-queue-capacity:64}") int queueCapacity,
+                                           MeterRegistry meterRegistry) {
+        // 0 threads means one per available core
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(strength, poolSize, queueCapacity, meterRegistry);
     }
 
     @Bean
@@ -98,45 +110,27 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtDecoder jwtDecoder(@Value("${jwt.secret}") String secretFromConfig) {
-        byte[] keyBytes = null;
-        // Try standard Base64
-        try {
-            keyBytes = Decoders.BASE64.decode(secretFromConfig);
-        } catch (Exception ignore) {
-            // Try URL-safe Base64 ("-" and "_" characters)
-            try {
-                keyBytes = io.jsonwebtoken.io.Decoders.BASE64URL.decode(secretFromConfig);
-            } catch (Exception ignoreToo) {
-                // Fallback to raw string bytes
-                keyBytes = secretFromConfig.getBytes(StandardCharsets.UTF_8);
-            }
-        }
-
-        // Ensure key is at least 256 bits for HS256
-        if (keyBytes.length < 32) {
-            try {
-                MessageDigest digest = MessageDigest.getInstance("SHA-256");
-                keyBytes = digest.digest(keyBytes);
-            } catch (NoSuchAlgorithmException e) {
-                throw new IllegalStateException("SHA-256 not available for JWT key derivation", e);
-            }
-        }
-
-        SecretKey key = Keys.hmacShaKeyFor(keyBytes);
-        return NimbusJwtDecoder.withSecretKey(key).build();
+    public JwtDecoder jwtDecoder(JwtService jwtService, TokenRevocationService tokenRevocationService) {
+        // Revoked access tokens are rejected from the in-memory revocation list, without a database read
+        OAuth2TokenValidator<Jwt> notRevoked = jwt -> tokenRevocationService.isRevoked(jwt.getId())
+                ? OAuth2TokenValidatorResult.failure(new OAuth2Error("invalid_token", "Token has been revoked", null))
+                : OAuth2TokenValidatorResult.success();
+        return jwtService.buildJwtDecoder(notRevoked);
     }
 
+    /**
+     * Builds the authentication from the verified token: Spring authorities plus the precompiled role
+     * mask used by {@link RolePolicy} in URL rules and {@code @rbac.has(...)} method checks
+     */
     @Bean
-    public JwtAuthenticationConverter customJwtAuthenticationConverter() {
-        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
-        converter.setJwtGrantedAuthoritiesConverter(jwt -> {
+    public Converter<Jwt, AbstractAuthenticationToken> customJwtAuthenticationConverter() {
+        return jwt -> {
             List<String> roles = jwt.getClaimAsStringList("roles");
             if (roles == null) roles = List.of();
-            return roles.stream()
+            List<GrantedAuthority> authorities = roles.stream()
                     .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
                     .collect(Collectors.toList());
-        });
-        return converter;
+            return new RoleMaskAuthenticationToken(jwt, authorities, RoleMask.ofNames(roles.toArray(String[]::new)));
+        };
     }
-}
\ No newline at end of file
+}
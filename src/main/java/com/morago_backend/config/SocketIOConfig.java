@@ -62,10 +62,16 @@ public class SocketIOConfig {
             }
             System.out.println("JWT received: " + token);
 
-            if (token == null || !isValidToken(token)) {
+            Jwt jwt = token == null ? null : decodeToken(token);
+            if (jwt == null) {
                 System.out.println("JWT invalid or missing. Disconnecting client.");
                 client.disconnect();
             } else {
+                // Per-user room for targeted events (notifications, call offers)
+                Object userId = jwt.getClaim("id");
+                if (userId != null) {
+                    client.joinRoom("user_" + userId);
+                }
                 System.out.println("JWT valid. Client connected.");
             }
         });
@@ -73,13 +79,12 @@ public class SocketIOConfig {
         return server;
     }
 
-    private boolean isValidToken(String token) {
+    private Jwt decodeToken(String token) {
         try {
-            Jwt jwt = jwtDecoder.decode(token);
-            return true;
+            return jwtDecoder.decode(token);
         } catch (JwtException e) {
             System.out.println("JWT decode failed: " + e.getMessage());
-            return false;
+            return null;
         }
     }
 }
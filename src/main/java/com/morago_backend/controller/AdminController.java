@@ -23,7 +23,7 @@ import java.net.URI;
 
 @RestController
 @RequestMapping("/api/admin")
-@PreAuthorize("hasRole('ADMINISTRATOR')")
+@PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "Admin Management - ADMIN", description = "Admin-only endpoints")
 public class AdminController {
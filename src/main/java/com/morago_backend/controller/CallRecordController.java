@@ -1,7 +1,12 @@
 package com.morago_backend.controller;
 
+import com.morago_backend.config.CurrentUser;
+import com.morago_backend.config.Idempotent;
+import com.morago_backend.dto.dtoRequest.CallDispatchRequestDTO;
 import com.morago_backend.dto.dtoRequest.CallRecordRequestDTO;
+import com.morago_backend.dto.dtoResponse.CallDispatchResponseDTO;
 import com.morago_backend.dto.dtoResponse.CallRecordResponseDTO;
+import com.morago_backend.service.CallDispatchService;
 import com.morago_backend.service.CallRecordService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -11,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
@@ -24,6 +30,7 @@ import java.util.List;
 public class CallRecordController {
 
     private final CallRecordService callRecordService;
+    private final CallDispatchService callDispatchService;
     private static final Logger logger = LoggerFactory.getLogger(CallRecordController.class);
 
     // ========== GET ALL CALL RECORDS ==========
@@ -68,7 +75,9 @@ public class CallRecordController {
     }
 
     // ========== UPDATE CALL RECORD ==========
-    @Operation(summary = "Update call record by ID")
+    @Operation(summary = "Update call record by ID",
+            description = "Send an Idempotency-Key header to make retries safe; a repeated key returns the first response.")
+    @Idempotent
     @PutMapping("/{id}")
     public ResponseEntity<CallRecordResponseDTO> update(@PathVariable Long id,
                                                         @Valid @RequestBody CallRecordRequestDTO dto) {
@@ -94,4 +103,30 @@ public class CallRecordController {
             throw e;
         }
     }
+
+    // ========== DISPATCH ==========
+    @Operation(summary = "Request a call with the best available translator",
+            description = "Offers the call to available translators for the theme and language over Socket.IO. " +
+                    "The caller is notified with \"callMatched\" or \"callDispatchFailed\".")
+    @PostMapping("/dispatch")
+    @PreAuthorize("@rbac.has(authentication, 'CLIENT')")
+    public ResponseEntity<CallDispatchResponseDTO> dispatch(@Valid @RequestBody CallDispatchRequestDTO dto, CurrentUser currentUser) {
+        CallDispatchResponseDTO response = callDispatchService.dispatch(currentUser, dto);
+        return ResponseEntity.accepted().body(response);
+    }
+
+    @Operation(summary = "Accept a call offer; only the first translator to accept gets the call (409 otherwise)")
+    @PostMapping("/{id}/accept")
+    @PreAuthorize("@rbac.has(authentication, 'INTERPRETER')")
+    public ResponseEntity<CallDispatchResponseDTO> accept(@PathVariable Long id, CurrentUser currentUser) {
+        return ResponseEntity.ok(callDispatchService.accept(id, currentUser));
+    }
+
+    @Operation(summary = "Decline a call offer")
+    @PostMapping("/{id}/decline")
+    @PreAuthorize("@rbac.has(authentication, 'INTERPRETER')")
+    public ResponseEntity<Void> decline(@PathVariable Long id, CurrentUser currentUser) {
+        callDispatchService.decline(id, currentUser);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,75 @@
+package com.morago_backend.controller;
+
+import com.morago_backend.config.HttpCacheSupport;
+import com.morago_backend.dto.dtoResponse.CatalogBundleDTO;
+import com.morago_backend.service.CatalogBundleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/catalog")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Catalog", description = "Read-only catalog for app startup")
+public class CatalogController {
+
+    private final CatalogBundleService bundleService;
+    private final HttpCacheSupport httpCache;
+    private static final Logger logger = LoggerFactory.getLogger(CatalogController.class);
+
+    public CatalogController(CatalogBundleService bundleService, HttpCacheSupport httpCache) {
+        this.bundleService = bundleService;
+        this.httpCache = httpCache;
+    }
+
+    // ========== BUNDLE ==========
+    @Operation(summary = "Get the active categories, themes and languages in one response",
+            description = "Served gzip-encoded when the client accepts it; supports If-None-Match",
+            responses = @ApiResponse(responseCode = "200",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CatalogBundleDTO.class))))
+    @GetMapping("/bundle")
+    public ResponseEntity<byte[]> getBundle(WebRequest request) {
+        try {
+            CatalogBundleService.Bundle bundle = bundleService.current();
+            boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+            if (gzip) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            // Each encoding is a different representation, so it gets its own strong ETag
+            String etag = gzip ? bundle.etag() + "-gzip" : bundle.etag();
+            return httpCache.respond(request, "catalog-bundle", etag, headers, () -> gzip ? bundle.gzip() : bundle.json());
+        } catch (Exception e) {
+            logger.error("Error serving catalog bundle: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) continue;
+            // "gzip;q=0" means the client refuses gzip
+            return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+        }
+        return false;
+    }
+}
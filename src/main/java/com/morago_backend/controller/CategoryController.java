@@ -1,9 +1,11 @@
 package com.morago_backend.controller;
 
+import com.morago_backend.config.HttpCacheSupport;
 import com.morago_backend.dto.dtoRequest.CategoryRequestDTO;
 import com.morago_backend.dto.dtoRequest.FilterRequest;
 import com.morago_backend.dto.dtoRequest.PaginationRequest;
 import com.morago_backend.dto.dtoResponse.CategoryResponseDTO;
+import com.morago_backend.service.CatalogCache;
 import com.morago_backend.service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -16,19 +18,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/categories")
-@PreAuthorize("hasRole('ADMINISTRATOR')")
+@PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "Category Management - ADMIN", description = "APIs for managing categories")
 @RequiredArgsConstructor
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final HttpCacheSupport httpCache;
     private static final Logger logger = LoggerFactory.getLogger(CategoryController.class);
 
     // ========== GET ALL WITH FILTER & PAGINATION ==========
@@ -49,10 +53,11 @@ public class CategoryController {
     // ========== GET ALL WITHOUT PAGINATION ==========
     @Operation(summary = "Get all categories (no pagination)")
     @GetMapping("/all")
-    public ResponseEntity<List<CategoryResponseDTO>> getAllLegacy() {
+    public ResponseEntity<List<CategoryResponseDTO>> getAllLegacy(WebRequest request) {
         try {
             logger.info("Fetching all categories (legacy endpoint)");
-            return ResponseEntity.ok(categoryService.findAllDTO());
+            CatalogCache.Tagged<List<CategoryResponseDTO>> categories = categoryService.findAllTagged();
+            return httpCache.respond(request, "categories", categories.etag(), categories::value);
         } catch (Exception e) {
             logger.error("Error fetching all categories (legacy): {}", e.getMessage());
             throw e;
@@ -62,12 +67,12 @@ public class CategoryController {
     // ========== GET BY ID ==========
     @Operation(summary = "Get category by ID")
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryResponseDTO> getById(@PathVariable Long id) {
+    public ResponseEntity<CategoryResponseDTO> getById(@PathVariable Long id, WebRequest request) {
         try {
             logger.info("Fetching category by id={}", id);
-            CategoryResponseDTO dto = categoryService.findByIdDTO(id)
+            CatalogCache.Tagged<CategoryResponseDTO> category = categoryService.findByIdTagged(id)
                     .orElseThrow(() -> new com.morago_backend.exception.ResourceNotFoundException("Category not found with id " + id));
-            return ResponseEntity.ok(dto);
+            return httpCache.respond(request, "categories", category.etag(), category::value);
         } catch (Exception e) {
             logger.error("Error fetching category id={}: {}", id, e.getMessage());
             throw e;
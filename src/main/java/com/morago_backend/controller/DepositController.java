@@ -1,6 +1,9 @@
 package com.morago_backend.controller;
 
+import com.morago_backend.config.Idempotent;
+import com.morago_backend.dto.dtoRequest.DepositBulkApprovalRequestDTO;
 import com.morago_backend.dto.dtoRequest.DepositRequestDTO;
+import com.morago_backend.dto.dtoResponse.DepositBulkApprovalResponseDTO;
 import com.morago_backend.dto.dtoResponse.DepositResponseDTO;
 import com.morago_backend.service.DepositService;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,7 +22,7 @@ import java.util.List;
 
 @RestController
 @RequestMapping("/api/deposits")
-@PreAuthorize("hasRole('ADMINISTRATOR')")
+@PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "Deposit Management - ADMIN")
 public class DepositController {
@@ -58,7 +61,9 @@ public class DepositController {
     }
 
     // ========== CREATE NEW DEPOSIT ==========
-    @Operation(summary = "Create new deposit")
+    @Operation(summary = "Create new deposit",
+            description = "Send an Idempotency-Key header to make retries safe; a repeated key returns the first response.")
+    @Idempotent
     @PostMapping
     public ResponseEntity<DepositResponseDTO> create(@Valid @RequestBody DepositRequestDTO dto) {
         try {
@@ -85,6 +90,20 @@ public class DepositController {
         }
     }
 
+    // ========== BULK APPROVE DEPOSITS ==========
+    @Operation(summary = "Approve several deposits at once",
+            description = "Approves and credits all eligible deposits in one database transaction. Each ID gets its own result.")
+    @PostMapping("/bulk-approve")
+    public ResponseEntity<DepositBulkApprovalResponseDTO> bulkApprove(@Valid @RequestBody DepositBulkApprovalRequestDTO dto) {
+        try {
+            logger.info("POST /api/deposits/bulk-approve called with {} ids", dto.getDepositIds().size());
+            return ResponseEntity.ok(depositService.bulkApprove(dto.getDepositIds()));
+        } catch (Exception e) {
+            logger.error("Error bulk approving deposits: {}", e.getMessage());
+            throw e;
+        }
+    }
+
     // ========== DELETE DEPOSIT ==========
     @Operation(summary = "Delete deposit by ID")
     @DeleteMapping("/{id}")
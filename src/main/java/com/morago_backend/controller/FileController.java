@@ -34,7 +34,7 @@ public class FileController {
     // ========== GET ALL FILES ==========
     @Operation(summary = "Get all files")
     @GetMapping
-    @PreAuthorize("hasAnyRole('ADMINISTRATOR','CLIENT')")
+    @PreAuthorize("@rbac.has(authentication, 'CLIENT_OR_ADMIN')")
     public ResponseEntity<List<FileResponseDTO>> getAll() {
         try {
             logger.info("Fetching all files");
@@ -48,7 +48,7 @@ public class FileController {
     // ========== GET FILE BY ID ==========
     @Operation(summary = "Get file by ID")
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMINISTRATOR','CLIENT')")
+    @PreAuthorize("@rbac.has(authentication, 'CLIENT_OR_ADMIN')")
     public ResponseEntity<FileResponseDTO> getById(@PathVariable Long id) {
         try {
             logger.info("Fetching file by id={}", id);
@@ -64,7 +64,7 @@ public class FileController {
     // ========== CREATE NEW FILE ==========
     @Operation(summary = "Create a new file")
     @PostMapping(consumes = {"multipart/form-data"})
-    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
     public ResponseEntity<FileResponseDTO> create(
             @Valid @ModelAttribute FileRequestDTO dto,
             @RequestPart(required = false) MultipartFile file) {
@@ -85,7 +85,7 @@ public class FileController {
     // ========== UPDATE FILE ==========
     @Operation(summary = "Update a file")
     @PutMapping(value = "/{id}", consumes = {"multipart/form-data"})
-    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
     public ResponseEntity<FileResponseDTO> update(
             @PathVariable Long id,
             @Valid @ModelAttribute FileRequestDTO dto,
@@ -106,7 +106,7 @@ public class FileController {
     // ========== DELETE FILE ==========
     @Operation(summary = "Delete a file")
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         try {
             logger.info("Deleting file id={}", id);
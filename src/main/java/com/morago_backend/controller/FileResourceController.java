@@ -20,7 +20,7 @@ import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/file-resources")
-@PreAuthorize("hasAnyRole('CLIENT','INTERPRETER','ADMINISTRATOR')")
+@PreAuthorize("@rbac.has(authentication, 'ANY_ROLE')")
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "File Resource Management - All roles")
 public class FileResourceController {
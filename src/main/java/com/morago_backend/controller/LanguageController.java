@@ -1,10 +1,12 @@
 package com.morago_backend.controller;
 
+import com.morago_backend.config.HttpCacheSupport;
 import com.morago_backend.dto.dtoRequest.FilterRequest;
 import com.morago_backend.dto.dtoRequest.PaginationRequest;
 import com.morago_backend.dto.dtoRequest.LanguageRequestDTO;
 import com.morago_backend.dto.dtoResponse.LanguageResponseDTO;
 import com.morago_backend.dto.dtoResponse.PagedResponse;
+import com.morago_backend.service.CatalogCache;
 import com.morago_backend.service.LanguageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -15,21 +17,24 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/languages")
-@PreAuthorize("hasRole('ADMINISTRATOR')")
+@PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "Language Management - ADMIN")
 public class LanguageController {
 
     private final LanguageService service;
+    private final HttpCacheSupport httpCache;
     private static final Logger logger = LoggerFactory.getLogger(LanguageController.class);
 
-    public LanguageController(LanguageService service) {
+    public LanguageController(LanguageService service, HttpCacheSupport httpCache) {
         this.service = service;
+        this.httpCache = httpCache;
     }
 
     // ================= GET ALL LANGUAGES WITH PAGINATION =================
@@ -52,11 +57,11 @@ public class LanguageController {
     // ================= GET ALL LANGUAGES WITHOUT PAGINATION =================
     @Operation(summary = "Get all languages (legacy endpoint without pagination)")
     @GetMapping("/all")
-    public ResponseEntity<List<LanguageResponseDTO>> getAllLegacy() {
+    public ResponseEntity<List<LanguageResponseDTO>> getAllLegacy(WebRequest request) {
         try {
             logger.info("Fetching all languages (legacy endpoint)");
-            List<LanguageResponseDTO> list = service.findAll();
-            return ResponseEntity.ok(list);
+            CatalogCache.Tagged<List<LanguageResponseDTO>> languages = service.findAllTagged();
+            return httpCache.respond(request, "languages", languages.etag(), languages::value);
         } catch (Exception e) {
             logger.error("Error fetching all languages: {}", e.getMessage());
             throw e;
@@ -66,11 +71,11 @@ public class LanguageController {
     // ================= GET LANGUAGE BY ID =================
     @Operation(summary = "Get language by ID")
     @GetMapping("/{id}")
-    public ResponseEntity<LanguageResponseDTO> getById(@PathVariable Long id) {
+    public ResponseEntity<LanguageResponseDTO> getById(@PathVariable Long id, WebRequest request) {
         try {
             logger.info("Fetching language by id={}", id);
-            LanguageResponseDTO dto = service.findById(id);
-            return ResponseEntity.ok(dto);
+            CatalogCache.Tagged<LanguageResponseDTO> language = service.findByIdTagged(id);
+            return httpCache.respond(request, "languages", language.etag(), language::value);
         } catch (Exception e) {
             logger.error("Error fetching language id={}: {}", id, e.getMessage());
             throw e;
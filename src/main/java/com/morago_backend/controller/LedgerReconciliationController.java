@@ -0,0 +1,91 @@
+package com.morago_backend.controller;
+
+import com.morago_backend.dto.dtoResponse.LedgerReconciliationIssueResponseDTO;
+import com.morago_backend.dto.dtoResponse.LedgerReconciliationRunResponseDTO;
+import com.morago_backend.dto.dtoResponse.PagedResponse;
+import com.morago_backend.service.LedgerReconciliationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/ledger-reconciliations")
+@PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Ledger Reconciliation - ADMIN", description = "Checks user balances against the transaction ledger")
+public class LedgerReconciliationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerReconciliationController.class);
+    private final LedgerReconciliationService reconciliationService;
+
+    public LedgerReconciliationController(LedgerReconciliationService reconciliationService) {
+        this.reconciliationService = reconciliationService;
+    }
+
+    // ========== START RUN ==========
+    @Operation(summary = "Start a ledger reconciliation run",
+            description = "Runs in the background; poll the returned run for progress. Only one run can be active at a time.")
+    @PostMapping
+    public ResponseEntity<LedgerReconciliationRunResponseDTO> start() {
+        try {
+            logger.info("POST /api/admin/ledger-reconciliations called");
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(reconciliationService.startRun());
+        } catch (Exception e) {
+            logger.error("Error starting ledger reconciliation: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    // ========== GET ALL RUNS ==========
+    @Operation(summary = "Get all ledger reconciliation runs, newest first")
+    @GetMapping
+    public ResponseEntity<List<LedgerReconciliationRunResponseDTO>> getAll() {
+        try {
+            logger.info("GET /api/admin/ledger-reconciliations called");
+            return ResponseEntity.ok(reconciliationService.findAll());
+        } catch (Exception e) {
+            logger.error("Error fetching ledger reconciliation runs: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    // ========== GET RUN BY ID ==========
+    @Operation(summary = "Get ledger reconciliation run by ID")
+    @GetMapping("/{id}")
+    public ResponseEntity<LedgerReconciliationRunResponseDTO> getById(@PathVariable Long id) {
+        try {
+            logger.info("GET /api/admin/ledger-reconciliations/{} called", id);
+            return ResponseEntity.ok(reconciliationService.findById(id));
+        } catch (Exception e) {
+            logger.error("Error fetching ledger reconciliation run id={}: {}", id, e.getMessage());
+            throw e;
+        }
+    }
+
+    // ========== GET RUN ISSUES ==========
+    @Operation(summary = "Get the issues reported by a run")
+    @GetMapping("/{id}/issues")
+    public ResponseEntity<PagedResponse<LedgerReconciliationIssueResponseDTO>> getIssues(
+            @PathVariable Long id,
+            @Parameter(description = "MISSING_BALANCE, ARITHMETIC_MISMATCH, CHAIN_BREAK or BALANCE_MISMATCH")
+            @RequestParam(required = false) String issueType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            logger.info("GET /api/admin/ledger-reconciliations/{}/issues called with type={}, page={}, size={}", id, issueType, page, size);
+            return ResponseEntity.ok(reconciliationService.findIssues(id, issueType, page, size));
+        } catch (Exception e) {
+            logger.error("Error fetching issues of ledger reconciliation run id={}: {}", id, e.getMessage());
+            throw e;
+        }
+    }
+}
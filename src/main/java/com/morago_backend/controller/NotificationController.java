@@ -20,7 +20,7 @@ import java.util.List;
 
 @RestController
 @RequestMapping("/api/notifications")
-@PreAuthorize("hasAnyRole('CLIENT','INTERPRETER','ADMINISTRATOR')")
+@PreAuthorize("@rbac.has(authentication, 'ANY_ROLE')")
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "Notification Management - All roles", description = "APIs for managing notifications")
 public class NotificationController {
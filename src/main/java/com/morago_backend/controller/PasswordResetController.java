@@ -1,6 +1,8 @@
 package com.morago_backend.controller;
 
+import com.morago_backend.config.RateLimited;
 import com.morago_backend.dto.dtoResponse.PasswordResetResponseDTO;
+import com.morago_backend.exception.TooManyRequestsException;
 import com.morago_backend.service.PasswordResetService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -22,12 +24,15 @@ public class PasswordResetController {
     }
 
     // ========== REQUEST RESET ==========
-    @Operation(summary = "Request password reset (secure 4-digit code generated)")
+    @Operation(summary = "Request password reset (4-digit code sent by SMS, not returned)")
+    @RateLimited(route = "password-reset-request", capacity = 3, periodSeconds = 900, phone = "#phone")
     @PostMapping("/request")
     public ResponseEntity<PasswordResetResponseDTO> requestReset(@RequestParam String phone) {
         try {
             PasswordResetResponseDTO dto = service.create(phone);
             return ResponseEntity.status(201).body(dto);
+        } catch (TooManyRequestsException ex) {
+            throw ex;
         } catch (Exception ex) {
             logger.error("Error requesting password reset for phone={}: {}", phone, ex.getMessage(), ex);
             return ResponseEntity.status(500).build();
@@ -36,12 +41,15 @@ public class PasswordResetController {
 
     // ========== VERIFY RESET CODE ==========
     @Operation(summary = "Verify password reset code")
+    @RateLimited(route = "password-reset-verify", capacity = 5, periodSeconds = 900, phone = "#phone")
     @PostMapping("/verify")
     public ResponseEntity<PasswordResetResponseDTO> verifyCode(@RequestParam String phone,
                                                                @RequestParam Integer code) {
         try {
             PasswordResetResponseDTO dto = service.verifyCode(phone, code);
             return ResponseEntity.ok(dto);
+        } catch (TooManyRequestsException ex) {
+            throw ex;
         } catch (Exception ex) {
             logger.error("Error verifying reset code for phone={}: {}", phone, ex.getMessage(), ex);
             return ResponseEntity.status(500).build();
@@ -50,6 +58,7 @@ public class PasswordResetController {
 
     // ========== UPDATE PASSWORD ==========
     @Operation(summary = "Update password after code verification (requires verification token)")
+    @RateLimited(route = "password-reset-update", capacity = 5, periodSeconds = 900, phone = "#phone")
     @PostMapping("/update-password")
     public ResponseEntity<PasswordResetResponseDTO> updatePassword(
             @RequestParam String phone,
@@ -70,6 +79,8 @@ public class PasswordResetController {
             // Return 200 OK with DTO
             return ResponseEntity.ok(dto);
 
+        } catch (TooManyRequestsException ex) {
+            throw ex;
         } catch (Exception ex) {
             // Log full stack trace for debugging
             logger.error("Error updating password for phone={}: {}", phone, ex.getMessage(), ex);
@@ -0,0 +1,103 @@
+package com.morago_backend.controller;
+
+import com.morago_backend.dto.dtoRequest.PayoutRunRequestDTO;
+import com.morago_backend.dto.dtoResponse.PayoutRunResponseDTO;
+import com.morago_backend.service.PayoutRunService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/withdrawals/payout-runs")
+@PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Withdrawal Payout Runs - ADMIN", description = "APIs for paying out pending withdrawals in bulk")
+public class PayoutRunController {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayoutRunController.class);
+    private final PayoutRunService payoutRunService;
+
+    public PayoutRunController(PayoutRunService payoutRunService) {
+        this.payoutRunService = payoutRunService;
+    }
+
+    // ========== START PAYOUT RUN ==========
+    @Operation(summary = "Start a payout run",
+            description = "Pays out every pending withdrawal created up to the cutoff. Repeating the call with the same cutoff returns the same run.")
+    @PostMapping
+    public ResponseEntity<PayoutRunResponseDTO> start(@Valid @RequestBody PayoutRunRequestDTO dto) {
+        try {
+            logger.info("POST /api/withdrawals/payout-runs called with cutoff={}", dto.getCutoff());
+            return ResponseEntity.ok(payoutRunService.startRun(dto.getCutoff()));
+        } catch (Exception e) {
+            logger.error("Error starting payout run: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    // ========== RESUME PAYOUT RUN ==========
+    @Operation(summary = "Resume an interrupted payout run")
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<PayoutRunResponseDTO> resume(@PathVariable Long id) {
+        try {
+            logger.info("POST /api/withdrawals/payout-runs/{}/resume called", id);
+            return ResponseEntity.ok(payoutRunService.resumeRun(id));
+        } catch (Exception e) {
+            logger.error("Error resuming payout run id={}: {}", id, e.getMessage());
+            throw e;
+        }
+    }
+
+    // ========== GET ALL PAYOUT RUNS ==========
+    @Operation(summary = "Get all payout runs, newest first")
+    @GetMapping
+    public ResponseEntity<List<PayoutRunResponseDTO>> getAll() {
+        try {
+            logger.info("GET /api/withdrawals/payout-runs called");
+            return ResponseEntity.ok(payoutRunService.findAll());
+        } catch (Exception e) {
+            logger.error("Error fetching payout runs: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    // ========== GET PAYOUT RUN BY ID ==========
+    @Operation(summary = "Get payout run by ID")
+    @GetMapping("/{id}")
+    public ResponseEntity<PayoutRunResponseDTO> getById(@PathVariable Long id) {
+        try {
+            logger.info("GET /api/withdrawals/payout-runs/{} called", id);
+            return ResponseEntity.ok(payoutRunService.findById(id));
+        } catch (Exception e) {
+            logger.error("Error fetching payout run id={}: {}", id, e.getMessage());
+            throw e;
+        }
+    }
+
+    // ========== DOWNLOAD PAYOUT FILE ==========
+    @Operation(summary = "Download the bank payout file (CSV) of a completed run")
+    @GetMapping("/{id}/file")
+    public ResponseEntity<byte[]> downloadFile(@PathVariable Long id) {
+        try {
+            logger.info("GET /api/withdrawals/payout-runs/{}/file called", id);
+            byte[] file = payoutRunService.buildPayoutFile(id);
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"payout-run-" + id + ".csv\"")
+                    .body(file);
+        } catch (Exception e) {
+            logger.error("Error building payout file for run id={}: {}", id, e.getMessage());
+            throw e;
+        }
+    }
+}
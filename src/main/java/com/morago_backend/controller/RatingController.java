@@ -18,7 +18,7 @@ import java.util.List;
 
 @RestController
 @RequestMapping("/api/ratings")
-@PreAuthorize("hasRole('ADMINISTRATOR')")
+@PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "Rating Management - ADMIN")
 public class RatingController {
@@ -1,9 +1,12 @@
 package com.morago_backend.controller;
 
+import com.morago_backend.config.HttpCacheSupport;
 import com.morago_backend.dto.dtoRequest.ThemeRequestDTO;
 import com.morago_backend.dto.dtoResponse.ThemeResponseDTO;
 import com.morago_backend.exception.ResourceNotFoundException;
+import com.morago_backend.service.CatalogCache;
 import com.morago_backend.service.ThemeService;
+import com.morago_backend.service.ThemeSuggestIndex;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -20,40 +24,58 @@ import java.util.List;
 
 @RestController
 @RequestMapping("/api/themes")
-@PreAuthorize("hasRole('ADMINISTRATOR')")
+@PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "Theme Management - ADMIN")
 public class ThemeController {
 
     private final ThemeService service;
+    private final HttpCacheSupport httpCache;
+    private final ThemeSuggestIndex suggestIndex;
     private static final Logger logger = LoggerFactory.getLogger(ThemeController.class);
+    private static final int MAX_SUGGESTIONS = 50;
 
-    public ThemeController(ThemeService service) {
+    public ThemeController(ThemeService service, HttpCacheSupport httpCache, ThemeSuggestIndex suggestIndex) {
         this.service = service;
+        this.httpCache = httpCache;
+        this.suggestIndex = suggestIndex;
     }
 
     // ========== GET ALL THEMES ==========
     @Operation(summary = "Get all themes")
     @GetMapping
-    public ResponseEntity<List<ThemeResponseDTO>> getAll() {
+    public ResponseEntity<List<ThemeResponseDTO>> getAll(WebRequest request) {
         try {
             logger.info("Fetching all themes");
-            List<ThemeResponseDTO> list = service.findAll();
-            return ResponseEntity.ok(list);
+            CatalogCache.Tagged<List<ThemeResponseDTO>> themes = service.findAllTagged();
+            return httpCache.respond(request, "themes", themes.etag(), themes::value);
         } catch (Exception ex) {
             logger.error("Error fetching all themes: {}", ex.getMessage(), ex);
             return ResponseEntity.status(500).build();
         }
     }
 
+    // ========== SUGGEST THEMES ==========
+    @Operation(summary = "Autocomplete active themes by name or Korean title",
+            description = "Matches word and syllable prefixes; partially typed Hangul syllables match too")
+    @GetMapping("/suggest")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<ThemeResponseDTO>> suggest(@RequestParam("q") String query,
+                                                          @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        return ResponseEntity.ok(suggestIndex.suggest(query, limit));
+    }
+
     // ========== GET THEME BY ID ==========
     @Operation(summary = "Get theme by ID")
     @GetMapping("/{id}")
-    public ResponseEntity<ThemeResponseDTO> getById(@PathVariable Long id) {
+    public ResponseEntity<ThemeResponseDTO> getById(@PathVariable Long id, WebRequest request) {
         try {
             logger.info("Fetching theme by id={}", id);
-            ThemeResponseDTO dto = service.findById(id); // langsung panggil
-            return ResponseEntity.ok(dto);
+            CatalogCache.Tagged<ThemeResponseDTO> theme = service.findByIdTagged(id);
+            return httpCache.respond(request, "themes", theme.etag(), theme::value);
         } catch (ResourceNotFoundException ex) {
             throw ex;
         } catch (Exception ex) {
@@ -1,10 +1,9 @@
 package com.morago_backend.controller;
 
+import com.morago_backend.config.CurrentUser;
 import com.morago_backend.dto.dtoRequest.TransactionFilterRequest;
 import com.morago_backend.dto.dtoResponse.TransactionResponse;
 import com.morago_backend.entity.TransactionType;
-import com.morago_backend.entity.User;
-import com.morago_backend.repository.UserRepository;
 import com.morago_backend.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,7 +13,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
@@ -27,7 +25,6 @@ import java.math.BigDecimal;
 public class TransactionController {
 
     private final TransactionService transactionService;
-    private final UserRepository userRepository;
 
     @GetMapping("/my-transactions")
     @PreAuthorize("isAuthenticated()")
@@ -36,10 +33,11 @@ public class TransactionController {
             description = "Retrieve paginated list of transactions for the authenticated user"
     )
     public ResponseEntity<Page<TransactionResponse>> getMyTransactions(
+            CurrentUser currentUser,
             @Parameter(description = "Page number (0-indexed)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "20") int size
     ) {
-        Long userId = getCurrentUserId();
+        Long userId = currentUser.getId();
         Page<TransactionResponse> transactions = transactionService.getUserTransactions(userId, page, size);
         return ResponseEntity.ok(transactions);
     }
@@ -51,9 +49,10 @@ public class TransactionController {
             description = "Get filtered transactions based on type, status, or date range"
     )
     public ResponseEntity<Page<TransactionResponse>> getFilteredTransactions(
+            CurrentUser currentUser,
             @RequestBody TransactionFilterRequest filter
     ) {
-        Long userId = getCurrentUserId();
+        Long userId = currentUser.getId();
         Page<TransactionResponse> transactions = transactionService.getFilteredTransactions(userId, filter);
         return ResponseEntity.ok(transactions);
     }
@@ -72,7 +71,7 @@ public class TransactionController {
     }
 
     @GetMapping("/user/{userId}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
     @Operation(
             summary = "Get user transactions (Admin only)",
             description = "Retrieve paginated list of transactions for a specific user"
@@ -87,7 +86,7 @@ public class TransactionController {
     }
 
     @PostMapping("/user/{userId}/filter")
-    @PreAuthorize("hasRole('ADMIN')")
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
     @Operation(
             summary = "Filter user transactions (Admin only)",
             description = "Get filtered transactions for a specific user"
@@ -107,9 +106,10 @@ public class TransactionController {
             description = "Calculate total amount for a specific transaction type"
     )
     public ResponseEntity<BigDecimal> getTotalByType(
+            CurrentUser currentUser,
             @PathVariable TransactionType type
     ) {
-        Long userId = getCurrentUserId();
+        Long userId = currentUser.getId();
         BigDecimal total = transactionService.getTotalByType(userId, type);
         return ResponseEntity.ok(total);
     }
@@ -120,20 +120,10 @@ public class TransactionController {
             summary = "Get transaction count",
             description = "Get total number of transactions for the authenticated user"
     )
-    public ResponseEntity<Long> getTransactionCount() {
-        Long userId = getCurrentUserId();
+    public ResponseEntity<Long> getTransactionCount(CurrentUser currentUser) {
+        Long userId = currentUser.getId();
         long count = transactionService.getTransactionCount(userId);
         return ResponseEntity.ok(count);
     }
-
-    /**
-     * Helper method to get current authenticated user ID
-     */
-    private Long getCurrentUserId() {
-        String phone = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByPhone(phone)
-                .orElseThrow(() -> new RuntimeException("Current user not found"));
-        return user.getId();
-    }
 }
 
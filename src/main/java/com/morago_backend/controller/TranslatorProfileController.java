@@ -1,11 +1,14 @@
 package com.morago_backend.controller;
 
+import com.morago_backend.config.CurrentUser;
+import com.morago_backend.config.HttpCacheSupport;
 import com.morago_backend.dto.dtoRequest.FilterRequest;
 import com.morago_backend.dto.dtoRequest.PaginationRequest;
 import com.morago_backend.dto.dtoRequest.TranslatorProfileRequestDTO;
 import com.morago_backend.dto.dtoResponse.PagedResponse;
 import com.morago_backend.dto.dtoResponse.TranslatorProfileResponseDTO;
 import com.morago_backend.exception.ResourceNotFoundException;
+import com.morago_backend.service.TranslatorAvailabilityIndex;
 import com.morago_backend.service.TranslatorProfileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,32 +19,36 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/translator-profiles")
-@PreAuthorize("hasAnyRole('INTERPRETER','ADMINISTRATOR')")
+@PreAuthorize("@rbac.has(authentication, 'INTERPRETER_OR_ADMIN')")
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "Translator Profile Management", description = "APIs for managing translator profiles")
 public class TranslatorProfileController {
 
     private final TranslatorProfileService service;
+    private final TranslatorAvailabilityIndex availabilityIndex;
+    private final HttpCacheSupport httpCache;
     private static final Logger logger = LoggerFactory.getLogger(TranslatorProfileController.class);
 
-    public TranslatorProfileController(TranslatorProfileService service) {
+    public TranslatorProfileController(TranslatorProfileService service,
+                                       TranslatorAvailabilityIndex availabilityIndex,
+                                       HttpCacheSupport httpCache) {
         this.service = service;
+        this.availabilityIndex = availabilityIndex;
+        this.httpCache = httpCache;
     }
 
     // ========== GET ALL WITH FILTER AND PAGINATION ==========
     @Operation(summary = "Get all translator profiles with pagination and filtering")
     @GetMapping
-    @PreAuthorize("hasRole('ADMINISTRATOR')") // Only admin can see all profiles
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')") // Only admin can see all profiles
     public ResponseEntity<PagedResponse<TranslatorProfileResponseDTO>> getAll(
             @Parameter(description = "Pagination parameters") @Valid PaginationRequest pagination,
             @Parameter(description = "Filter parameters") FilterRequest filter) {
@@ -59,7 +66,7 @@ public class TranslatorProfileController {
     // ========== GET ALL LEGACY ==========
     @Operation(summary = "Get all translator profiles (legacy endpoint without pagination)")
     @GetMapping("/all")
-    @PreAuthorize("hasRole('ADMINISTRATOR')") // Only admin can see all profiles
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')") // Only admin can see all profiles
     public ResponseEntity<List<TranslatorProfileResponseDTO>> getAllLegacy() {
         try {
             logger.info("Fetching all translator profiles (legacy endpoint)");
@@ -71,33 +78,26 @@ public class TranslatorProfileController {
         }
     }
 
+    // ========== AVAILABLE ==========
+    @Operation(summary = "IDs of verified translator profiles that are online and available, optionally by theme and language")
+    @GetMapping("/available")
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
+    public ResponseEntity<List<Long>> getAvailable(@RequestParam(required = false) Long themeId,
+                                                   @RequestParam(required = false) Long languageId) {
+        return ResponseEntity.ok(availabilityIndex.findAvailable(themeId, languageId));
+    }
+
     // ========== GET BY ID ==========
     @Operation(summary = "Get translator profile by ID")
     @GetMapping("/{id}")
-    public ResponseEntity<TranslatorProfileResponseDTO> getById(@PathVariable Long id) {
+    public ResponseEntity<TranslatorProfileResponseDTO> getById(@PathVariable Long id, CurrentUser currentUser, WebRequest request) {
         try {
             logger.info("Fetching translator profile by id={}", id);
 
-            // Get current authenticated user
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Object principal = auth.getPrincipal();
-
-            String currentPhone = null;
-            boolean isInterpreter = false;
-
-            if (principal instanceof UserDetails user) {
-                currentPhone = user.getUsername(); // username = phone
-                isInterpreter = user.getAuthorities().stream()
-                        .anyMatch(a -> a.getAuthority().equals("ROLE_INTERPRETER"));
-            }
-
             // If role is INTERPRETER, allow access only to own profile
-            if (isInterpreter) {
-                TranslatorProfileResponseDTO ownProfile = service.findByPhone(currentPhone);
-                if (!id.equals(ownProfile.getId())) {
-                    logger.warn("Interpreter with phone={} attempted to access another profile id={}", currentPhone, id);
-                    return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-                }
+            if (isForeignProfile(currentUser, id)) {
+                logger.warn("Interpreter userId={} attempted to access another profile id={}", currentUser.getId(), id);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
             TranslatorProfileResponseDTO dto = service.findById(id);
@@ -106,7 +106,7 @@ public class TranslatorProfileController {
                 throw new ResourceNotFoundException("TranslatorProfile not found with id " + id);
             }
 
-            return ResponseEntity.ok(dto);
+            return httpCache.respond(request, "translator-profiles", etag(dto), () -> dto);
         } catch (ResourceNotFoundException ex) {
             throw ex;
         } catch (Exception ex) {
@@ -121,21 +121,13 @@ public class TranslatorProfileController {
     @PutMapping("/{id}")
     public ResponseEntity<TranslatorProfileResponseDTO> update(@PathVariable Long id,
                                                                @Valid @RequestBody TranslatorProfileRequestDTO dto,
-                                                               Authentication auth) {
+                                                               CurrentUser currentUser) {
         try {
             logger.info("Updating translator profile id={} with data={}", id, dto);
 
-            UserDetails user = (UserDetails) auth.getPrincipal();
-            String currentUserPhone = user.getUsername();
-            boolean isInterpreter = user.getAuthorities().stream()
-                    .anyMatch(a -> a.getAuthority().equals("ROLE_INTERPRETER"));
-
-            if (isInterpreter) {
-                TranslatorProfileResponseDTO ownProfile = service.findByPhone(currentUserPhone);
-                if (ownProfile == null || !ownProfile.getId().equals(id)) {
-                    logger.warn("Interpreter {} attempted to update another profile id={}", currentUserPhone, id);
-                    return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-                }
+            if (isForeignProfile(currentUser, id)) {
+                logger.warn("Interpreter userId={} attempted to update another profile id={}", currentUser.getId(), id);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
             TranslatorProfileResponseDTO updated = service.update(id, dto);
@@ -147,24 +139,19 @@ public class TranslatorProfileController {
     }
 
     @PutMapping("/availability")
-    public ResponseEntity<TranslatorProfileResponseDTO> updateAvailability(@RequestParam Boolean isAvailable) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication(); // move here
+    public ResponseEntity<TranslatorProfileResponseDTO> updateAvailability(@RequestParam Boolean isAvailable,
+                                                                           CurrentUser currentUser) {
         try {
-            UserDetails user = (UserDetails) auth.getPrincipal();
-            boolean isInterpreter = user.getAuthorities().stream()
-                    .anyMatch(a -> a.getAuthority().equals("ROLE_INTERPRETER"));
-
-            if (!isInterpreter) {
-                logger.warn("User {} attempted to update availability but is not a translator", user.getUsername());
+            if (!currentUser.isInterpreter()) {
+                logger.warn("User id={} attempted to update availability but is not a translator", currentUser.getId());
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
-            Long currentUserId = Long.valueOf(user.getUsername()); // assuming username stores user ID
-            TranslatorProfileResponseDTO updated = service.updateAvailability(currentUserId, isAvailable);
+            TranslatorProfileResponseDTO updated = service.updateAvailability(currentUser.getId(), isAvailable);
             return ResponseEntity.ok(updated);
 
         } catch (Exception ex) {
-            logger.error("Error updating availability for user {}: {}", auth.getName(), ex.getMessage(), ex);
+            logger.error("Error updating availability for user id={}: {}", currentUser.getId(), ex.getMessage(), ex);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -174,21 +161,13 @@ public class TranslatorProfileController {
     @PutMapping("/{id}/themes")
     public ResponseEntity<TranslatorProfileResponseDTO> updateThemes(@PathVariable Long id,
                                                                      @RequestBody List<Long> themeIds,
-                                                                     Authentication auth) {
+                                                                     CurrentUser currentUser) {
         try {
             logger.info("Updating themes for translator id={} with themes={}", id, themeIds);
 
-            UserDetails user = (UserDetails) auth.getPrincipal();
-            String currentUserPhone = user.getUsername();
-            boolean isInterpreter = user.getAuthorities().stream()
-                    .anyMatch(a -> a.getAuthority().equals("ROLE_INTERPRETER"));
-
-            if (isInterpreter) {
-                TranslatorProfileResponseDTO ownProfile = service.findByPhone(currentUserPhone);
-                if (ownProfile == null || !ownProfile.getId().equals(id)) {
-                    logger.warn("Interpreter {} attempted to update themes for another profile id={}", currentUserPhone, id);
-                    return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-                }
+            if (isForeignProfile(currentUser, id)) {
+                logger.warn("Interpreter userId={} attempted to update themes for another profile id={}", currentUser.getId(), id);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
             TranslatorProfileResponseDTO updated = service.updateThemes(id, themeIds);
@@ -202,7 +181,7 @@ public class TranslatorProfileController {
     // ========== VERIFY PROFILE ==========
     @Operation(summary = "Verify translator profile", description = "Admin-only endpoint to verify a translator's profile")
     @PostMapping("/{id}/verify")
-    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
     public ResponseEntity<TranslatorProfileResponseDTO> verifyProfile(@PathVariable Long id) {
         TranslatorProfileResponseDTO verified = service.verifyProfile(id);
         return ResponseEntity.ok(verified);
@@ -211,7 +190,7 @@ public class TranslatorProfileController {
     // ========== UNVERIFY PROFILE ==========
     @Operation(summary = "Unverify translator profile", description = "Admin-only endpoint to remove verification from a translator's profile")
     @PostMapping("/{id}/unverify")
-    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
     public ResponseEntity<TranslatorProfileResponseDTO> unverifyProfile(@PathVariable Long id) {
         TranslatorProfileResponseDTO unverified = service.unverifyProfile(id);
         return ResponseEntity.ok(unverified);
@@ -220,9 +199,25 @@ public class TranslatorProfileController {
     // ========== GET UNVERIFIED PROFILES ==========
     @Operation(summary = "Get all unverified translator profiles", description = "Admin-only endpoint to list all unverified translator profiles")
     @GetMapping("/unverified")
-    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
     public ResponseEntity<List<TranslatorProfileResponseDTO>> getUnverifiedProfiles() {
         List<TranslatorProfileResponseDTO> unverified = service.findUnverifiedProfiles();
         return ResponseEntity.ok(unverified);
     }
+
+    // ========== HELPERS ==========
+    /**
+     * Interpreters may only touch their own profile
+     */
+    private boolean isForeignProfile(CurrentUser currentUser, Long profileId) {
+        return currentUser.isInterpreter() && !service.isOwnedBy(profileId, currentUser.getId());
+    }
+
+    /**
+     * Hash of the whole response, so changes that do not bump {@code updatedAt} (e.g. a renamed theme)
+     * still change the tag; theme and language names are read in a fixed order
+     */
+    private String etag(TranslatorProfileResponseDTO dto) {
+        return httpCache.etagOf(dto);
+    }
 }
@@ -27,7 +27,7 @@ import java.util.List;
 
 @RestController
 @RequestMapping("/api/uploads")
-@PreAuthorize("hasAnyRole('ADMINISTRATOR','INTERPRETER','CLIENT')")
+@PreAuthorize("@rbac.has(authentication, 'ANY_ROLE')")
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "File Upload/Download - Any roles", description = "APIs for uploading and downloading files, avatars, and documents")
 public class UploadController {
@@ -89,7 +89,7 @@ public class UploadController {
     // ========== UPLOAD THEME ICON ==========
     @Operation(summary = "Upload theme icon")
     @PostMapping("/themes/{themeId}/icon")
-    @PreAuthorize("hasAnyRole('ADMINISTRATOR','INTERPRETER')")
+    @PreAuthorize("@rbac.has(authentication, 'INTERPRETER_OR_ADMIN')")
     public ResponseEntity<String> uploadThemeIcon(@PathVariable Long themeId,
                                                   @RequestParam("file") MultipartFile file) {
         try {
@@ -208,7 +208,7 @@ public class UploadController {
 
     @Operation(summary = "Delete uploaded file", description = "Delete a file from storage (Admin only)")
     @DeleteMapping("/files/{fileId}")
-    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
     public ResponseEntity<Void> deleteFile(@PathVariable Long fileId) {
         File file = fileRepository.findById(fileId)
                 .orElseThrow(() -> new RuntimeException("File not found"));
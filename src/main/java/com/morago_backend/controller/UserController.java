@@ -1,8 +1,10 @@
 package com.morago_backend.controller;
 
+import com.morago_backend.config.CurrentUser;
 import com.morago_backend.dto.dtoRequest.PasswordChangeRequestDTO;
 import com.morago_backend.dto.dtoRequest.UserRequestDTO;
 import com.morago_backend.dto.dtoResponse.UserResponseDTO;
+import com.morago_backend.exception.TooManyRequestsException;
 import com.morago_backend.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -30,10 +32,10 @@ public class UserController {
     //=== Get current user profile ===//
     @Operation(summary = "Get current user profile")
     @GetMapping("/me")
-    public ResponseEntity<UserResponseDTO> getProfile() {
+    public ResponseEntity<UserResponseDTO> getProfile(CurrentUser currentUser) {
         try {
             logger.info("Fetching current user profile");
-            return ResponseEntity.ok(userService.getCurrentUserProfile());
+            return ResponseEntity.ok(userService.getCurrentUserProfile(currentUser));
         } catch (Exception e) {
             logger.error("Error fetching current user profile", e);
             return ResponseEntity.status(500).build();
@@ -43,10 +45,12 @@ public class UserController {
     //=== Update current user profile ===//
     @Operation(summary = "Update current user profile")
     @PutMapping("/me")
-    public ResponseEntity<UserResponseDTO> updateProfile(@Valid @RequestBody UserRequestDTO request) {
+    public ResponseEntity<UserResponseDTO> updateProfile(CurrentUser currentUser, @Valid @RequestBody UserRequestDTO request) {
         try {
             logger.info("Updating current user profile");
-            return ResponseEntity.ok(userService.updateCurrentUser(request));
+            return ResponseEntity.ok(userService.updateCurrentUser(currentUser, request));
+        } catch (TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error updating current user profile", e);
             return ResponseEntity.status(500).build();
@@ -56,11 +60,13 @@ public class UserController {
     //=== Change password (for authenticated users) ===//
     @Operation(summary = "Change password for authenticated users")
     @PostMapping("/password")
-    public ResponseEntity<String> changePassword(@Valid @RequestBody PasswordChangeRequestDTO request) {
+    public ResponseEntity<String> changePassword(CurrentUser currentUser, @Valid @RequestBody PasswordChangeRequestDTO request) {
         try {
             logger.info("Changing password for authenticated user");
-            userService.changePassword(request);
+            userService.changePassword(currentUser, request);
             return ResponseEntity.ok("Password changed successfully");
+        } catch (TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error changing password", e);
             return ResponseEntity.status(500).body(e.getMessage());
@@ -69,12 +75,12 @@ public class UserController {
 
     //=== Deposit money (Client only) ===//
     @Operation(summary = "Deposit money into current user's account")
-    @PreAuthorize("hasRole('CLIENT')") //=== only clients can deposit ===//
+    @PreAuthorize("@rbac.has(authentication, 'CLIENT')") //=== only clients can deposit ===//
     @PostMapping("/deposit")
-    public ResponseEntity<UserResponseDTO> deposit(@RequestParam BigDecimal amount) {
+    public ResponseEntity<UserResponseDTO> deposit(CurrentUser currentUser, @RequestParam BigDecimal amount) {
         try {
             logger.info("Depositing amount={}", amount);
-            return ResponseEntity.ok(userService.deposit(amount));
+            return ResponseEntity.ok(userService.deposit(currentUser, amount));
         } catch (Exception e) {
             logger.error("Error depositing money", e);
             return ResponseEntity.status(500).build();
@@ -84,10 +90,10 @@ public class UserController {
     //=== Get current balance (all users) ===//
     @Operation(summary = "Get current user's account balance")
     @GetMapping("/balance")
-    public ResponseEntity<BigDecimal> getBalance() {
+    public ResponseEntity<BigDecimal> getBalance(CurrentUser currentUser) {
         try {
             logger.info("Fetching current user balance");
-            return ResponseEntity.ok(userService.getBalance());
+            return ResponseEntity.ok(userService.getBalance(currentUser));
         } catch (Exception e) {
             logger.error("Error fetching user balance", e);
             return ResponseEntity.status(500).build();
@@ -1,5 +1,7 @@
 package com.morago_backend.controller;
 
+import com.morago_backend.config.CurrentUser;
+import com.morago_backend.config.Idempotent;
 import com.morago_backend.dto.dtoRequest.WithdrawalRequestDTO;
 import com.morago_backend.dto.dtoResponse.WithdrawalResponseDTO;
 import com.morago_backend.service.WithdrawalService;
@@ -27,13 +29,16 @@ public class WithdrawalController {
     private static final Logger logger = LoggerFactory.getLogger(WithdrawalController.class);
 
     //=== Translator request withdrawal ===//
-    @Operation(summary = "Request withdrawal (Translator only)")
-    @PreAuthorize("hasRole('INTERPRETER')")
+    @Operation(summary = "Request withdrawal (Translator only)",
+            description = "Send an Idempotency-Key header to make retries safe; a repeated key returns the first response.")
+    @PreAuthorize("@rbac.has(authentication, 'INTERPRETER')")
+    @Idempotent
     @PostMapping("/request")
-    public ResponseEntity<WithdrawalResponseDTO> requestWithdrawal(@Valid @RequestBody WithdrawalRequestDTO dto) {
+    public ResponseEntity<WithdrawalResponseDTO> requestWithdrawal(CurrentUser currentUser,
+                                                                   @Valid @RequestBody WithdrawalRequestDTO dto) {
         try {
             WithdrawalResponseDTO result = service.requestWithdrawal(
-                    dto.getSum(), dto.getAccountNumber(), dto.getAccountHolder(), dto.getBankName());
+                    currentUser, dto.getSum(), dto.getAccountNumber(), dto.getAccountHolder(), dto.getBankName());
             return ResponseEntity.ok(result);
         } catch (Exception e) {
             logger.error("Error requesting withdrawal", e);
@@ -43,7 +48,7 @@ public class WithdrawalController {
 
     //=== Admin approve/reject withdrawal ===//
     @Operation(summary = "Approve or reject withdrawal (Admin only)")
-    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
     @PutMapping("/{id}/status")
     public ResponseEntity<WithdrawalResponseDTO> approveOrReject(@PathVariable Long id,
                                                                  @RequestParam String status) {
@@ -58,7 +63,7 @@ public class WithdrawalController {
 
     //=== Admin get all withdrawals ===//
     @Operation(summary = "Get all withdrawals (Admin only)")
-    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
     @GetMapping
     public ResponseEntity<List<WithdrawalResponseDTO>> getAll() {
         try {
@@ -72,7 +77,7 @@ public class WithdrawalController {
 
     //=== Admin get withdrawal by ID ===//
     @Operation(summary = "Get withdrawal by ID (Admin only)")
-    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
     @GetMapping("/{id}")
     public ResponseEntity<WithdrawalResponseDTO> getById(@PathVariable Long id) {
         try {
@@ -87,7 +92,7 @@ public class WithdrawalController {
 
     //=== Admin delete withdrawal ===//
     @Operation(summary = "Delete withdrawal by ID (Admin only)")
-    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         try {
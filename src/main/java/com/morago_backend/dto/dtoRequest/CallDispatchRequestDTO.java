@@ -0,0 +1,23 @@
+package com.morago_backend.dto.dtoRequest;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+
+/**
+ * DTO for requesting a call with the best available translator
+ */
+@Schema(description = "Call dispatch request data")
+public class CallDispatchRequestDTO {
+
+    @Schema(description = "Theme of the call", example = "2")
+    @NotNull(message = "Theme ID is required")
+    private Long themeId;
+
+    @Schema(description = "Language the translator must speak; any language when omitted", example = "1")
+    private Long languageId;
+}
@@ -0,0 +1,32 @@
+package com.morago_backend.dto.dtoRequest;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+
+/**
+ * DTO for approving several deposits in one request
+ */
+@Schema(description = "Bulk deposit approval request data")
+public class DepositBulkApprovalRequestDTO {
+
+    @Schema(description = "IDs of the deposits to approve", example = "[1, 2, 3]")
+    @NotEmpty(message = "At least one deposit ID is required")
+    @Size(max = 1000, message = "Cannot approve more than 1000 deposits at once")
+    private List<@NotNull(message = "Deposit ID cannot be null") Long> depositIds;
+
+    // Constructors
+    public DepositBulkApprovalRequestDTO() {}
+
+    public DepositBulkApprovalRequestDTO(List<Long> depositIds) {
+        this.depositIds = depositIds;
+    }
+}
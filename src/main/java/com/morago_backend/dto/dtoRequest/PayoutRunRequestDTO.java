@@ -0,0 +1,31 @@
+package com.morago_backend.dto.dtoRequest;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+
+/**
+ * DTO for starting a withdrawal payout run
+ */
+@Schema(description = "Payout run request data")
+public class PayoutRunRequestDTO {
+
+    @Schema(description = "Pending withdrawals created up to this moment are paid out", example = "2025-10-31T23:59:59")
+    @NotNull(message = "Cutoff is required")
+    @PastOrPresent(message = "Cutoff cannot be in the future")
+    private LocalDateTime cutoff;
+
+    // Constructors
+    public PayoutRunRequestDTO() {}
+
+    public PayoutRunRequestDTO(LocalDateTime cutoff) {
+        this.cutoff = cutoff;
+    }
+}
@@ -0,0 +1,27 @@
+package com.morago_backend.dto.dtoResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+
+/**
+ * DTO for the state of a dispatched call; also sent to the caller over Socket.IO
+ */
+@Schema(description = "Call dispatch response data")
+public class CallDispatchResponseDTO {
+
+    @Schema(description = "Call record ID", example = "15")
+    private Long callId;
+
+    @Schema(description = "Dispatch status", example = "DISPATCHING", allowableValues = {"DISPATCHING", "ACCEPTED", "UNMATCHED"})
+    private String status;
+
+    @Schema(description = "Translator's user ID once the call was accepted", example = "20")
+    private Long recipientUserId;
+
+    @Schema(description = "Number of translators the call has been offered to so far", example = "3")
+    private Integer offeredCount;
+}
@@ -0,0 +1,27 @@
+package com.morago_backend.dto.dtoResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+
+/**
+ * Call offer sent to a translator over Socket.IO ("callOffer" / "callOfferCancelled")
+ */
+@Schema(description = "Call offer sent to a translator")
+public class CallOfferDTO {
+
+    @Schema(description = "Call record ID to accept or decline", example = "15")
+    private Long callId;
+
+    @Schema(description = "Theme of the call", example = "2")
+    private Long themeId;
+
+    @Schema(description = "Requested language", example = "1")
+    private Long languageId;
+
+    @Schema(description = "Milliseconds until the offer expires", example = "15000")
+    private Long expiresInMs;
+}
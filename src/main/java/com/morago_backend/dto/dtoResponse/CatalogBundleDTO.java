@@ -0,0 +1,22 @@
+package com.morago_backend.dto.dtoResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Active catalog (categories, themes and languages) in one document")
+public class CatalogBundleDTO {
+
+    @Schema(description = "Active categories")
+    private List<CategoryResponseDTO> categories;
+
+    @Schema(description = "Active themes")
+    private List<ThemeResponseDTO> themes;
+
+    @Schema(description = "All languages")
+    private List<LanguageResponseDTO> languages;
+}
@@ -0,0 +1,79 @@
+package com.morago_backend.dto.dtoResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+
+/**
+ * DTO for the outcome of a bulk deposit approval
+ */
+@Schema(description = "Bulk deposit approval response data")
+public class DepositBulkApprovalResponseDTO {
+
+    @Schema(description = "Number of distinct deposit IDs requested", example = "3")
+    private int requested;
+
+    @Schema(description = "Number of deposits approved and credited", example = "2")
+    private int approved;
+
+    @Schema(description = "Number of deposits that could not be approved", example = "1")
+    private int failed;
+
+    @Schema(description = "Total amount credited to user balances", example = "2500.00")
+    private BigDecimal totalCredited = BigDecimal.ZERO;
+
+    @Schema(description = "Per-deposit outcome, in request order")
+    private List<Result> results = new ArrayList<>();
+
+    // Constructors
+    public DepositBulkApprovalResponseDTO() {}
+
+    public void addSuccess(Long depositId, Long userId, BigDecimal sum) {
+        results.add(new Result(depositId, userId, true, "APPROVED", "Deposit approved and credited to account"));
+        approved++;
+        totalCredited = totalCredited.add(sum);
+    }
+
+    public void addFailure(Long depositId, Long userId, String status, String message) {
+        results.add(new Result(depositId, userId, false, status, message));
+        failed++;
+    }
+
+    @Getter
+    @Setter
+    @Schema(description = "Outcome for a single deposit")
+    public static class Result {
+
+        @Schema(description = "Deposit ID", example = "1")
+        private Long depositId;
+
+        @Schema(description = "Owner of the deposit", example = "1")
+        private Long userId;
+
+        @Schema(description = "Whether the deposit was approved", example = "true")
+        private boolean success;
+
+        @Schema(description = "Deposit status after the request", example = "APPROVED")
+        private String status;
+
+        @Schema(description = "Outcome message", example = "Deposit approved and credited to account")
+        private String message;
+
+        public Result() {}
+
+        public Result(Long depositId, Long userId, boolean success, String status, String message) {
+            this.depositId = depositId;
+            this.userId = userId;
+            this.success = success;
+            this.status = status;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.morago_backend.dto.dtoResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+
+/**
+ * DTO for a single issue reported by a ledger reconciliation run
+ */
+@Schema(description = "Ledger reconciliation issue")
+public class LedgerReconciliationIssueResponseDTO {
+
+    @Schema(description = "Issue ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Run that reported the issue", example = "1")
+    private Long runId;
+
+    @Schema(description = "Affected user ID", example = "42")
+    private Long userId;
+
+    @Schema(description = "Offending transaction ID (empty for user-level issues)", example = "1017")
+    private Long transactionId;
+
+    @Schema(description = "Issue type", example = "CHAIN_BREAK",
+            allowableValues = {"MISSING_BALANCE", "ARITHMETIC_MISMATCH", "CHAIN_BREAK", "BALANCE_MISMATCH"})
+    private String issueType;
+
+    @Schema(description = "Expected balance", example = "150.00")
+    private BigDecimal expected;
+
+    @Schema(description = "Actual balance found", example = "120.00")
+    private BigDecimal actual;
+
+    @Schema(description = "Human readable explanation")
+    private String details;
+
+    // Constructors
+    public LedgerReconciliationIssueResponseDTO() {}
+}
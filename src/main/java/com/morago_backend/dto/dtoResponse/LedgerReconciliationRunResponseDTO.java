@@ -0,0 +1,47 @@
+package com.morago_backend.dto.dtoResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+
+/**
+ * DTO for Ledger reconciliation run response data
+ */
+@Schema(description = "Ledger reconciliation run response data")
+public class LedgerReconciliationRunResponseDTO {
+
+    @Schema(description = "Run ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Run status", example = "COMPLETED", allowableValues = {"RUNNING", "COMPLETED", "FAILED"})
+    private String status;
+
+    @Schema(description = "Number of users whose ledger was checked so far", example = "25000")
+    private Long usersChecked;
+
+    @Schema(description = "Number of ledger rows checked so far", example = "410000")
+    private Long transactionsChecked;
+
+    @Schema(description = "Number of issues reported so far", example = "3")
+    private Long issuesFound;
+
+    @Schema(description = "Failure reason when the run failed")
+    private String errorMessage;
+
+    @Schema(description = "Completion timestamp")
+    private LocalDateTime completedAt;
+
+    @Schema(description = "Run creation timestamp")
+    private LocalDateTime createdAtDatetime;
+
+    @Schema(description = "Run last update timestamp")
+    private LocalDateTime updatedAtDatetime;
+
+    // Constructors
+    public LedgerReconciliationRunResponseDTO() {}
+}
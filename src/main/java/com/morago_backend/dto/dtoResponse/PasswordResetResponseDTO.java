@@ -17,7 +17,7 @@ public class PasswordResetResponseDTO {
     @Schema(description = "Phone number", example = "+1234567890")
     private String phone;
 
-    @Schema(description = "Reset code (for testing)", example = "1234")
+    @Schema(description = "Reset code (never returned; delivered by SMS only)", example = "1234")
     private Integer resetCode;
 
     @Schema(description = "Verification token (returned after code verification)", example = "abc123...")
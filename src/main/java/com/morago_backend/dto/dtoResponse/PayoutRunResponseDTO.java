@@ -0,0 +1,51 @@
+package com.morago_backend.dto.dtoResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+
+/**
+ * DTO for Payout run response data
+ */
+@Schema(description = "Payout run response data")
+public class PayoutRunResponseDTO {
+
+    @Schema(description = "Payout run ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Pending withdrawals created up to this moment belong to the run", example = "2025-10-31T23:59:59")
+    private LocalDateTime cutoff;
+
+    @Schema(description = "Run status", example = "COMPLETED", allowableValues = {"PROCESSING", "COMPLETED"})
+    private String status;
+
+    @Schema(description = "Number of withdrawals claimed by the run", example = "120")
+    private Integer claimedCount;
+
+    @Schema(description = "Number of withdrawals approved and debited", example = "118")
+    private Integer approvedCount;
+
+    @Schema(description = "Number of withdrawals released back to pending (e.g. insufficient balance)", example = "2")
+    private Integer skippedCount;
+
+    @Schema(description = "Total amount paid out", example = "59000.00")
+    private BigDecimal totalAmount;
+
+    @Schema(description = "Completion timestamp")
+    private LocalDateTime completedAt;
+
+    @Schema(description = "Run creation timestamp")
+    private LocalDateTime createdAtDatetime;
+
+    @Schema(description = "Run last update timestamp")
+    private LocalDateTime updatedAtDatetime;
+
+    // Constructors
+    public PayoutRunResponseDTO() {}
+}
@@ -37,6 +37,9 @@ public class TranslatorProfileResponseDTO {
     @Schema(description = "List of themes the translator specializes in")
     private List<String> themes;
 
+    @Schema(description = "List of languages the translator speaks")
+    private List<String> languages;
+
     @Schema(description = "Category creation timestamp")
     private LocalDateTime createdAtDatetime;
 
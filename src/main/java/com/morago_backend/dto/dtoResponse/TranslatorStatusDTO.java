@@ -0,0 +1,42 @@
+package com.morago_backend.dto.dtoResponse;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Status of one translator on the translator status stream. In a delta only the changed fields are set
+ * and the rest are left out of the JSON; in a snapshot every field is set.
+ */
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Translator status entry, complete in snapshots and changed fields only in deltas")
+public class TranslatorStatusDTO {
+
+    @Schema(description = "Translator profile ID", example = "7")
+    private Long translatorProfileId;
+
+    @Schema(description = "User ID of the translator", example = "12")
+    private Long userId;
+
+    @Schema(description = "Is translator currently online", example = "true")
+    private Boolean isOnline;
+
+    @Schema(description = "Is translator currently available", example = "true")
+    private Boolean isAvailable;
+
+    @Schema(description = "Is translator profile verified by admin", example = "true")
+    private Boolean isVerified;
+
+    @Schema(description = "Is the translator's account active (not blocked)", example = "true")
+    private Boolean isActive;
+
+    @Schema(description = "Set when the translator profile no longer exists", example = "true")
+    private Boolean removed;
+
+    public TranslatorStatusDTO(Long translatorProfileId) {
+        this.translatorProfileId = translatorProfileId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.morago_backend.dto.dtoResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Payload of the "translatorStatusSnapshot" and "translatorStatusDelta" Socket.IO events
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "Snapshot or batch of deltas on the translator status stream")
+public class TranslatorStatusEventDTO {
+
+    @Schema(description = "Stream position; a delta batch applies on top of the snapshot or batch with the previous sequence", example = "42")
+    private Long sequence;
+
+    @Schema(description = "Translator status entries")
+    private List<TranslatorStatusDTO> translators;
+}
@@ -0,0 +1,21 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+@Entity
+@Table(name = "call_offers")
+public class CallOffer extends BaseEntity {
+
+    @Column(name = "call_id_bigint", nullable = false)
+    private Long callId;
+
+    @Column(name = "user_id_bigint", nullable = false)
+    private Long userId;  // Translator the call is currently offered to
+
+}
@@ -0,0 +1,47 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyRecord extends BaseEntity {
+
+    @Column(name = "scope_hash_char64", length = 64, nullable = false, unique = true)
+    private String scopeHash;  // SHA-256 of principal, method, path and key
+
+    @Column(name = "idempotency_key_varchar255", length = 255, nullable = false)
+    private String idempotencyKey;
+
+    @Column(name = "principal_varchar200", length = 200)
+    private String principal;
+
+    @Column(name = "request_varchar300", length = 300)
+    private String request;  // e.g. "PUT /api/calls/12"
+
+    @Column(name = "request_hash_char64", length = 64, nullable = false)
+    private String requestHash;  // SHA-256 of the request arguments
+
+    @Column(name = "status_varchar50", length = 50, nullable = false)
+    private String status;  // IN_PROGRESS, COMPLETED
+
+    @Column(name = "response_status_int")
+    private Integer responseStatus;
+
+    @Column(name = "response_body_text", columnDefinition = "MEDIUMTEXT")
+    private String responseBody;
+
+    @Column(name = "response_location_varchar500", length = 500)
+    private String responseLocation;
+
+    @Column(name = "expires_at_datetime", nullable = false)
+    private LocalDateTime expiresAt;
+
+}
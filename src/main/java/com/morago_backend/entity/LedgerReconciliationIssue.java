@@ -0,0 +1,38 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Setter
+@Getter
+@Entity
+@Table(name = "ledger_reconciliation_issues")
+public class LedgerReconciliationIssue extends BaseEntity {
+
+    @Column(name = "run_id_bigint", nullable = false)
+    private Long runId;
+
+    @Column(name = "user_id_bigint", nullable = false)
+    private Long userId;
+
+    @Column(name = "transaction_id_bigint")
+    private Long transactionId;  // Null for user-level issues such as BALANCE_MISMATCH
+
+    @Column(name = "issue_type_varchar50", length = 50, nullable = false)
+    private String issueType;  // MISSING_BALANCE, ARITHMETIC_MISMATCH, CHAIN_BREAK, BALANCE_MISMATCH
+
+    @Column(name = "expected_decimal12_2", precision = 12, scale = 2)
+    private BigDecimal expected;
+
+    @Column(name = "actual_decimal12_2", precision = 12, scale = 2)
+    private BigDecimal actual;
+
+    @Column(name = "details_varchar500", length = 500)
+    private String details;
+
+}
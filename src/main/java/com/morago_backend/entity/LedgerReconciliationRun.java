@@ -0,0 +1,35 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@Entity
+@Table(name = "ledger_reconciliation_runs")
+public class LedgerReconciliationRun extends BaseEntity {
+
+    @Column(name = "status_varchar50", length = 50, nullable = false)
+    private String status;  // RUNNING, COMPLETED, FAILED
+
+    @Column(name = "users_checked_bigint")
+    private Long usersChecked = 0L;
+
+    @Column(name = "transactions_checked_bigint")
+    private Long transactionsChecked = 0L;
+
+    @Column(name = "issues_found_bigint")
+    private Long issuesFound = 0L;
+
+    @Column(name = "error_message_varchar1000", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "completed_at_datetime")
+    private LocalDateTime completedAt;
+
+}
@@ -29,4 +29,10 @@ public class PasswordReset extends BaseEntity {
     @Column(name = "expires_at")
     private LocalDateTime expiresAt;
 
+    @Column(name = "failed_attempts_int", nullable = false)
+    private Integer failedAttempts = 0;
+
+    @Column(name = "locked_until_datetime")
+    private LocalDateTime lockedUntil;
+
 }
\ No newline at end of file
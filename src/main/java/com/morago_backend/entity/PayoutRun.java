@@ -0,0 +1,39 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@Entity
+@Table(name = "payout_runs")
+public class PayoutRun extends BaseEntity {
+
+    @Column(name = "cutoff_datetime", nullable = false, unique = true)
+    private LocalDateTime cutoff;
+
+    @Column(name = "status_varchar50", length = 50, nullable = false)
+    private String status;  // PROCESSING, COMPLETED
+
+    @Column(name = "claimed_count_int")
+    private Integer claimedCount = 0;
+
+    @Column(name = "approved_count_int")
+    private Integer approvedCount = 0;
+
+    @Column(name = "skipped_count_int")
+    private Integer skippedCount = 0;
+
+    @Column(name = "total_amount_decimal12_2", precision = 12, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "completed_at_datetime")
+    private LocalDateTime completedAt;
+
+}
@@ -0,0 +1,41 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@Entity
+@Table(name = "refresh_tokens")
+public class RefreshToken extends BaseEntity {
+
+    @Column(name = "user_id_bigint", nullable = false)
+    private Long userId;
+
+    @Column(name = "token_hash_char64", length = 64, nullable = false, unique = true)
+    private String tokenHash;  // SHA-256 of the token handed to the client
+
+    @Column(name = "family_id_char36", length = 36, nullable = false)
+    private String familyId;  // shared by every token rotated from the same login
+
+    @Column(name = "access_token_id_char36", length = 36, nullable = false)
+    private String accessTokenId;  // jti of the access token issued together with this token
+
+    @Column(name = "access_expires_at_datetime", nullable = false)
+    private LocalDateTime accessExpiresAt;
+
+    @Column(name = "expires_at_datetime", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at_datetime")
+    private LocalDateTime revokedAt;  // set on rotation, logout or revocation
+
+    @Column(name = "replaced_by_id_bigint")
+    private Long replacedById;
+
+}
@@ -0,0 +1,26 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@Entity
+@Table(name = "revoked_tokens")
+public class RevokedToken extends BaseEntity {
+
+    @Column(name = "token_id_char36", length = 36, nullable = false, unique = true)
+    private String tokenId;  // jti of the revoked access token
+
+    @Column(name = "user_id_bigint")
+    private Long userId;
+
+    @Column(name = "expires_at_datetime", nullable = false)
+    private LocalDateTime expiresAt;
+
+}
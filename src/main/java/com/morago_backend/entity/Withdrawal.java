@@ -32,4 +32,7 @@ public class Withdrawal extends BaseEntity {
     @Column(name = "user_id_bigint")
     private Long userId;
 
+    @Column(name = "payout_run_id_bigint")
+    private Long payoutRunId;  // Set while the withdrawal is claimed by a payout run
+
 }
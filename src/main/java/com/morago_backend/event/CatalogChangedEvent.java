@@ -0,0 +1,15 @@
+package com.morago_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a category, theme or language is created, updated or deleted
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogChangedEvent {
+
+    private final String entity;
+    private final Long id;
+}
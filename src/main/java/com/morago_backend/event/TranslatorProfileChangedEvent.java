@@ -0,0 +1,15 @@
+package com.morago_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a translator profile's presence, verification, themes or languages change, or a
+ * translator signs up
+ */
+@Getter
+@AllArgsConstructor
+public class TranslatorProfileChangedEvent {
+
+    private final Long translatorProfileId;
+}
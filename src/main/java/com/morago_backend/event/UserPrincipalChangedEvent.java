@@ -0,0 +1,16 @@
+package com.morago_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when something a cached principal holds (phone, password, roles, active flag) changes
+ * or the user is deleted
+ */
+@Getter
+@AllArgsConstructor
+public class UserPrincipalChangedEvent {
+
+    private final Long userId;
+    private final String phone;  // Phone before the change, if known
+}
@@ -0,0 +1,13 @@
+package com.morago_backend.exception;
+
+/**
+ * The request lost a race against a concurrent change of the same resource (409)
+ */
+public class ConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.morago_backend.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * A request reused an Idempotency-Key while the first request is still running (409)
+ * or with a different payload (422)
+ */
+@Getter
+public class IdempotencyConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final HttpStatus status;
+
+    public IdempotencyConflictException(String message, HttpStatus status) {
+        super(message);
+        this.status = status;
+    }
+}
@@ -0,0 +1,20 @@
+package com.morago_backend.exception;
+
+import lombok.Getter;
+
+/**
+ * The server is shedding load for this kind of request (429); the client may retry after
+ * {@code retryAfterSeconds}
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
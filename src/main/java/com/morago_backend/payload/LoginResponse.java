@@ -7,7 +7,13 @@ import lombok.Setter;
 @Getter
 public class LoginResponse {
     private String token;
+    private String refreshToken;
+    private long expiresIn;  // access token lifetime in seconds
 
-    public LoginResponse(String token) { this.token = token; }
+    public LoginResponse(String token, String refreshToken, long expiresIn) {
+        this.token = token;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
 
 }
@@ -0,0 +1,17 @@
+package com.morago_backend.payload;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class RefreshTokenRequest {
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+
+    @Override
+    public String toString() {
+        return "RefreshTokenRequest{refreshToken='***REDACTED***'}";
+    }
+}
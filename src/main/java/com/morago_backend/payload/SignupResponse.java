@@ -16,6 +16,9 @@ public class SignupResponse {
     @Schema(description = "JWT token for authentication", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
     private String token;
 
+    @Schema(description = "Single-use refresh token for obtaining new access tokens")
+    private String refreshToken;
+
     @Schema(description = "User ID", example = "1")
     private Long userId;
 
@@ -0,0 +1,32 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.CallOffer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CallOfferRepository extends JpaRepository<CallOffer, Long> {
+
+    // Whether the call is currently offered to the translator, on any instance
+    boolean existsByCallIdAndUserId(Long callId, Long userId);
+
+    @Query("SELECT o.userId FROM CallOffer o WHERE o.callId = :callId")
+    List<Long> findUserIdsByCallId(@Param("callId") Long callId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CallOffer o WHERE o.callId = :callId AND o.userId IN :userIds")
+    int deleteOffers(@Param("callId") Long callId, @Param("userIds") Collection<Long> userIds);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CallOffer o WHERE o.callId = :callId")
+    int deleteByCallId(@Param("callId") Long callId);
+}
@@ -2,11 +2,52 @@ package com.morago_backend.repository;
 
 import com.morago_backend.entity.CallRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CallRecordRepository extends JpaRepository<CallRecord, Long> {
     List<CallRecord> findAllByOrderByCreatedAtDatetimeDesc();
-}
 
+    /**
+     * Assign the recipient of a dispatched call unless another translator got it first; returns 0 when the
+     * call was already taken or is no longer being dispatched
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE CallRecord c SET c.recipientUserId = :recipientUserId, c.callStatus = :newStatus " +
+            "WHERE c.id = :id AND c.recipientUserId IS NULL AND c.callStatus = :expectedStatus")
+    int claimRecipient(@Param("id") Long id,
+                       @Param("recipientUserId") Long recipientUserId,
+                       @Param("expectedStatus") String expectedStatus,
+                       @Param("newStatus") String newStatus);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE CallRecord c SET c.callStatus = :newStatus WHERE c.id = :id AND c.callStatus = :expectedStatus")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("expectedStatus") String expectedStatus,
+                              @Param("newStatus") String newStatus);
+
+    /**
+     * Calls still in {@code status} that were created before {@code cutoff}
+     */
+    @Query("SELECT c FROM CallRecord c WHERE c.callStatus = :status AND c.createdAtDatetime < :cutoff")
+    List<CallRecord> findByStatusCreatedBefore(@Param("status") String status, @Param("cutoff") LocalDateTime cutoff);
 
+    /**
+     * Number of calls per theme since {@code since}, for ranking theme suggestions
+     */
+    @Query("SELECT c.themeId AS themeId, COUNT(c) AS calls FROM CallRecord c " +
+            "WHERE c.themeId IS NOT NULL AND c.createdAtDatetime >= :since GROUP BY c.themeId")
+    List<ThemeCallCount> countCallsByTheme(@Param("since") LocalDateTime since);
+
+    interface ThemeCallCount {
+        Long getThemeId();
+        Long getCalls();
+    }
+}
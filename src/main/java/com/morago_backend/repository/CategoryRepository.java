@@ -1,8 +1,14 @@
 package com.morago_backend.repository;
 
 import com.morago_backend.entity.Category;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface CategoryRepository extends JpaRepository<Category, Long> {}
 
+public interface CategoryRepository extends FilterableRepository<Category, Long> {
 
+    // Fields accepted by the paged category list
+    FilterSpecification<Category> FILTERS = FilterSpecification.<Category>builder()
+            .search("name")
+            .filter("active", "isActive", Boolean.class)
+            .dateRange("createdAt")
+            .sort("id", "name", "isActive", "createdAt", "updatedAt")
+            .build();
+}
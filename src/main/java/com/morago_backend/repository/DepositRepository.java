@@ -3,13 +3,17 @@ package com.morago_backend.repository;
 import com.morago_backend.entity.Deposit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -118,6 +122,26 @@ public interface DepositRepository extends JpaRepository<Deposit, Long> {
      * Check if user has pending deposits
      */
     boolean existsByUserIdAndStatus(Long userId, String status);
+    
+    // ========== BULK OPERATIONS ==========
+    
+    /**
+     * Load deposits by ID and lock them for the rest of the transaction
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Deposit d WHERE d.id IN :ids")
+    List<Deposit> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Set the status of several deposits in a single statement
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Deposit d SET d.status = :status, d.updatedAtDatetime = :updatedAt WHERE d.id IN :ids")
+    int updateStatusByIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") String status,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
 }
 
 
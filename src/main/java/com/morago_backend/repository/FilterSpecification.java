@@ -0,0 +1,234 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.dto.dtoRequest.FilterRequest;
+import com.morago_backend.dto.dtoRequest.PaginationRequest;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-entity whitelist that turns a {@link FilterRequest} and {@link PaginationRequest} into a JPA
+ * {@link Specification} and {@link Pageable}, so filtering, sorting and counting run in the database.
+ * <p>
+ * {@code search} is matched case-insensitively as a substring of any search attribute,
+ * {@code filters} keys must be declared filters, and {@code dateFrom}/{@code dateTo} bound the date
+ * attribute; a bare date in {@code dateTo} covers that whole day. Unknown filter or sort fields and
+ * unparsable values throw {@link IllegalArgumentException}. Values are validated when the specification
+ * is built, before any query runs.
+ */
+public final class FilterSpecification<T> {
+
+    private final List<String> searchAttributes;
+    private final Map<String, Filter<T>> filters;
+    private final String dateAttribute;
+    private final Map<String, String> sortAttributes;
+
+    private FilterSpecification(Builder<T> builder) {
+        this.searchAttributes = List.copyOf(builder.searchAttributes);
+        this.filters = Map.copyOf(builder.filters);
+        this.dateAttribute = builder.dateAttribute;
+        this.sortAttributes = Map.copyOf(builder.sortAttributes);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    // ========== SPECIFICATION ==========
+    public Specification<T> toSpecification(FilterRequest filter) {
+        List<Condition<T>> conditions = new ArrayList<>();
+        if (filter != null) {
+            if (filter.hasSearch()) {
+                conditions.add(search(filter.getSearch().trim()));
+            }
+            if (filter.hasFilters()) {
+                filter.getFilters().forEach((key, value) -> {
+                    Filter<T> declared = filters.get(key);
+                    if (declared == null) {
+                        throw new IllegalArgumentException("Unsupported filter field: " + key);
+                    }
+                    if (value != null && !value.toString().isBlank()) {
+                        conditions.add(declared.toCondition(key, value.toString().trim()));
+                    }
+                });
+            }
+            if (filter.hasDateRange()) {
+                conditions.addAll(dateRange(filter.getDateFrom(), filter.getDateTo()));
+            }
+        }
+
+        return (root, query, cb) -> cb.and(conditions.stream()
+                .map(condition -> condition.toPredicate(root, cb))
+                .toArray(Predicate[]::new));
+    }
+
+    private Condition<T> search(String term) {
+        if (searchAttributes.isEmpty()) {
+            throw new IllegalArgumentException("Search is not supported here");
+        }
+        String pattern = "%" + term.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, cb) -> cb.or(searchAttributes.stream()
+                .map(attribute -> cb.like(cb.lower(root.get(attribute)), pattern, '\\'))
+                .toArray(Predicate[]::new));
+    }
+
+    private List<Condition<T>> dateRange(String dateFrom, String dateTo) {
+        if (dateAttribute == null) {
+            throw new IllegalArgumentException("Date range filtering is not supported here");
+        }
+        List<Condition<T>> conditions = new ArrayList<>();
+        if (dateFrom != null && !dateFrom.isBlank()) {
+            LocalDateTime from = parseDate("dateFrom", dateFrom);
+            conditions.add((root, cb) -> cb.greaterThanOrEqualTo(root.get(dateAttribute), from));
+        }
+        if (dateTo != null && !dateTo.isBlank()) {
+            LocalDateTime to = parseDate("dateTo", dateTo);
+            if (isDateOnly(dateTo)) {
+                LocalDateTime nextDay = to.plusDays(1);
+                conditions.add((root, cb) -> cb.lessThan(root.get(dateAttribute), nextDay));
+            } else {
+                conditions.add((root, cb) -> cb.lessThanOrEqualTo(root.get(dateAttribute), to));
+            }
+        }
+        return conditions;
+    }
+
+    private static LocalDateTime parseDate(String name, String value) {
+        try {
+            return isDateOnly(value)
+                    ? LocalDate.parse(value.trim()).atStartOfDay()
+                    : LocalDateTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static boolean isDateOnly(String value) {
+        return value.trim().indexOf('T') < 0;
+    }
+
+    // ========== SORT ==========
+    /**
+     * Page request sorted by a declared sort field, with the id as tie-breaker so pages never overlap
+     */
+    public Pageable toPageable(PaginationRequest pagination) {
+        String attribute = sortAttributes.get(pagination.getSortBy());
+        if (attribute == null) {
+            throw new IllegalArgumentException("Unsupported sort field: " + pagination.getSortBy());
+        }
+        Sort.Direction direction = pagination.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = "id".equals(attribute)
+                ? Sort.by(direction, attribute)
+                : Sort.by(direction, attribute).and(Sort.by(direction, "id"));
+        return PageRequest.of(pagination.getPage(), pagination.getSize(), sort);
+    }
+
+    // ========== FIELDS ==========
+    @FunctionalInterface
+    private interface Condition<T> {
+        Predicate toPredicate(Root<T> root, CriteriaBuilder cb);
+    }
+
+    @FunctionalInterface
+    private interface Filter<T> {
+        Condition<T> toCondition(String key, String value);
+    }
+
+    private static Object convert(String key, String value, Class<?> type) {
+        if (type == String.class) {
+            return value;
+        }
+        if (type == Boolean.class) {
+            if ("true".equalsIgnoreCase(value)) return Boolean.TRUE;
+            if ("false".equalsIgnoreCase(value)) return Boolean.FALSE;
+            throw new IllegalArgumentException("Invalid " + key + ": " + value);
+        }
+        if (type == Long.class) {
+            try {
+                return Long.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid " + key + ": " + value);
+            }
+        }
+        if (type.isEnum()) {
+            for (Object constant : type.getEnumConstants()) {
+                if (((Enum<?>) constant).name().equalsIgnoreCase(value)) return constant;
+            }
+            throw new IllegalArgumentException("Invalid " + key + ": " + value);
+        }
+        throw new IllegalStateException("Unsupported filter type " + type.getName() + " for " + key);
+    }
+
+    public static final class Builder<T> {
+        private final List<String> searchAttributes = new ArrayList<>();
+        private final Map<String, Filter<T>> filters = new LinkedHashMap<>();
+        private final Map<String, String> sortAttributes = new LinkedHashMap<>();
+        private String dateAttribute;
+
+        private Builder() {
+        }
+
+        /** String attributes the free-text search is matched against */
+        public Builder<T> search(String... attributes) {
+            searchAttributes.addAll(List.of(attributes));
+            return this;
+        }
+
+        /** {@code filters[key]} must equal {@code attribute}; type is String, Boolean, Long or an enum */
+        public Builder<T> filter(String key, String attribute, Class<?> type) {
+            filters.put(key, (k, value) -> {
+                Object converted = convert(k, value, type);
+                return (root, cb) -> cb.equal(root.get(attribute), converted);
+            });
+            return this;
+        }
+
+        /** {@code filters[key]} must be an element of the collection {@code attribute} */
+        public <E> Builder<T> memberFilter(String key, String attribute, Class<E> elementType) {
+            filters.put(key, (k, value) -> {
+                E converted = elementType.cast(convert(k, value, elementType));
+                return (root, cb) -> cb.isMember(converted, root.<Collection<E>>get(attribute));
+            });
+            return this;
+        }
+
+        /** Attribute bounded by {@code dateFrom} and {@code dateTo} */
+        public Builder<T> dateRange(String attribute) {
+            this.dateAttribute = attribute;
+            return this;
+        }
+
+        /** Sort fields accepted in {@code sortBy}, each under its own attribute name */
+        public Builder<T> sort(String... attributes) {
+            for (String attribute : attributes) {
+                sortAttributes.put(attribute, attribute);
+            }
+            return this;
+        }
+
+        /** Sort field accepted in {@code sortBy} under a name other than its attribute */
+        public Builder<T> sortAlias(String key, String attribute) {
+            sortAttributes.put(key, attribute);
+            return this;
+        }
+
+        public FilterSpecification<T> build() {
+            return new FilterSpecification<>(this);
+        }
+    }
+}
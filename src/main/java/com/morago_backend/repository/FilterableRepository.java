@@ -0,0 +1,13 @@
+package com.morago_backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Repository whose list endpoints are filtered, sorted and counted in the database through a
+ * {@link FilterSpecification}
+ */
+@NoRepositoryBean
+public interface FilterableRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecificationExecutor<T> {
+}
@@ -1,8 +1,15 @@
 package com.morago_backend.repository;
 
 import com.morago_backend.entity.Language;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface LanguageRepository extends JpaRepository<Language, Long> {}
-
 
+public interface LanguageRepository extends FilterableRepository<Language, Long> {
+
+    // Fields accepted by the paged language list
+    FilterSpecification<Language> FILTERS = FilterSpecification.<Language>builder()
+            .search("name")
+            .dateRange("createdAtDatetime")
+            .sort("id", "name", "createdAtDatetime", "updatedAtDatetime")
+            .sortAlias("createdAt", "createdAtDatetime")
+            .sortAlias("updatedAt", "updatedAtDatetime")
+            .build();
+}
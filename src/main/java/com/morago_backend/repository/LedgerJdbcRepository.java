@@ -0,0 +1,109 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.Transaction;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC-level access to user balances and the transaction ledger for bulk money movements.
+ * <p>
+ * {@code Transaction} uses IDENTITY keys, so Hibernate cannot batch its inserts; this repository
+ * writes balances and ledger rows with JDBC batches inside the caller's transaction instead.
+ */
+@Repository
+public class LedgerJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String LOCK_BALANCES_SQL =
+            "SELECT id, balance FROM users WHERE id IN (:ids) FOR UPDATE";
+
+    private static final String UPDATE_BALANCE_SQL =
+            "UPDATE users SET balance = ?, updated_at = ? WHERE id = ?";
+
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO transactions (user_id, transaction_type, amount, balance_before, balance_after, status, " +
+            "description, deposit_id, withdrawal_id, call_record_id, account_holder, bank_name, account_number, notes, " +
+            "created_at_datetime, updated_at_datetime) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public LedgerJdbcRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    /**
+     * Lock the given users' rows for the rest of the transaction and return their current balances.
+     * Users that do not exist are absent from the result; a null balance is returned as zero.
+     */
+    public Map<Long, BigDecimal> lockBalances(Collection<Long> userIds) {
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        if (userIds.isEmpty()) return balances;
+
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            namedJdbcTemplate.query(LOCK_BALANCES_SQL, new MapSqlParameterSource("ids", chunk), rs -> {
+                BigDecimal balance = rs.getBigDecimal("balance");
+                balances.put(rs.getLong("id"), balance == null ? BigDecimal.ZERO : balance);
+            });
+        }
+        return balances;
+    }
+
+    /**
+     * Write the new balance of every user in one JDBC batch
+     */
+    public void updateBalances(Map<Long, BigDecimal> balances) {
+        if (balances.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, new ArrayList<>(balances.entrySet()), BATCH_SIZE, (ps, entry) -> {
+            ps.setBigDecimal(1, entry.getValue());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, entry.getKey());
+        });
+    }
+
+    /**
+     * Insert ledger rows in JDBC batches. Only the user's ID is read from {@code Transaction.user},
+     * so a reference obtained with {@code getReferenceById} is enough.
+     */
+    public void insertTransactions(List<Transaction> transactions) {
+        if (transactions.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, transactions, BATCH_SIZE, (ps, t) -> {
+            ps.setLong(1, t.getUser().getId());
+            ps.setString(2, t.getTransactionType().name());
+            ps.setBigDecimal(3, t.getAmount());
+            ps.setBigDecimal(4, t.getBalanceBefore());
+            ps.setBigDecimal(5, t.getBalanceAfter());
+            ps.setString(6, t.getStatus());
+            ps.setString(7, t.getDescription());
+            ps.setObject(8, t.getDepositId(), Types.BIGINT);
+            ps.setObject(9, t.getWithdrawalId(), Types.BIGINT);
+            ps.setObject(10, t.getCallRecordId(), Types.BIGINT);
+            ps.setString(11, t.getAccountHolder());
+            ps.setString(12, t.getBankName());
+            ps.setString(13, t.getAccountNumber());
+            ps.setString(14, t.getNotes());
+            ps.setTimestamp(15, now);
+            ps.setTimestamp(16, now);
+        });
+    }
+}
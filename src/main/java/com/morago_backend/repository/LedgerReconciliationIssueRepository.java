@@ -0,0 +1,15 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.LedgerReconciliationIssue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LedgerReconciliationIssueRepository extends JpaRepository<LedgerReconciliationIssue, Long> {
+
+    Page<LedgerReconciliationIssue> findByRunIdOrderByUserIdAscIdAsc(Long runId, Pageable pageable);
+
+    Page<LedgerReconciliationIssue> findByRunIdAndIssueTypeOrderByUserIdAscIdAsc(Long runId, String issueType, Pageable pageable);
+}
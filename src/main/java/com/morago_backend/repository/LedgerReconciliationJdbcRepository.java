@@ -0,0 +1,130 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.LedgerReconciliationIssue;
+import com.morago_backend.entity.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Read-only scans of user balances and the transaction ledger used by the reconciliation job.
+ * <p>
+ * All reads are plain (non-locking) selects. Transactions are streamed row by row in
+ * {@code (user_id, id)} order, which the {@code idx_user_id} index already provides, so a scan
+ * never holds a whole range in memory and never blocks writers.
+ */
+@Repository
+public class LedgerReconciliationJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String USER_ID_RANGE_SQL = "SELECT MIN(id), MAX(id) FROM users";
+
+    private static final String BALANCES_SQL =
+            "SELECT id, balance FROM users WHERE id BETWEEN ? AND ?";
+
+    private static final String TRANSACTIONS_SQL =
+            "SELECT id, user_id, transaction_type, amount, balance_before, balance_after, status " +
+            "FROM transactions WHERE user_id BETWEEN ? AND ? ORDER BY user_id, id";
+
+    private static final String INSERT_ISSUE_SQL =
+            "INSERT INTO ledger_reconciliation_issues (run_id_bigint, user_id_bigint, transaction_id_bigint, " +
+            "issue_type_varchar50, expected_decimal12_2, actual_decimal12_2, details_varchar500, " +
+            "created_at_datetime, updated_at_datetime) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public LedgerReconciliationJdbcRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL Connector/J only streams result sets row by row with this fetch size
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Smallest and largest user ID, or an empty array when there are no users
+     */
+    public long[] findUserIdRange() {
+        return jdbcTemplate.query(USER_ID_RANGE_SQL, rs -> {
+            if (!rs.next()) return new long[0];
+            long min = rs.getLong(1);
+            if (rs.wasNull()) return new long[0];
+            return new long[]{min, rs.getLong(2)};
+        });
+    }
+
+    /**
+     * Current balances of users with IDs in {@code [fromId, toId]}; a null balance is returned as zero
+     */
+    public Map<Long, BigDecimal> findBalances(long fromId, long toId) {
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        jdbcTemplate.query(BALANCES_SQL, rs -> {
+            BigDecimal balance = rs.getBigDecimal("balance");
+            balances.put(rs.getLong("id"), balance == null ? BigDecimal.ZERO : balance);
+        }, fromId, toId);
+        return balances;
+    }
+
+    /**
+     * Stream ledger rows of users with IDs in {@code [fromId, toId]}, ordered by user and then by ID
+     */
+    public void streamTransactions(long fromId, long toId, Consumer<LedgerEntry> consumer) {
+        streamingJdbcTemplate.query(TRANSACTIONS_SQL, rs -> {
+            consumer.accept(new LedgerEntry(
+                    rs.getLong("id"),
+                    rs.getLong("user_id"),
+                    TransactionType.valueOf(rs.getString("transaction_type")),
+                    rs.getBigDecimal("amount"),
+                    rs.getBigDecimal("balance_before"),
+                    rs.getBigDecimal("balance_after"),
+                    rs.getString("status")));
+        }, fromId, toId);
+    }
+
+    /**
+     * Insert reported issues in JDBC batches
+     */
+    public void insertIssues(List<LedgerReconciliationIssue> issues) {
+        if (issues.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ISSUE_SQL, issues, BATCH_SIZE, (ps, issue) -> {
+            ps.setLong(1, issue.getRunId());
+            ps.setLong(2, issue.getUserId());
+            ps.setObject(3, issue.getTransactionId(), Types.BIGINT);
+            ps.setString(4, issue.getIssueType());
+            ps.setBigDecimal(5, issue.getExpected());
+            ps.setBigDecimal(6, issue.getActual());
+            ps.setString(7, issue.getDetails());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    /**
+     * One ledger row as read by the reconciliation scan
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class LedgerEntry {
+        private final long id;
+        private final long userId;
+        private final TransactionType transactionType;
+        private final BigDecimal amount;
+        private final BigDecimal balanceBefore;
+        private final BigDecimal balanceAfter;
+        private final String status;
+    }
+}
@@ -0,0 +1,28 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.LedgerReconciliationRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LedgerReconciliationRunRepository extends JpaRepository<LedgerReconciliationRun, Long> {
+
+    List<LedgerReconciliationRun> findAllByOrderByCreatedAtDatetimeDesc();
+
+    /**
+     * Add the progress of one finished ID range to the run's counters
+     */
+    @Modifying
+    @Query("UPDATE LedgerReconciliationRun r SET r.usersChecked = r.usersChecked + :users, " +
+           "r.transactionsChecked = r.transactionsChecked + :transactions, r.issuesFound = r.issuesFound + :issues " +
+           "WHERE r.id = :id")
+    int addProgress(@Param("id") Long id,
+                    @Param("users") long users,
+                    @Param("transactions") long transactions,
+                    @Param("issues") long issues);
+}
@@ -2,9 +2,53 @@ package com.morago_backend.repository;
 
 import com.morago_backend.entity.PasswordReset;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
+@Repository
 public interface PasswordResetRepository extends JpaRepository<PasswordReset, Long> {
-    Optional<PasswordReset> findTopByPhoneOrderByCreatedAtDatetimeDesc(String phone);
+
+    Optional<PasswordReset> findByPhone(String phone);
+
+    /**
+     * Count a wrong code and lock the reset once {@code maxAttempts} is reached, in one statement so
+     * concurrent guesses cannot overwrite each other's count. The lock is assigned first because MySQL
+     * evaluates single-table assignments left to right.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PasswordReset r SET " +
+            "r.lockedUntil = CASE WHEN r.failedAttempts + 1 >= :maxAttempts THEN :lockUntil ELSE r.lockedUntil END, " +
+            "r.failedAttempts = r.failedAttempts + 1 " +
+            "WHERE r.id = :id")
+    int incrementFailedAttempts(@Param("id") Long id,
+                                @Param("maxAttempts") int maxAttempts,
+                                @Param("lockUntil") LocalDateTime lockUntil);
+
+    /**
+     * Mark the reset verified only if it still holds {@code code} and is not locked; touches no other
+     * column, so a concurrent failure count or lock is never overwritten
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PasswordReset r SET r.isVerified = true, r.verificationToken = :token " +
+            "WHERE r.id = :id AND r.resetCode = :code AND (r.lockedUntil IS NULL OR r.lockedUntil <= :now)")
+    int markVerified(@Param("id") Long id,
+                     @Param("code") Integer code,
+                     @Param("token") String token,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * Remove resets whose code has expired and whose lockout, if any, is over
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PasswordReset r WHERE r.expiresAt < :now AND (r.lockedUntil IS NULL OR r.lockedUntil < :now)")
+    int deleteExpired(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,17 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.PayoutRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PayoutRunRepository extends JpaRepository<PayoutRun, Long> {
+
+    Optional<PayoutRun> findByCutoff(LocalDateTime cutoff);
+
+    List<PayoutRun> findAllByOrderByCreatedAtDatetimeDesc();
+}
@@ -0,0 +1,42 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Tokens of a family that can still refresh or whose access token has not expired yet; rotated
+     * tokens stay here until their access token expires so revocation reaches it too
+     */
+    @Query("SELECT t FROM RefreshToken t WHERE t.familyId = :familyId " +
+            "AND (t.revokedAt IS NULL OR t.accessExpiresAt > :now)")
+    List<RefreshToken> findLiveByFamilyId(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    /**
+     * Same as {@link #findLiveByFamilyId} across every session of a user
+     */
+    @Query("SELECT t FROM RefreshToken t WHERE t.userId = :userId " +
+            "AND (t.revokedAt IS NULL OR t.accessExpiresAt > :now)")
+    List<RefreshToken> findLiveByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Remove tokens that can no longer be used to refresh
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
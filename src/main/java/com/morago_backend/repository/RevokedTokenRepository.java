@@ -0,0 +1,33 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    /**
+     * Revocations recorded after the given time; used to pick up other instances' revocations
+     */
+    List<RevokedToken> findByCreatedAtDatetimeAfter(LocalDateTime since);
+
+    @Query("SELECT r.tokenId FROM RevokedToken r WHERE r.tokenId IN :tokenIds")
+    List<String> findExistingTokenIds(@Param("tokenIds") Collection<String> tokenIds);
+
+    /**
+     * Remove revocations of tokens that have expired anyway
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,11 +1,170 @@
 package com.morago_backend.repository;
 
 import com.morago_backend.entity.TranslatorProfile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TranslatorProfileRepository extends JpaRepository<TranslatorProfile, Long> {
     Optional<TranslatorProfile> findByUserPhone(String phone);
-}
 
+    Optional<TranslatorProfile> findByUserId(Long userId);
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    @Query("SELECT p.id FROM User u JOIN u.translatorProfile p WHERE u.id = :userId")
+    Optional<Long> findProfileIdByUserId(@Param("userId") Long userId);
+
+    // ========== SEARCH ==========
+    // Attribute filters shared by the search queries; a null parameter is not filtered on
+
+    String SEARCH_FILTERS =
+            " AND (:verified IS NULL OR p.is_verified = :verified)" +
+            " AND (:online IS NULL OR p.is_online = :online)" +
+            " AND (:available IS NULL OR p.is_available = :available)" +
+            " AND (:themeId IS NULL OR EXISTS (SELECT 1 FROM translator_themes tt" +
+            "      WHERE tt.translator_profile_id = p.id AND tt.theme_id = :themeId))" +
+            " AND (:languageId IS NULL OR EXISTS (SELECT 1 FROM translator_languages tl" +
+            "      WHERE tl.translator_profile_id = p.id AND tl.language_id = :languageId))";
+
+    String SEARCH_MATCH =
+            " FROM translator_profiles p JOIN translator_search s ON s.translator_profile_id_bigint = p.id" +
+            " WHERE MATCH(s.document_text) AGAINST (:term IN BOOLEAN MODE)";
+
+    /**
+     * Full-text search over the translator_search documents; {@code term} is a boolean-mode query.
+     * Returns the page's profile ids, loaded with {@link #findAllWithUserByIdIn}.
+     */
+    @Query(value = "SELECT p.id" + SEARCH_MATCH + SEARCH_FILTERS,
+            countQuery = "SELECT COUNT(*)" + SEARCH_MATCH + SEARCH_FILTERS,
+            nativeQuery = true)
+    Page<Long> searchIds(@Param("term") String term,
+                                   @Param("verified") Boolean verified,
+                                   @Param("online") Boolean online,
+                                   @Param("available") Boolean available,
+                                   @Param("themeId") Long themeId,
+                                   @Param("languageId") Long languageId,
+                                   Pageable pageable);
+
+    @Query(value = "SELECT p.id FROM translator_profiles p WHERE 1 = 1" + SEARCH_FILTERS,
+            countQuery = "SELECT COUNT(*) FROM translator_profiles p WHERE 1 = 1" + SEARCH_FILTERS,
+            nativeQuery = true)
+    Page<Long> filterIds(@Param("verified") Boolean verified,
+                                   @Param("online") Boolean online,
+                                   @Param("available") Boolean available,
+                                   @Param("themeId") Long themeId,
+                                   @Param("languageId") Long languageId,
+                                   Pageable pageable);
+
+    // Search documents: names, email, level of Korean and theme names of each profile
+
+    String SEARCH_DOCUMENT_SELECT =
+            "SELECT p.id, CONCAT_WS(' ', u.first_name, u.last_name, p.email, p.level_of_korean," +
+            "       GROUP_CONCAT(CONCAT_WS(' ', t.name, t.korean_title) SEPARATOR ' ')), NOW(6)" +
+            " FROM translator_profiles p JOIN users u ON u.translator_profile_id = p.id" +
+            " LEFT JOIN translator_themes tt ON tt.translator_profile_id = p.id" +
+            " LEFT JOIN themes t ON t.id = tt.theme_id";
+
+    String SEARCH_DOCUMENT_UPSERT =
+            " GROUP BY p.id, u.first_name, u.last_name, p.email, p.level_of_korean" +
+            " ON DUPLICATE KEY UPDATE document_text = VALUES(document_text), updated_at_datetime = VALUES(updated_at_datetime)";
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO translator_search (translator_profile_id_bigint, document_text, updated_at_datetime) " +
+            SEARCH_DOCUMENT_SELECT + " WHERE p.id = :profileId" + SEARCH_DOCUMENT_UPSERT, nativeQuery = true)
+    int upsertSearchDocument(@Param("profileId") Long profileId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO translator_search (translator_profile_id_bigint, document_text, updated_at_datetime) " +
+            SEARCH_DOCUMENT_SELECT + SEARCH_DOCUMENT_UPSERT, nativeQuery = true)
+    int upsertAllSearchDocuments();
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE s FROM translator_search s LEFT JOIN translator_profiles p ON p.id = s.translator_profile_id_bigint " +
+            "WHERE p.id IS NULL", nativeQuery = true)
+    int deleteOrphanedSearchDocuments();
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM translator_search WHERE translator_profile_id_bigint = :profileId", nativeQuery = true)
+    int deleteSearchDocument(@Param("profileId") Long profileId);
+
+    // ========== READ MODELS ==========
+    // Profiles are loaded together with their user: the user side owns the one-to-one, so without the
+    // fetch join Hibernate loads each profile's user with a query of its own. Theme and language names
+    // for a whole page of profiles come in one query each, instead of one lazy collection load per profile
+
+    @Query("SELECT p FROM TranslatorProfile p LEFT JOIN FETCH p.user")
+    List<TranslatorProfile> findAllWithUser();
+
+    @Query("SELECT p FROM TranslatorProfile p LEFT JOIN FETCH p.user WHERE p.id IN :ids")
+    List<TranslatorProfile> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p FROM TranslatorProfile p LEFT JOIN FETCH p.user WHERE p.isVerified = false OR p.isVerified IS NULL")
+    List<TranslatorProfile> findUnverified();
+
+    @Query("SELECT p.id AS profileId, t.name AS name FROM TranslatorProfile p JOIN p.themes t WHERE p.id IN :profileIds ORDER BY p.id, t.name, t.id")
+    List<NameLink> findThemeNames(@Param("profileIds") Collection<Long> profileIds);
+
+    @Query("SELECT p.id AS profileId, l.name AS name FROM TranslatorProfile p JOIN p.languages l WHERE p.id IN :profileIds ORDER BY p.id, l.name, l.id")
+    List<NameLink> findLanguageNames(@Param("profileIds") Collection<Long> profileIds);
+
+    interface NameLink {
+        Long getProfileId();
+        String getName();
+    }
+
+    // ========== AVAILABILITY INDEX ==========
+    // Flat projections used to build the in-memory availability index without loading entities
+
+    @Query("SELECT p.id AS profileId, u.id AS userId, p.isOnline AS online, p.isAvailable AS available, " +
+            "p.isVerified AS verified, u.isActive AS active, u.ratings AS ratings FROM User u JOIN u.translatorProfile p")
+    List<IndexRow> findIndexRows();
+
+    @Query("SELECT p.id AS profileId, u.id AS userId, p.isOnline AS online, p.isAvailable AS available, " +
+            "p.isVerified AS verified, u.isActive AS active, u.ratings AS ratings FROM User u JOIN u.translatorProfile p WHERE p.id = :profileId")
+    Optional<IndexRow> findIndexRow(@Param("profileId") Long profileId);
+
+    @Query("SELECT p.id AS profileId, u.id AS userId, p.isOnline AS online, p.isAvailable AS available, " +
+            "p.isVerified AS verified, u.isActive AS active, u.ratings AS ratings FROM User u JOIN u.translatorProfile p WHERE p.id IN :profileIds")
+    List<IndexRow> findIndexRows(@Param("profileIds") Collection<Long> profileIds);
+
+    @Query("SELECT p.id AS profileId, t.id AS valueId FROM TranslatorProfile p JOIN p.themes t")
+    List<IndexLink> findThemeLinks();
+
+    @Query("SELECT p.id AS profileId, t.id AS valueId FROM TranslatorProfile p JOIN p.themes t WHERE p.id = :profileId")
+    List<IndexLink> findThemeLinks(@Param("profileId") Long profileId);
+
+    @Query("SELECT p.id AS profileId, l.id AS valueId FROM TranslatorProfile p JOIN p.languages l")
+    List<IndexLink> findLanguageLinks();
+
+    @Query("SELECT p.id AS profileId, l.id AS valueId FROM TranslatorProfile p JOIN p.languages l WHERE p.id = :profileId")
+    List<IndexLink> findLanguageLinks(@Param("profileId") Long profileId);
+
+    interface IndexRow {
+        Long getProfileId();
+        Long getUserId();
+        Boolean getOnline();
+        Boolean getAvailable();
+        Boolean getVerified();
+        Boolean getActive();
+        BigDecimal getRatings();
+    }
+
+    interface IndexLink {
+        Long getProfileId();
+        Long getValueId();
+    }
+}
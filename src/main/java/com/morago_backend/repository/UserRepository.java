@@ -2,14 +2,42 @@ package com.morago_backend.repository;
 
 import com.morago_backend.entity.UserRole;
 import com.morago_backend.entity.User;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends FilterableRepository<User, Long> {
+
+    // Fields accepted by the paged user lists
+    FilterSpecification<User> FILTERS = FilterSpecification.<User>builder()
+            .search("phone", "firstName", "lastName")
+            .memberFilter("role", "roles", UserRole.class)
+            .filter("active", "isActive", Boolean.class)
+            .dateRange("createdAt")
+            .sort("id", "phone", "firstName", "lastName", "balance", "ratings", "isActive", "createdAt", "updatedAt")
+            .build();
+
     Optional<User> findByPhone(String phone);
+
+    // Existence check without loading the user or its roles
+    boolean existsByPhone(String phone);
+
+    @Query("SELECT u.phone FROM User u")
+    List<String> findAllPhones();
+    
+    // Locks the user's row until the surrounding transaction ends; used before changing the balance
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
     List<User> findByRoles(UserRole role);
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.phone = :phone")
+    int updatePasswordByPhone(@Param("phone") String phone, @Param("password") String password);
     
     // Account status queries
     List<User> findByIsActive(Boolean isActive);
@@ -3,13 +3,17 @@ package com.morago_backend.repository;
 import com.morago_backend.entity.Withdrawal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -125,6 +129,46 @@ public interface WithdrawalRepository extends JpaRepository<Withdrawal, Long> {
      * Check if user has pending withdrawals
      */
     boolean existsByUserIdAndStatus(Long userId, String status);
+    
+    // ========== PAYOUT RUNS ==========
+    
+    /**
+     * Claim every unclaimed pending withdrawal created up to the cutoff for a payout run
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Withdrawal w SET w.payoutRunId = :runId " +
+           "WHERE w.status = 'PENDING' AND w.payoutRunId IS NULL AND w.createdAtDatetime <= :cutoff")
+    int claimPendingForRun(@Param("runId") Long runId, @Param("cutoff") LocalDateTime cutoff);
+    
+    /**
+     * Next chunk of a run's still-pending withdrawals, locked for the rest of the transaction
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM Withdrawal w WHERE w.payoutRunId = :runId AND w.status = 'PENDING' ORDER BY w.id")
+    List<Withdrawal> findPendingForRun(@Param("runId") Long runId, Pageable pageable);
+    
+    /**
+     * Withdrawals of a run with a given status, in ID order (used for the bank payout file)
+     */
+    List<Withdrawal> findByPayoutRunIdAndStatusOrderByIdAsc(Long payoutRunId, String status);
+    
+    /**
+     * Set the status of several withdrawals in a single statement
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Withdrawal w SET w.status = :status, w.updatedAtDatetime = :updatedAt WHERE w.id IN :ids")
+    int updateStatusByIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") String status,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+    
+    /**
+     * Return withdrawals to the unclaimed pool so a later run or a manual decision can pick them up
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Withdrawal w SET w.payoutRunId = NULL WHERE w.id IN :ids")
+    int releaseFromRun(@Param("ids") Collection<Long> ids);
 }
 
 
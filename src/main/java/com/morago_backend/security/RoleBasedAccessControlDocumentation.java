@@ -82,8 +82,11 @@ package com.morago_backend.security;
  *    }
  * 
  * 3. URL-based security (in SecurityConfig):
- *    .requestMatchers("/api/roles/**").hasRole("ADMINISTRATOR")
- *    .requestMatchers("/api/translator-profiles/**").hasAnyRole("INTERPRETER", "ADMINISTRATOR")
+ *    .requestMatchers("/api/roles/**").access(RolePolicy.ADMINISTRATOR)
+ *    .requestMatchers("/api/translator-profiles/**").access(RolePolicy.INTERPRETER_OR_ADMIN)
+ * 
+ * 4. Method security (RolePolicyEvaluator, bean "rbac"):
+ *    @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")
  * 
  * SECURITY CONSIDERATIONS:
  * =======================
@@ -0,0 +1,110 @@
+package com.morago_backend.security;
+
+import com.morago_backend.entity.UserRole;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A set of {@link UserRole}s packed into an {@code int}, one bit per role ordinal.
+ * <p>
+ * The mask is computed once when the access token is verified (see {@link RoleMaskAuthenticationToken});
+ * after that, any role check is a single AND with a precompiled {@link RolePolicy} mask.
+ */
+public final class RoleMask {
+
+    public static final int NONE = 0;
+
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final String[] AUTHORITIES = new String[ROLES.length];
+
+    static {
+        for (UserRole role : ROLES) {
+            AUTHORITIES[role.ordinal()] = "ROLE_" + role.name();
+        }
+    }
+
+    private RoleMask() {
+    }
+
+    public static int bit(UserRole role) {
+        return 1 << role.ordinal();
+    }
+
+    public static int of(UserRole... roles) {
+        int mask = NONE;
+        for (UserRole role : roles) {
+            mask |= bit(role);
+        }
+        return mask;
+    }
+
+    public static int of(Collection<UserRole> roles) {
+        int mask = NONE;
+        for (UserRole role : roles) {
+            mask |= bit(role);
+        }
+        return mask;
+    }
+
+    /**
+     * Mask from role names, with or without the {@code ROLE_} prefix; unknown names are ignored
+     */
+    public static int ofNames(String... roleNames) {
+        int mask = NONE;
+        for (String name : roleNames) {
+            mask |= bitOfName(name.startsWith("ROLE_") ? name.substring(5) : name);
+        }
+        return mask;
+    }
+
+    /**
+     * Mask of the caller: read from the token when it was compiled at verification, otherwise
+     * derived from the granted authorities
+     */
+    public static int of(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return NONE;
+        }
+        if (authentication instanceof RoleMaskAuthenticationToken token) {
+            return token.getRoleMask();
+        }
+        return ofAuthorities(authentication.getAuthorities());
+    }
+
+    public static int ofAuthorities(Collection<? extends GrantedAuthority> authorities) {
+        int mask = NONE;
+        for (GrantedAuthority authority : authorities) {
+            String name = authority.getAuthority();
+            for (int i = 0; i < AUTHORITIES.length; i++) {
+                if (AUTHORITIES[i].equals(name)) {
+                    mask |= 1 << i;
+                    break;
+                }
+            }
+        }
+        return mask;
+    }
+
+    public static Set<UserRole> toRoles(int mask) {
+        Set<UserRole> roles = EnumSet.noneOf(UserRole.class);
+        for (UserRole role : ROLES) {
+            if ((mask & bit(role)) != 0) roles.add(role);
+        }
+        return roles;
+    }
+
+    public static boolean has(int mask, UserRole role) {
+        return (mask & bit(role)) != 0;
+    }
+
+    private static int bitOfName(String name) {
+        for (UserRole role : ROLES) {
+            if (role.name().equals(name)) return bit(role);
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,26 @@
+package com.morago_backend.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.Collection;
+
+/**
+ * JWT authentication that also carries the caller's roles as a precompiled {@link RoleMask}
+ */
+public class RoleMaskAuthenticationToken extends JwtAuthenticationToken {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int roleMask;
+
+    public RoleMaskAuthenticationToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities, int roleMask) {
+        super(jwt, authorities);
+        this.roleMask = roleMask;
+    }
+
+    public int getRoleMask() {
+        return roleMask;
+    }
+}
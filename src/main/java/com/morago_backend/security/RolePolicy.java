@@ -0,0 +1,52 @@
+package com.morago_backend.security;
+
+import com.morago_backend.entity.UserRole;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.function.Supplier;
+
+/**
+ * Access policies compiled to role masks. A caller passes a policy when it holds any of the policy's
+ * roles, which is one AND against the caller's {@link RoleMask}.
+ * <p>
+ * Each policy is also an {@link AuthorizationManager}, so URL rules in {@code SecurityConfig} can use
+ * it directly with {@code .access(...)}.
+ */
+public enum RolePolicy implements AuthorizationManager<RequestAuthorizationContext> {
+
+    CLIENT(UserRole.CLIENT),
+    INTERPRETER(UserRole.INTERPRETER),
+    ADMINISTRATOR(UserRole.ADMINISTRATOR),
+    CLIENT_OR_ADMIN(UserRole.CLIENT, UserRole.ADMINISTRATOR),
+    INTERPRETER_OR_ADMIN(UserRole.INTERPRETER, UserRole.ADMINISTRATOR),
+    ANY_ROLE(UserRole.CLIENT, UserRole.INTERPRETER, UserRole.ADMINISTRATOR);
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final int mask;
+
+    RolePolicy(UserRole... roles) {
+        this.mask = RoleMask.of(roles);
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    public boolean allows(int roleMask) {
+        return (roleMask & mask) != 0;
+    }
+
+    public boolean allows(Authentication authentication) {
+        return allows(RoleMask.of(authentication));
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return allows(authentication.get()) ? GRANTED : DENIED;
+    }
+}
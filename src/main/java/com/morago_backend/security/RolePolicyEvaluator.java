@@ -0,0 +1,18 @@
+package com.morago_backend.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link RolePolicy} checks for method security, e.g.
+ * {@code @PreAuthorize("@rbac.has(authentication, 'ADMINISTRATOR')")}. The policy name is converted to
+ * the enum constant, and the check is one AND against the caller's {@link RoleMask} instead of the
+ * authority scan behind {@code hasRole(...)}.
+ */
+@Component("rbac")
+public class RolePolicyEvaluator {
+
+    public boolean has(Authentication authentication, RolePolicy policy) {
+        return policy.allows(authentication);
+    }
+}
@@ -1,5 +1,6 @@
 package com.morago_backend.service;
 
+import com.morago_backend.config.ReplicaRead;
 import com.morago_backend.dto.dtoRequest.FilterRequest;
 import com.morago_backend.dto.dtoRequest.PaginationRequest;
 import com.morago_backend.dto.dtoRequest.UserRequestDTO;
@@ -7,15 +8,18 @@ import com.morago_backend.dto.dtoResponse.PagedResponse;
 import com.morago_backend.dto.dtoResponse.UserResponseDTO;
 import com.morago_backend.entity.User;
 import com.morago_backend.entity.UserRole;
+import com.morago_backend.event.UserPrincipalChangedEvent;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.UserRepository;
 import com.corundumstudio.socketio.SocketIOServer;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -27,6 +31,8 @@ public class AdminService {
     private final UserRepository userRepository;
     private final SocketIOServer socketServer;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RefreshTokenService refreshTokenService;
 
     private static final Logger logger = LoggerFactory.getLogger(AdminService.class);
 
@@ -57,10 +63,15 @@ public class AdminService {
         try {
             User existing = userRepository.findById(id)
                     .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+            String previousPhone = existing.getPhone();
+            Boolean previousActive = existing.getIsActive();
+            Set<UserRole> previousRoles = Set.copyOf(existing.getRoles());
+            boolean passwordChanged = false;
 
             if (dto.getPhone() != null) existing.setPhone(dto.getPhone());
             if (dto.getPassword() != null && !dto.getPassword().isBlank()) {
                 existing.setPassword(passwordEncoder.encode(dto.getPassword()));
+                passwordChanged = true;
             }
             if (dto.getFirstName() != null) existing.setFirstName(dto.getFirstName());
             if (dto.getLastName() != null) existing.setLastName(dto.getLastName());
@@ -68,6 +79,12 @@ public class AdminService {
             if (dto.getRole() != null) existing.setRoles(parseRolesFromRequest(dto));
 
             User saved = userRepository.save(existing);
+            // Issued tokens carry the old roles and outlive the old password, so end the user's sessions
+            if (passwordChanged || !Objects.equals(previousActive, saved.getIsActive())
+                    || !previousRoles.equals(saved.getRoles())) {
+                refreshTokenService.revokeAllForUser(saved.getId());
+            }
+            eventPublisher.publishEvent(new UserPrincipalChangedEvent(saved.getId(), previousPhone));
             UserResponseDTO responseDTO = mapToResponse(saved);
             socketServer.getBroadcastOperations().sendEvent("userUpdated", responseDTO);
             logger.info("User updated successfully with id={}", saved.getId());
@@ -81,7 +98,10 @@ public class AdminService {
     // ========== DELETE ==========
     public void delete(Long id) {
         try {
+            // Revoke first: the user's refresh tokens are deleted with the user
+            refreshTokenService.revokeAllForUser(id);
             userRepository.deleteById(id);
+            eventPublisher.publishEvent(new UserPrincipalChangedEvent(id, null));
             socketServer.getBroadcastOperations().sendEvent("userDeleted", id);
             logger.info("User deleted successfully with id={}", id);
         } catch (Exception e) {
@@ -91,14 +111,17 @@ public class AdminService {
     }
 
     // ========== GET BY ID ==========
+    @Transactional(readOnly = true)
     public Optional<UserResponseDTO> findByIdDTO(Long id) {
         return userRepository.findById(id).map(this::mapToResponse);
     }
 
     // ========== GET ALL WITH PAGINATION & FILTER ==========
+    @ReplicaRead
+    @Transactional(readOnly = true)
     public PagedResponse<UserResponseDTO> findAllDTOWithPaginationAndFilter(PaginationRequest pagination, FilterRequest filter) {
-        Pageable pageable = PageRequest.of(pagination.getPage(), pagination.getSize());
-        Page<User> page = applyFilters(userRepository.findAll(pageable), filter);
+        Page<User> page = userRepository.findAll(UserRepository.FILTERS.toSpecification(filter),
+                UserRepository.FILTERS.toPageable(pagination));
         List<UserResponseDTO> content = page.getContent().stream()
                 .map(this::mapToResponse)
                 .toList();
@@ -111,6 +134,8 @@ public class AdminService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         user.setIsActive(false);
         User saved = userRepository.save(user);
+        refreshTokenService.revokeAllForUser(saved.getId());
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(saved.getId(), saved.getPhone()));
         UserResponseDTO dto = mapToResponse(saved);
         socketServer.getBroadcastOperations().sendEvent("userBlocked", dto);
         return dto;
@@ -121,6 +146,7 @@ public class AdminService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         user.setIsActive(true);
         User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(saved.getId(), saved.getPhone()));
         UserResponseDTO dto = mapToResponse(saved);
         socketServer.getBroadcastOperations().sendEvent("userActivated", dto);
         return dto;
@@ -149,37 +175,4 @@ public class AdminService {
         dto.setUpdatedAtDatetime(user.getUpdatedAt());
         return dto;
     }
-
-    private Page<User> applyFilters(Page<User> page, FilterRequest filter) {
-        if (filter == null) return page;
-
-        List<User> filtered = page.getContent();
-
-        if (filter.hasSearch()) {
-            String term = filter.getSearch().toLowerCase();
-            filtered = filtered.stream()
-                    .filter(u -> u.getPhone().toLowerCase().contains(term) ||
-                            (u.getFirstName() != null && u.getFirstName().toLowerCase().contains(term)) ||
-                            (u.getLastName() != null && u.getLastName().toLowerCase().contains(term)))
-                    .toList();
-        }
-
-        if (filter.hasFilters()) {
-            if (filter.getFilters().containsKey("role")) {
-                String roleFilter = filter.getFilters().get("role").toString();
-                filtered = filtered.stream()
-                        .filter(u -> u.getRoles().stream()
-                                .anyMatch(r -> r.name().equalsIgnoreCase(roleFilter)))
-                        .toList();
-            }
-            if (filter.getFilters().containsKey("active")) {
-                boolean activeFilter = Boolean.parseBoolean(filter.getFilters().get("active").toString());
-                filtered = filtered.stream()
-                        .filter(u -> Boolean.TRUE.equals(u.getIsActive()) == activeFilter)
-                        .toList();
-            }
-        }
-
-        return new PageImpl<>(filtered, page.getPageable(), page.getTotalElements());
-    }
 }
@@ -1,20 +1,23 @@
 package com.morago_backend.service;
 
 import com.morago_backend.entity.*;
+import com.morago_backend.event.TranslatorProfileChangedEvent;
 import com.morago_backend.payload.ClientSignupRequest;
+import com.morago_backend.payload.LoginResponse;
 import com.morago_backend.payload.SignupResponse;
 import com.morago_backend.payload.TranslatorSignupRequest;
 import com.morago_backend.repository.UserRepository;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
+import com.morago_backend.service.PrincipalCache.CachedPrincipal;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import javax.crypto.SecretKey;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -22,80 +25,59 @@ import java.util.stream.Collectors;
 @Service
 public class AuthService {
 
+    private static final String PHONE_ALREADY_REGISTERED = "Phone number already registered";
+
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final SecretKey jwtSecret;
-    private final long jwtExpirationMs;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenService refreshTokenService;
+    private final RegisteredPhoneFilter registeredPhoneFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AuthService(AuthenticationManager authenticationManager,
                        UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
-                       @Value("${security.jwt.secret}") String base64Secret,
-                       @Value("${security.jwt.expiration-ms:3600000}") String jwtExpirationMsStr) {
+                       PrincipalCache principalCache,
+                       RefreshTokenService refreshTokenService,
+                       RegisteredPhoneFilter registeredPhoneFilter,
+                       PlatformTransactionManager transactionManager,
+                       ApplicationEventPublisher eventPublisher) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
-        this.jwtSecret = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
-        this.jwtExpirationMs = parseJwtExpirationMs(jwtExpirationMsStr);
+        this.principalCache = principalCache;
+        this.refreshTokenService = refreshTokenService;
+        this.registeredPhoneFilter = registeredPhoneFilter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
     }
     
-    private long parseJwtExpirationMs(String value) {
-        try {
-            long expirationMs = Long.parseLong(value);
-            if (expirationMs <= 0) {
-                throw new IllegalArgumentException("JWT expiration must be greater than 0, got: " + expirationMs);
-            }
-            return expirationMs;
-        } catch (NumberFormatException e) {
-            System.err.println("ERROR: Invalid security.jwt.expiration-ms value. Expected a number but got: " + value);
-            System.err.println("Please set JWT_EXPIRATION_MS to a valid number (e.g., 3600000) in your Railway environment variables.");
-            throw new IllegalArgumentException("JWT_EXPIRATION_MS must be a valid number. Current value: " + value, e);
-        }
-    }
-
-    public String login(String phone, String password) {
+    public LoginResponse login(String phone, String password) {
         authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(phone, password));
 
-        User user = userRepository.findByPhone(phone)
+        // Already loaded into the cache by the authentication above
+        CachedPrincipal user = principalCache.getByPhone(phone)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<String> roles = user.getRoles().stream()
-                .map(Enum::name)
-                .toList();
-
-        long now = System.currentTimeMillis();
-        long exp = now + jwtExpirationMs;
+        return refreshTokenService.issue(user.getId(), user.getPhone(), user.getRoles());
+    }
 
-        return Jwts.builder()
-                .setSubject(phone)
-                .claim("roles", roles)
-                .claim("id", user.getId()) // Add numeric ID for frontend validation
-                .setIssuedAt(new Date(now))
-                .setExpiration(new Date(exp))
-                .signWith(jwtSecret)
-                .compact();
+    public LoginResponse refresh(String refreshToken) {
+        return refreshTokenService.refresh(refreshToken);
+    }
 
+    public void logout(String refreshToken) {
+        refreshTokenService.logout(refreshToken);
     }
 
+    // ========== SIGNUP ==========
     public SignupResponse signupClient(ClientSignupRequest request) {
-        // Check if phone already exists
-        if (userRepository.findByPhone(request.getPhone()).isPresent()) {
-            throw new IllegalArgumentException("Phone number already registered");
-        }
+        rejectIfRegistered(request.getPhone());
 
-        // Create user
-        User user = new User();
-        user.setPhone(request.getPhone());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setFirstName(request.getFirstName());
-        user.setLastName(request.getLastName());
-        user.setIsActive(true);
-        
-        // Add CLIENT role
-        Set<UserRole> roles = new HashSet<>();
-        roles.add(UserRole.CLIENT);
-        user.setRoles(roles);
+        // Create user with the CLIENT role
+        User user = newUser(request.getPhone(), request.getPassword(), request.getFirstName(), request.getLastName(), UserRole.CLIENT);
 
         // Create user profile
         UserProfile userProfile = new UserProfile();
@@ -105,41 +87,14 @@ public class AuthService {
         userProfile.setUser(user);
         user.setUserProfile(userProfile);
 
-        // Save user
-        User savedUser = userRepository.save(user);
-
-        // Generate JWT token
-        String token = generateToken(savedUser);
-
-        // Return response
-        return new SignupResponse(
-                token,
-                savedUser.getId(),
-                savedUser.getPhone(),
-                savedUser.getFirstName(),
-                savedUser.getLastName(),
-                savedUser.getRoles().stream().map(Enum::name).collect(Collectors.toSet())
-        );
+        return register(user);
     }
 
     public SignupResponse signupTranslator(TranslatorSignupRequest request) {
-        // Check if phone already exists
-        if (userRepository.findByPhone(request.getPhone()).isPresent()) {
-            throw new IllegalArgumentException("Phone number already registered");
-        }
+        rejectIfRegistered(request.getPhone());
 
-        // Create user
-        User user = new User();
-        user.setPhone(request.getPhone());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setFirstName(request.getFirstName());
-        user.setLastName(request.getLastName());
-        user.setIsActive(true);
-        
-        // Add INTERPRETER role
-        Set<UserRole> roles = new HashSet<>();
-        roles.add(UserRole.INTERPRETER);
-        user.setRoles(roles);
+        // Create user with the INTERPRETER role
+        User user = newUser(request.getPhone(), request.getPassword(), request.getFirstName(), request.getLastName(), UserRole.INTERPRETER);
 
         // Create translator profile
         TranslatorProfile translatorProfile = new TranslatorProfile();
@@ -154,38 +109,72 @@ public class AuthService {
         translatorProfile.setUser(user);
         user.setTranslatorProfile(translatorProfile);
 
-        // Save user
-        User savedUser = userRepository.save(user);
-
-        // Generate JWT token
-        String token = generateToken(savedUser);
-
-        // Return response
-        return new SignupResponse(
-                token,
-                savedUser.getId(),
-                savedUser.getPhone(),
-                savedUser.getFirstName(),
-                savedUser.getLastName(),
-                savedUser.getRoles().stream().map(Enum::name).collect(Collectors.toSet())
-        );
+        return register(user);
+    }
+
+    // ========== HELPERS ==========
+    /**
+     * Turn away duplicates before the password is hashed. Phones the filter has never seen skip the
+     * query entirely; the unique index on {@code users.phone} catches anything the filter missed.
+     */
+    private void rejectIfRegistered(String phone) {
+        if (registeredPhoneFilter.mightBeRegistered(phone) && userRepository.existsByPhone(phone)) {
+            throw new IllegalArgumentException(PHONE_ALREADY_REGISTERED);
+        }
+    }
+
+    private User newUser(String phone, String rawPassword, String firstName, String lastName, UserRole role) {
+        User user = new User();
+        user.setPhone(phone);
+        // Hashed outside the transaction so no connection is held while BCrypt runs
+        user.setPassword(passwordEncoder.encode(rawPassword));
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setIsActive(true);
+        user.setRoles(EnumSet.of(role));
+        return user;
+    }
+
+    /**
+     * Insert the user, its profile and roles and the first refresh token in one transaction and a single
+     * flush. A concurrent signup with the same phone surfaces as a unique index violation.
+     */
+    private SignupResponse register(User user) {
+        try {
+            return transactionTemplate.execute(status -> {
+                User savedUser = userRepository.saveAndFlush(user);
+                if (savedUser.getTranslatorProfile() != null) {
+                    eventPublisher.publishEvent(new TranslatorProfileChangedEvent(savedUser.getTranslatorProfile().getId()));
+                }
+
+                // Generate access and refresh tokens
+                LoginResponse tokens = refreshTokenService.issue(savedUser.getId(), savedUser.getPhone(), savedUser.getRoles());
+                registeredPhoneFilter.add(savedUser.getPhone());
+
+                return new SignupResponse(
+                        tokens.getToken(),
+                        tokens.getRefreshToken(),
+                        savedUser.getId(),
+                        savedUser.getPhone(),
+                        savedUser.getFirstName(),
+                        savedUser.getLastName(),
+                        savedUser.getRoles().stream().map(Enum::name).collect(Collectors.toSet())
+                );
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (isPhoneConstraintViolation(e)) {
+                registeredPhoneFilter.add(user.getPhone());
+                throw new IllegalArgumentException(PHONE_ALREADY_REGISTERED);
+            }
+            throw e;
+        }
     }
 
-    private String generateToken(User user) {
-        List<String> roles = user.getRoles().stream()
-                .map(Enum::name)
-                .toList();
-
-        long now = System.currentTimeMillis();
-        long exp = now + jwtExpirationMs;
-
-        return Jwts.builder()
-                .setSubject(user.getPhone())
-                .claim("roles", roles)
-                .claim("id", user.getId())
-                .setIssuedAt(new Date(now))
-                .setExpiration(new Date(exp))
-                .signWith(jwtSecret)
-                .compact();
+    private static boolean isPhoneConstraintViolation(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+            return violation.getConstraintName().toLowerCase(Locale.ROOT).contains("phone");
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains("phone");
     }
 }
@@ -3,28 +3,29 @@ package com.morago_backend.service;
 import com.morago_backend.dto.dtoRequest.FilterRequest;
 import com.morago_backend.dto.dtoRequest.PaginationRequest;
 import com.morago_backend.dto.dtoResponse.PagedResponse;
-import org.springframework.data.domain.*;
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.morago_backend.repository.FilterSpecification;
+import com.morago_backend.repository.FilterableRepository;
+import org.springframework.data.domain.Page;
 
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Base service providing common CRUD operations with pagination and filtering.
+ * Filtering, sorting and counting are done in the database through the subclass's
+ * {@link FilterSpecification}.
  */
 public abstract class BaseServiceImpl<T, ID> implements BaseService<T, ID> {
 
-    protected abstract JpaRepository<T, ID> getRepository();
+    protected abstract FilterableRepository<T, ID> getRepository();
+
+    // Searchable, filterable and sortable fields of the entity
+    protected abstract FilterSpecification<T> getFilterSpecification();
 
     //=== Find all with pagination and optional filtering ===//
     @Override
     public PagedResponse<T> findAll(PaginationRequest pagination, FilterRequest filter) {
-        Sort sort = Sort.by(pagination.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC,
-                pagination.getSortBy());
-        Pageable pageable = PageRequest.of(pagination.getPage(), pagination.getSize(), sort);
-
-        Page<T> page = applyFilters(getRepository().findAll(pageable), filter);
-
+        Page<T> page = findPage(pagination, filter);
         return new PagedResponse<>(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements());
     }
 
@@ -61,14 +62,15 @@ public abstract class BaseServiceImpl<T, ID> implements BaseService<T, ID> {
         getRepository().deleteById(id);
     }
 
-    //=== Count entities (subclass can override for filtered count) ===//
+    //=== Count entities matching the filter ===//
     @Override
     public long count(FilterRequest filter) {
-        return getRepository().count();
+        return getRepository().count(getFilterSpecification().toSpecification(filter));
     }
 
-    //=== Apply filters (override in subclass if needed) ===//
-    protected Page<T> applyFilters(Page<T> page, FilterRequest filter) {
-        return page;
+    //=== Page of entities filtered, sorted and counted in the database ===//
+    protected Page<T> findPage(PaginationRequest pagination, FilterRequest filter) {
+        FilterSpecification<T> specification = getFilterSpecification();
+        return getRepository().findAll(specification.toSpecification(filter), specification.toPageable(pagination));
     }
 }
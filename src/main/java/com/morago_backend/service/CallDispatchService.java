@@ -0,0 +1,395 @@
+package com.morago_backend.service;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.morago_backend.config.CurrentUser;
+import com.morago_backend.dto.dtoRequest.CallDispatchRequestDTO;
+import com.morago_backend.dto.dtoResponse.CallDispatchResponseDTO;
+import com.morago_backend.dto.dtoResponse.CallOfferDTO;
+import com.morago_backend.entity.CallOffer;
+import com.morago_backend.entity.CallRecord;
+import com.morago_backend.exception.ConflictException;
+import com.morago_backend.exception.ResourceNotFoundException;
+import com.morago_backend.repository.CallOfferRepository;
+import com.morago_backend.repository.CallRecordRepository;
+import com.morago_backend.service.TranslatorAvailabilityIndex.Candidate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Matches a caller's call request with a translator.
+ * <p>
+ * Candidates come from the {@link TranslatorAvailabilityIndex}: verified, online and available translators
+ * for the theme and language, with the least outstanding offers first and then the highest rating. The
+ * call is offered to the top {@code call-dispatch.candidates-per-round} at once over Socket.IO; the first
+ * to accept wins a compare-and-set on the dispatch, backed by a conditional update of the call row so the
+ * outcome holds across instances, and the other offers are cancelled. If nobody accepts within
+ * {@code call-dispatch.offer-timeout-ms} the round's offers are withdrawn and the next candidates are tried,
+ * up to {@code call-dispatch.max-rounds}. Outstanding offers are also stored in {@code call_offers}, so an
+ * accept that reaches an instance other than the dispatching one is only honoured for a translator the
+ * call is currently offered to. Calls left in DISPATCHING by an instance that stopped mid-dispatch are
+ * marked UNMATCHED by a periodic sweep once every round they could have had is over.
+ */
+@Service
+public class CallDispatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CallDispatchService.class);
+
+    public static final String STATUS_DISPATCHING = "DISPATCHING";
+    public static final String STATUS_ACCEPTED = "ACCEPTED";
+    public static final String STATUS_UNMATCHED = "UNMATCHED";
+
+    private final CallRecordRepository callRecordRepository;
+    private final CallOfferRepository callOfferRepository;
+    private final TranslatorAvailabilityIndex availabilityIndex;
+    private final SocketIOServer socketServer;
+    private final TransactionTemplate transactionTemplate;
+    private final int candidatesPerRound;
+    private final long offerTimeoutMillis;
+    private final int maxRounds;
+
+    private final Map<Long, Dispatch> dispatches = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> pendingOffersByUser = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final Timer timeToMatch;
+    private final Counter offersSent;
+    private final Counter unmatched;
+
+    public CallDispatchService(CallRecordRepository callRecordRepository,
+                               CallOfferRepository callOfferRepository,
+                               TranslatorAvailabilityIndex availabilityIndex,
+                               SocketIOServer socketServer,
+                               MeterRegistry meterRegistry,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${call-dispatch.candidates-per-round:3}") int candidatesPerRound,
+                               @Value("${call-dispatch.offer-timeout-ms:15000}") long offerTimeoutMillis,
+                               @Value("${call-dispatch.max-rounds:3}") int maxRounds) {
+        this.callRecordRepository = callRecordRepository;
+        this.callOfferRepository = callOfferRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.socketServer = socketServer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.candidatesPerRound = candidatesPerRound;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.maxRounds = maxRounds;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "call-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timeToMatch = Timer.builder("call.dispatch.time.to.match")
+                .description("Time from a call request to a translator accepting it")
+                .register(meterRegistry);
+        this.offersSent = Counter.builder("call.dispatch.offers")
+                .description("Call offers sent to translators")
+                .register(meterRegistry);
+        this.unmatched = Counter.builder("call.dispatch.unmatched")
+                .description("Call requests no translator accepted")
+                .register(meterRegistry);
+    }
+
+    // ========== DISPATCH ==========
+    public CallDispatchResponseDTO dispatch(CurrentUser caller, CallDispatchRequestDTO request) {
+        try {
+            logger.info("Dispatching call for callerUserId={} themeId={} languageId={}",
+                    caller.getId(), request.getThemeId(), request.getLanguageId());
+
+            CallRecord call = new CallRecord();
+            call.setCallerUserId(caller.getId());
+            call.setThemeId(request.getThemeId());
+            call.setCallStatus(STATUS_DISPATCHING);
+            call.setStatus(false);
+            call.setEndCall(false);
+            CallRecord saved = callRecordRepository.save(call);
+
+            Dispatch dispatch = new Dispatch(saved.getId(), caller.getId(), request.getThemeId(), request.getLanguageId());
+            dispatches.put(dispatch.callId, dispatch);
+            synchronized (dispatch) {
+                offerNextRound(dispatch);
+            }
+            return toResponse(dispatch);
+        } catch (Exception e) {
+            logger.error("Error dispatching call for callerUserId={}", caller.getId(), e);
+            throw e;
+        }
+    }
+
+    // ========== ACCEPT / DECLINE ==========
+    /**
+     * First translator to accept gets the call; later accepts fail with a conflict
+     */
+    public CallDispatchResponseDTO accept(Long callId, CurrentUser translator) {
+        Dispatch dispatch = dispatches.get(callId);
+        if (dispatch == null) {
+            // Dispatched by another instance, or already finished; the call row decides
+            return acceptStored(callId, translator.getId());
+        }
+        if (!dispatch.outstanding.contains(translator.getId())) {
+            throw new ResourceNotFoundException("No open offer of call " + callId + " for this translator");
+        }
+        if (!dispatch.acceptedBy.compareAndSet(null, translator.getId())) {
+            throw new ConflictException("Call " + callId + " was already accepted by another translator");
+        }
+        if (callRecordRepository.claimRecipient(callId, translator.getId(), STATUS_DISPATCHING, STATUS_ACCEPTED) == 0) {
+            dispatch.acceptedBy.set(null);
+            throw new ConflictException("Call " + callId + " is no longer available");
+        }
+
+        synchronized (dispatch) {
+            dispatch.cancelTimeout();
+            cancelOffers(dispatch, translator.getId());
+            dispatches.remove(callId);
+        }
+        timeToMatch.record(System.nanoTime() - dispatch.startedAtNanos, TimeUnit.NANOSECONDS);
+        logger.info("Call id={} accepted by translator userId={}", callId, translator.getId());
+
+        CallDispatchResponseDTO response = toResponse(dispatch);
+        socketServer.getRoomOperations(userRoom(dispatch.callerUserId)).sendEvent("callMatched", response);
+        return response;
+    }
+
+    public void decline(Long callId, CurrentUser translator) {
+        Dispatch dispatch = dispatches.get(callId);
+        if (dispatch == null || !dispatch.offeredTo.contains(translator.getId())) return;
+        synchronized (dispatch) {
+            if (dispatch.outstanding.remove(translator.getId())) {
+                releaseOffer(translator.getId());
+                callOfferRepository.deleteOffers(callId, List.of(translator.getId()));
+                logger.info("Call id={} declined by translator userId={}", callId, translator.getId());
+                // Everyone in the round declined; move on without waiting for the timeout
+                if (dispatch.outstanding.isEmpty() && dispatch.acceptedBy.get() == null) {
+                    dispatch.cancelTimeout();
+                    offerNextRound(dispatch);
+                }
+            }
+        }
+    }
+
+    private CallDispatchResponseDTO acceptStored(Long callId, Long translatorUserId) {
+        CallRecord call = callRecordRepository.findById(callId)
+                .orElseThrow(() -> new ResourceNotFoundException("CallRecord not found with id " + callId));
+        // The claim and the removal of every offer of the call commit together
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!callOfferRepository.existsByCallIdAndUserId(callId, translatorUserId)) {
+                throw new ResourceNotFoundException("No open offer of call " + callId + " for this translator");
+            }
+            if (callRecordRepository.claimRecipient(callId, translatorUserId, STATUS_DISPATCHING, STATUS_ACCEPTED) == 0) {
+                throw new ConflictException("Call " + callId + " is no longer available");
+            }
+            callOfferRepository.deleteByCallId(callId);
+        });
+        logger.info("Call id={} accepted by translator userId={} through its stored offer", callId, translatorUserId);
+
+        CallDispatchResponseDTO response = new CallDispatchResponseDTO();
+        response.setCallId(callId);
+        response.setStatus(STATUS_ACCEPTED);
+        response.setRecipientUserId(translatorUserId);
+        socketServer.getRoomOperations(userRoom(call.getCallerUserId())).sendEvent("callMatched", response);
+        return response;
+    }
+
+    // ========== ROUNDS ==========
+    /**
+     * Offer the call to the next best candidates; called with the dispatch locked
+     */
+    private void offerNextRound(Dispatch dispatch) {
+        if (dispatch.acceptedBy.get() != null) return;
+        cancelOffers(dispatch, null);
+
+        List<Candidate> candidates = dispatch.round < maxRounds
+                ? availabilityIndex.findCandidates(dispatch.themeId, dispatch.languageId).stream()
+                    .filter(c -> !dispatch.offeredTo.contains(c.userId()) && !c.userId().equals(dispatch.callerUserId))
+                    .sorted(Comparator.comparingInt((Candidate c) -> pendingOffers(c.userId()))
+                            .thenComparing(Comparator.comparingDouble(Candidate::rating).reversed())
+                            .thenComparing(Candidate::profileId))
+                    .limit(candidatesPerRound)
+                    .toList()
+                : List.of();
+
+        if (candidates.isEmpty()) {
+            giveUp(dispatch);
+            return;
+        }
+
+        dispatch.round++;
+        // Stored before anyone is told, so an accept on another instance always finds its offer
+        callOfferRepository.saveAll(candidates.stream().map(candidate -> {
+            CallOffer stored = new CallOffer();
+            stored.setCallId(dispatch.callId);
+            stored.setUserId(candidate.userId());
+            return stored;
+        }).toList());
+        CallOfferDTO offer = new CallOfferDTO(dispatch.callId, dispatch.themeId, dispatch.languageId, offerTimeoutMillis);
+        for (Candidate candidate : candidates) {
+            dispatch.offeredTo.add(candidate.userId());
+            dispatch.outstanding.add(candidate.userId());
+            pendingOffersByUser.computeIfAbsent(candidate.userId(), id -> new AtomicInteger()).incrementAndGet();
+            socketServer.getRoomOperations(userRoom(candidate.userId())).sendEvent("callOffer", offer);
+        }
+        offersSent.increment(candidates.size());
+        dispatch.timeout = scheduler.schedule(() -> onRoundTimeout(dispatch), offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        logger.info("Call id={} round {} offered to {} translator(s)", dispatch.callId, dispatch.round, candidates.size());
+    }
+
+    private void onRoundTimeout(Dispatch dispatch) {
+        try {
+            synchronized (dispatch) {
+                if (!dispatches.containsKey(dispatch.callId)) return;
+                // Accepted through another instance; withdraw this round instead of escalating
+                boolean stillDispatching = callRecordRepository.findById(dispatch.callId)
+                        .map(call -> STATUS_DISPATCHING.equals(call.getCallStatus()))
+                        .orElse(false);
+                if (stillDispatching) {
+                    offerNextRound(dispatch);
+                } else {
+                    cancelOffers(dispatch, null);
+                    dispatches.remove(dispatch.callId);
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Error escalating dispatch of call id={}", dispatch.callId, e);
+        }
+    }
+
+    private void giveUp(Dispatch dispatch) {
+        dispatches.remove(dispatch.callId);
+        if (callRecordRepository.updateStatusIfCurrent(dispatch.callId, STATUS_DISPATCHING, STATUS_UNMATCHED) == 0) {
+            // Another instance matched the call in the meantime; the caller was told there
+            logger.info("Call id={} was matched elsewhere before its dispatch ran out", dispatch.callId);
+            return;
+        }
+        unmatched.increment();
+        logger.info("No translator accepted call id={} after {} round(s)", dispatch.callId, dispatch.round);
+
+        CallDispatchResponseDTO response = toResponse(dispatch);
+        response.setStatus(STATUS_UNMATCHED);
+        socketServer.getRoomOperations(userRoom(dispatch.callerUserId)).sendEvent("callDispatchFailed", response);
+    }
+
+    // ========== SWEEP ==========
+    /**
+     * Give up on calls still DISPATCHING after every round they could have had, which happens when the
+     * dispatching instance stopped before its dispatch finished
+     */
+    @Scheduled(fixedDelayString = "${call-dispatch.sweep-interval-ms:60000}")
+    public void sweepStaleDispatches() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(offerTimeoutMillis * (maxRounds + 1L)));
+            for (CallRecord call : callRecordRepository.findByStatusCreatedBefore(STATUS_DISPATCHING, cutoff)) {
+                if (dispatches.containsKey(call.getId())) continue;
+                Boolean gaveUp = transactionTemplate.execute(status -> {
+                    if (callRecordRepository.updateStatusIfCurrent(call.getId(), STATUS_DISPATCHING, STATUS_UNMATCHED) == 0) {
+                        return false;
+                    }
+                    callOfferRepository.deleteByCallId(call.getId());
+                    return true;
+                });
+                if (!Boolean.TRUE.equals(gaveUp)) continue;
+
+                unmatched.increment();
+                logger.warn("Call id={} was left dispatching since {}, marked unmatched", call.getId(), call.getCreatedAtDatetime());
+                CallDispatchResponseDTO response = new CallDispatchResponseDTO();
+                response.setCallId(call.getId());
+                response.setStatus(STATUS_UNMATCHED);
+                socketServer.getRoomOperations(userRoom(call.getCallerUserId())).sendEvent("callDispatchFailed", response);
+            }
+        } catch (Exception e) {
+            logger.error("Error sweeping stale call dispatches", e);
+        }
+    }
+
+    /**
+     * Withdraw the outstanding offers of the current round, except the winner's
+     */
+    private void cancelOffers(Dispatch dispatch, Long exceptUserId) {
+        if (dispatch.outstanding.isEmpty()) return;
+        callOfferRepository.deleteOffers(dispatch.callId, List.copyOf(dispatch.outstanding));
+        CallOfferDTO cancelled = new CallOfferDTO(dispatch.callId, dispatch.themeId, dispatch.languageId, 0L);
+        for (Long userId : dispatch.outstanding) {
+            releaseOffer(userId);
+            if (!userId.equals(exceptUserId)) {
+                socketServer.getRoomOperations(userRoom(userId)).sendEvent("callOfferCancelled", cancelled);
+            }
+        }
+        dispatch.outstanding.clear();
+    }
+
+    private int pendingOffers(Long userId) {
+        AtomicInteger count = pendingOffersByUser.get(userId);
+        return count == null ? 0 : count.get();
+    }
+
+    private void releaseOffer(Long userId) {
+        pendingOffersByUser.computeIfPresent(userId, (id, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // ========== HELPERS ==========
+    private static String userRoom(Long userId) {
+        return "user_" + userId;
+    }
+
+    private CallDispatchResponseDTO toResponse(Dispatch dispatch) {
+        CallDispatchResponseDTO dto = new CallDispatchResponseDTO();
+        dto.setCallId(dispatch.callId);
+        Long acceptedBy = dispatch.acceptedBy.get();
+        dto.setStatus(acceptedBy != null ? STATUS_ACCEPTED : dispatches.containsKey(dispatch.callId) ? STATUS_DISPATCHING : STATUS_UNMATCHED);
+        dto.setRecipientUserId(acceptedBy);
+        dto.setOfferedCount(dispatch.offeredTo.size());
+        return dto;
+    }
+
+    /**
+     * In-flight dispatch of one call; round state is changed with the object locked, the winner by CAS
+     */
+    private static final class Dispatch {
+        private final Long callId;
+        private final Long callerUserId;
+        private final Long themeId;
+        private final Long languageId;
+        private final long startedAtNanos = System.nanoTime();
+        private final AtomicReference<Long> acceptedBy = new AtomicReference<>();
+        private final Set<Long> offeredTo = ConcurrentHashMap.newKeySet();
+        private final Set<Long> outstanding = ConcurrentHashMap.newKeySet();
+        private int round;
+        private ScheduledFuture<?> timeout;
+
+        private Dispatch(Long callId, Long callerUserId, Long themeId, Long languageId) {
+            this.callId = callId;
+            this.callerUserId = callerUserId;
+            this.themeId = themeId;
+            this.languageId = languageId;
+        }
+
+        private void cancelTimeout() {
+            if (timeout != null) timeout.cancel(false);
+        }
+    }
+}
@@ -181,6 +181,7 @@ public class CallRecordService {
             // Create transaction record for caller (payment for call)
             transactionService.createDetailedTransaction(
                 caller,
+                caller.getBalance().add(sum), // balance before the debit
                 TransactionType.CALL_PAYMENT,
                 sum,
                 "COMPLETED",
@@ -197,12 +198,15 @@ public class CallRecordService {
             BigDecimal creditAmount = sum.subtract(commission);
             if (interpreterId != null && creditAmount.signum() > 0) {
                 User interpreter = creditUserBalance(interpreterId, creditAmount);
+                BigDecimal interpreterBalanceBefore = interpreter.getBalance().subtract(creditAmount);
                 
-                // Create transaction record for interpreter (earning from call)
+                // Ledger records the gross earning followed by the commission debit,
+                // so the chain of balances ends at the net amount actually credited
                 transactionService.createDetailedTransaction(
                     interpreter,
+                    interpreterBalanceBefore,
                     TransactionType.CALL_EARNING,
-                    creditAmount,
+                    sum,
                     "COMPLETED",
                     "Earning from interpreting call",
                     call.getId(),
@@ -217,6 +221,7 @@ public class CallRecordService {
                 if (commission.signum() > 0) {
                     transactionService.createDetailedTransaction(
                         interpreter,
+                        interpreterBalanceBefore.add(sum),
                         TransactionType.COMMISSION,
                         commission,
                         "COMPLETED",
@@ -242,7 +247,7 @@ public class CallRecordService {
 
     private User debitUserBalance(Long userId, BigDecimal amount) {
         if (userId == null || amount.signum() <= 0) return null;
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + userId));
         BigDecimal current = defaultZero(user.getBalance());
         BigDecimal newBalance = current.subtract(amount);
@@ -253,7 +258,7 @@ public class CallRecordService {
 
     private User creditUserBalance(Long userId, BigDecimal amount) {
         if (userId == null || amount.signum() <= 0) return null;
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + userId));
         BigDecimal current = defaultZero(user.getBalance());
         BigDecimal newBalance = current.add(amount);
@@ -0,0 +1,123 @@
+package com.morago_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morago_backend.config.HttpCacheSupport;
+import com.morago_backend.dto.dtoResponse.CatalogBundleDTO;
+import com.morago_backend.event.CatalogChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The active catalog as one precomputed JSON document, kept both raw and gzip-compressed.
+ * <p>
+ * The bundle is rebuilt on a background thread from the {@link CatalogCache} snapshot after every
+ * catalog change, periodically to pick up changes made by other instances, and at startup. Requests
+ * are answered with the stored byte arrays as they are: no serialization or compression per request.
+ * Categories and themes marked inactive, and themes of inactive categories, are left out.
+ */
+@Service
+public class CatalogBundleService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogBundleService.class);
+
+    private final CatalogCache catalogCache;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+
+    private volatile Bundle bundle;
+
+    public CatalogBundleService(CatalogCache catalogCache, ObjectMapper objectMapper) {
+        this.catalogCache = catalogCache;
+        this.objectMapper = objectMapper;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-bundle");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ========== READ ==========
+    /**
+     * Current bundle; built on the calling thread only if no bundle has been built yet
+     */
+    public Bundle current() {
+        Bundle current = bundle;
+        return current != null ? current : rebuild();
+    }
+
+    // ========== REBUILD ==========
+    /**
+     * Runs after {@link CatalogCache#onCatalogChanged}, which is ordered first, so the snapshot read
+     * here already reflects the change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        executor.execute(this::rebuild);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        executor.execute(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.bundle.rebuild-interval-ms:300000}",
+            initialDelayString = "${catalog.bundle.rebuild-interval-ms:300000}")
+    public void scheduledRebuild() {
+        executor.execute(this::rebuild);
+    }
+
+    private synchronized Bundle rebuild() {
+        try {
+            CatalogCache.Snapshot snapshot = catalogCache.snapshot();
+            byte[] json = objectMapper.writeValueAsBytes(new CatalogBundleDTO(snapshot.activeCategories(), snapshot.activeThemes(), snapshot.languages().all().value()));
+            Bundle previous = bundle;
+            String etag = HttpCacheSupport.contentEtag(json);
+            if (previous != null && previous.etag().equals(etag)) {
+                return previous;
+            }
+
+            Bundle rebuilt = new Bundle(etag, json, gzip(json));
+            bundle = rebuilt;
+            logger.info("Catalog bundle rebuilt from catalog version={}: {} bytes, {} gzipped",
+                    snapshot.version(), json.length, rebuilt.gzip().length);
+            return rebuilt;
+        } catch (Exception e) {
+            // The previous bundle keeps being served until a rebuild succeeds
+            logger.error("Error rebuilding catalog bundle", e);
+            if (bundle == null) throw new IllegalStateException("Catalog bundle is not available", e);
+            return bundle;
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Immutable encoded bundle; the arrays are shared and must not be modified
+     */
+    public record Bundle(String etag, byte[] json, byte[] gzip) {
+    }
+}
@@ -0,0 +1,241 @@
+package com.morago_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morago_backend.config.HttpCacheSupport;
+import com.morago_backend.dto.dtoResponse.CategoryResponseDTO;
+import com.morago_backend.dto.dtoResponse.LanguageResponseDTO;
+import com.morago_backend.dto.dtoResponse.ThemeResponseDTO;
+import com.morago_backend.event.CatalogChangedEvent;
+import com.morago_backend.repository.CategoryRepository;
+import com.morago_backend.repository.LanguageRepository;
+import com.morago_backend.repository.ThemeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of the whole catalog (categories, themes and languages) as one immutable snapshot.
+ * <p>
+ * Every snapshot carries a version that only ever increases. A {@link CatalogChangedEvent} bumps the
+ * version and drops the snapshot in one atomic step once the changing transaction has committed; the
+ * next read loads all three lists again, and a load that raced with a change is discarded rather than
+ * installed. Loads run in a read-write transaction, so they go to the primary and never install a
+ * replica's stale view under the new version. Lookups by ID are served from the snapshot's maps, so in
+ * steady state no read touches the database. Each list and entry carries a strong ETag for conditional
+ * GETs. Snapshots older than {@code catalog.cache.max-age-seconds} are reloaded to pick up changes made
+ * by other instances. The DTOs in a snapshot are shared and must not be modified.
+ */
+@Service
+public class CatalogCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCache.class);
+
+    private final CategoryRepository categoryRepository;
+    private final ThemeRepository themeRepository;
+    private final LanguageRepository languageRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxAgeMillis;
+    private final Counter hits;
+    private final Counter misses;
+
+    // Current version, with its snapshot once loaded
+    private final AtomicReference<Slot> slot = new AtomicReference<>(new Slot(1, null));
+
+    public CatalogCache(CategoryRepository categoryRepository,
+                        ThemeRepository themeRepository,
+                        LanguageRepository languageRepository,
+                        ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${catalog.cache.max-age-seconds:300}") long maxAgeSeconds) {
+        this.categoryRepository = categoryRepository;
+        this.themeRepository = themeRepository;
+        this.languageRepository = languageRepository;
+        this.objectMapper = objectMapper;
+        // Read-write, so the load runs on the primary and sees the change that invalidated the snapshot
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAgeMillis = Duration.ofSeconds(maxAgeSeconds).toMillis();
+
+        this.hits = Counter.builder("catalog.cache.requests")
+                .description("Catalog reads served by the cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("catalog.cache.requests")
+                .description("Catalog reads that loaded the catalog from the database")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("catalog.cache.version", slot, s -> s.get().version())
+                .description("Version of the cached catalog")
+                .register(meterRegistry);
+    }
+
+    // ========== READ ==========
+    public Tagged<List<CategoryResponseDTO>> categories() {
+        return snapshot().categories().all();
+    }
+
+    public Optional<Tagged<CategoryResponseDTO>> category(Long id) {
+        return snapshot().categories().get(id);
+    }
+
+    public Tagged<List<ThemeResponseDTO>> themes() {
+        return snapshot().themes().all();
+    }
+
+    public Optional<Tagged<ThemeResponseDTO>> theme(Long id) {
+        return snapshot().themes().get(id);
+    }
+
+    public Tagged<List<LanguageResponseDTO>> languages() {
+        return snapshot().languages().all();
+    }
+
+    public Optional<Tagged<LanguageResponseDTO>> language(Long id) {
+        return snapshot().languages().get(id);
+    }
+
+    /**
+     * Current snapshot, loading it first when there is none or it is too old
+     */
+    public Snapshot snapshot() {
+        Slot current = slot.get();
+        if (current.snapshot() != null && !current.snapshot().isOlderThan(maxAgeMillis)) {
+            hits.increment();
+            return current.snapshot();
+        }
+        misses.increment();
+        return load();
+    }
+
+    /**
+     * One loader at a time; callers that waited get the snapshot the previous loader installed
+     */
+    private synchronized Snapshot load() {
+        Slot expected = slot.get();
+        if (expected.snapshot() != null && !expected.snapshot().isOlderThan(maxAgeMillis)) {
+            return expected.snapshot();
+        }
+        try {
+            long version = expected.snapshot() == null ? expected.version() : expected.version() + 1;
+            Snapshot loaded = transactionTemplate.execute(status -> new Snapshot(
+                    version,
+                    System.currentTimeMillis(),
+                    table(categoryRepository.findAll().stream().map(CategoryService::mapToResponse).toList(), CategoryResponseDTO::getId),
+                    table(themeRepository.findAll().stream().map(ThemeService::mapToResponseDTO).toList(), ThemeResponseDTO::getId),
+                    table(languageRepository.findAll().stream().map(LanguageService::toDTO).toList(), LanguageResponseDTO::getId)));
+
+            // Install only if nothing changed while loading; either way this caller gets what it loaded
+            if (slot.compareAndSet(expected, new Slot(version, loaded))) {
+                logger.info("Catalog cache loaded version={}: {} categories, {} themes, {} languages",
+                        version, loaded.categories().size(), loaded.themes().size(), loaded.languages().size());
+            }
+            return loaded;
+        } catch (Exception e) {
+            logger.error("Error loading catalog cache", e);
+            throw e;
+        }
+    }
+
+    // ========== INVALIDATION ==========
+    // First among the catalog listeners, so those that read the catalog see the new version
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        Slot next = slot.updateAndGet(current -> new Slot(current.version() + 1, null));
+        logger.info("Catalog cache invalidated by {} id={}, version={}", event.getEntity(), event.getId(), next.version());
+    }
+
+    // ========== ETAGS ==========
+    /**
+     * Tags every entry and the whole list with a hash of its JSON, so a tag stays the same across
+     * reloads and versions as long as the content is unchanged
+     */
+    private <T> Table<T> table(List<T> values, Function<T, Long> id) {
+        Map<Long, Tagged<T>> byId = new HashMap<>();
+        for (T value : values) {
+            byId.put(id.apply(value), new Tagged<>(value, etag(value)));
+        }
+        return new Table<>(new Tagged<>(List.copyOf(values), etag(values)), Map.copyOf(byId));
+    }
+
+    private String etag(Object value) {
+        return HttpCacheSupport.contentEtag(objectMapper, value);
+    }
+
+    private record Slot(long version, Snapshot snapshot) {
+    }
+
+    /**
+     * A cached value with the strong ETag of its JSON representation
+     */
+    public record Tagged<T>(T value, String etag) {
+    }
+
+    /**
+     * One catalog list, whole and by ID
+     */
+    public record Table<T>(Tagged<List<T>> all, Map<Long, Tagged<T>> byId) {
+
+        public Optional<Tagged<T>> get(Long id) {
+            return Optional.ofNullable(byId.get(id));
+        }
+
+        public int size() {
+            return byId.size();
+        }
+    }
+
+    /**
+     * Immutable view of the whole catalog at one version
+     */
+    public record Snapshot(long version,
+                           long loadedAtMillis,
+                           Table<CategoryResponseDTO> categories,
+                           Table<ThemeResponseDTO> themes,
+                           Table<LanguageResponseDTO> languages) {
+
+        boolean isOlderThan(long maxAgeMillis) {
+            return System.currentTimeMillis() - loadedAtMillis > maxAgeMillis;
+        }
+
+        /**
+         * Categories not marked inactive
+         */
+        public List<CategoryResponseDTO> activeCategories() {
+            return categories.all().value().stream()
+                    .filter(category -> !Boolean.FALSE.equals(category.getIsActive()))
+                    .toList();
+        }
+
+        /**
+         * Themes not marked inactive whose category is not inactive either
+         */
+        public List<ThemeResponseDTO> activeThemes() {
+            return themes.all().value().stream()
+                    .filter(theme -> !Boolean.FALSE.equals(theme.getIsActive()))
+                    .filter(theme -> theme.getCategoryId() == null || categories.get(theme.getCategoryId())
+                            .map(category -> !Boolean.FALSE.equals(category.value().getIsActive()))
+                            .orElse(true))
+                    .toList();
+        }
+    }
+}
@@ -5,51 +5,46 @@ import com.morago_backend.dto.dtoRequest.FilterRequest;
 import com.morago_backend.dto.dtoRequest.PaginationRequest;
 import com.morago_backend.dto.dtoResponse.CategoryResponseDTO;
 import com.morago_backend.entity.Category;
+import com.morago_backend.event.CatalogChangedEvent;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.CategoryRepository;
+import com.morago_backend.repository.FilterSpecification;
+import com.morago_backend.repository.FilterableRepository;
 import com.corundumstudio.socketio.SocketIOServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 public class CategoryService extends BaseServiceImpl<Category, Long> {
 
     private final CategoryRepository categoryRepository;
     private final SocketIOServer socketServer;
+    private final CatalogCache catalogCache;
+    private final ApplicationEventPublisher eventPublisher;
     private static final Logger logger = LoggerFactory.getLogger(CategoryService.class);
 
-    public CategoryService(CategoryRepository categoryRepository, SocketIOServer socketServer) {
+    public CategoryService(CategoryRepository categoryRepository, SocketIOServer socketServer,
+                           CatalogCache catalogCache, ApplicationEventPublisher eventPublisher) {
         this.categoryRepository = categoryRepository;
         this.socketServer = socketServer;
+        this.catalogCache = catalogCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
-    protected JpaRepository<Category, Long> getRepository() {
+    protected FilterableRepository<Category, Long> getRepository() {
         return categoryRepository;
     }
 
     @Override
-    protected Page<Category> applyFilters(Page<Category> page, FilterRequest filter) {
-        try {
-            if (filter == null || !filter.hasSearch()) return page;
-
-            String term = filter.getSearch().toLowerCase();
-            List<Category> filtered = page.getContent().stream()
-                    .filter(c -> c.getName().toLowerCase().contains(term))
-                    .collect(Collectors.toList());
-
-            return new PageImpl<>(filtered, page.getPageable(), page.getTotalElements());
-        } catch (Exception e) {
-            logger.error("Error applying filters to categories", e);
-            throw e;
-        }
+    protected FilterSpecification<Category> getFilterSpecification() {
+        return CategoryRepository.FILTERS;
     }
 
     // ========== CREATE ==========
@@ -60,6 +55,7 @@ public class CategoryService extends BaseServiceImpl<Category, Long> {
             Category category = mapToEntity(dto);
             Category saved = categoryRepository.save(category);
             socketServer.getBroadcastOperations().sendEvent("categoryCreated", saved);
+            eventPublisher.publishEvent(new CatalogChangedEvent("category", saved.getId()));
             logger.info("Category created id={}", saved.getId());
             return mapToResponse(saved);
         } catch (Exception e) {
@@ -81,6 +77,7 @@ public class CategoryService extends BaseServiceImpl<Category, Long> {
 
             Category saved = categoryRepository.save(existing);
             socketServer.getBroadcastOperations().sendEvent("categoryUpdated", saved);
+            eventPublisher.publishEvent(new CatalogChangedEvent("category", saved.getId()));
             logger.info("Category updated id={}", saved.getId());
             return mapToResponse(saved);
         } catch (Exception e) {
@@ -90,13 +87,11 @@ public class CategoryService extends BaseServiceImpl<Category, Long> {
     }
 
     // ========== READ ALL DTO ==========
-    /** Retrieves all categories without pagination */
+    /** Retrieves all categories without pagination, from the catalog cache */
     public List<CategoryResponseDTO> findAllDTO() {
         try {
             logger.info("Fetching all categories (no pagination)");
-            return categoryRepository.findAll().stream()
-                    .map(this::mapToResponse)
-                    .collect(Collectors.toList());
+            return catalogCache.categories().value();
         } catch (Exception e) {
             logger.error("Error fetching all categories", e);
             throw e;
@@ -104,16 +99,27 @@ public class CategoryService extends BaseServiceImpl<Category, Long> {
     }
 
     // ========== READ BY ID DTO ==========
-    /** Retrieves a category by ID as DTO */
+    /** Retrieves a category by ID as DTO, from the catalog cache */
     public Optional<CategoryResponseDTO> findByIdDTO(Long id) {
         try {
-            return categoryRepository.findById(id).map(this::mapToResponse);
+            return catalogCache.category(id).map(CatalogCache.Tagged::value);
         } catch (Exception e) {
             logger.error("Error fetching category id={}", id, e);
             throw e;
         }
     }
 
+    // ========== READ WITH ETAG ==========
+    /** All categories with the ETag of the list */
+    public CatalogCache.Tagged<List<CategoryResponseDTO>> findAllTagged() {
+        return catalogCache.categories();
+    }
+
+    /** A category with its ETag */
+    public Optional<CatalogCache.Tagged<CategoryResponseDTO>> findByIdTagged(Long id) {
+        return catalogCache.category(id);
+    }
+
     // ========== DELETE ==========
     /** Deletes a category and emits a socket event */
     @Override
@@ -122,6 +128,7 @@ public class CategoryService extends BaseServiceImpl<Category, Long> {
             logger.info("Deleting category id={}", id);
             categoryRepository.deleteById(id);
             socketServer.getBroadcastOperations().sendEvent("categoryDeleted", id);
+            eventPublisher.publishEvent(new CatalogChangedEvent("category", id));
             logger.info("Category deleted id={}", id);
         } catch (Exception e) {
             logger.error("Error deleting category id={}", id, e);
@@ -133,17 +140,8 @@ public class CategoryService extends BaseServiceImpl<Category, Long> {
     /** Retrieves categories with filter and pagination */
     public Page<CategoryResponseDTO> getAllWithFilterAndPagination(FilterRequest filter, PaginationRequest pagination) {
         try {
-            Pageable pageable = PageRequest.of(pagination.getPage(), pagination.getSize());
-            Page<Category> page = categoryRepository.findAll(pageable);
-
-            if (filter != null && filter.hasSearch()) {
-                List<Category> filtered = page.getContent().stream()
-                        .filter(c -> c.getName().toLowerCase().contains(filter.getSearch().toLowerCase()))
-                        .toList();
-                page = new PageImpl<>(filtered, page.getPageable(), page.getTotalElements());
-            }
-
-            return page.map(this::mapToResponse);
+            Page<Category> page = findPage(pagination, filter);
+            return page.map(CategoryService::mapToResponse);
         } catch (Exception e) {
             logger.error("Error fetching categories with filter and pagination", e);
             throw e;
@@ -151,7 +149,7 @@ public class CategoryService extends BaseServiceImpl<Category, Long> {
     }
 
     // ========== MAPPER ==========
-    private CategoryResponseDTO mapToResponse(Category category) {
+    static CategoryResponseDTO mapToResponse(Category category) {
         CategoryResponseDTO dto = new CategoryResponseDTO();
         dto.setId(category.getId());
         dto.setName(category.getName());
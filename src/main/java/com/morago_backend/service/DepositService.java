@@ -1,11 +1,15 @@
 package com.morago_backend.service;
 
+import com.morago_backend.config.ReplicaRead;
 import com.morago_backend.dto.dtoRequest.DepositRequestDTO;
+import com.morago_backend.dto.dtoResponse.DepositBulkApprovalResponseDTO;
 import com.morago_backend.dto.dtoResponse.DepositResponseDTO;
 import com.morago_backend.entity.Deposit;
+import com.morago_backend.entity.Transaction;
 import com.morago_backend.entity.TransactionType;
 import com.morago_backend.entity.User;
 import com.morago_backend.repository.DepositRepository;
+import com.morago_backend.repository.LedgerJdbcRepository;
 import com.morago_backend.repository.UserRepository;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.corundumstudio.socketio.SocketIOServer;
@@ -15,7 +19,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,13 +39,16 @@ public class DepositService {
     private final SocketIOServer socketServer;
     private final UserRepository userRepository;
     private final TransactionService transactionService;
+    private final LedgerJdbcRepository ledgerJdbcRepository;
 
     public DepositService(DepositRepository depositRepository, SocketIOServer socketServer, 
-                         UserRepository userRepository, TransactionService transactionService) {
+                         UserRepository userRepository, TransactionService transactionService,
+                         LedgerJdbcRepository ledgerJdbcRepository) {
         this.depositRepository = depositRepository;
         this.socketServer = socketServer;
         this.userRepository = userRepository;
         this.transactionService = transactionService;
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
     }
 
     // ====== CREATE ======
@@ -60,6 +75,8 @@ public class DepositService {
     }
 
     // ====== READ ALL ======
+    @ReplicaRead
+    @Transactional(readOnly = true)
     public List<DepositResponseDTO> findAll() {
         try {
             logger.info("Fetching all deposits");
@@ -73,6 +90,7 @@ public class DepositService {
     }
 
     // ====== READ BY ID ======
+    @Transactional(readOnly = true)
     public DepositResponseDTO findById(Long id) {
         try {
             logger.info("Fetching deposit with id {}", id);
@@ -118,6 +136,90 @@ public class DepositService {
         }
     }
 
+    // ====== BULK APPROVE ======
+    /**
+     * Approve many deposits in one database transaction. Deposits and their owners' balances are
+     * locked up front, then status changes, balance credits and ledger rows are written as batched
+     * statements. Deposits that cannot be approved are reported individually and do not block the rest.
+     */
+    @Transactional
+    public DepositBulkApprovalResponseDTO bulkApprove(List<Long> depositIds) {
+        try {
+            Set<Long> ids = new LinkedHashSet<>(depositIds);
+            logger.info("Bulk approving {} deposits", ids.size());
+
+            Map<Long, Deposit> deposits = depositRepository.findAllByIdForUpdate(ids).stream()
+                    .collect(Collectors.toMap(Deposit::getId, Function.identity()));
+            Set<Long> userIds = deposits.values().stream()
+                    .map(Deposit::getUserId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Map<Long, BigDecimal> balances = ledgerJdbcRepository.lockBalances(userIds);
+
+            DepositBulkApprovalResponseDTO response = new DepositBulkApprovalResponseDTO();
+            response.setRequested(ids.size());
+
+            List<Long> approvedIds = new ArrayList<>();
+            List<Transaction> transactions = new ArrayList<>();
+            Map<Long, BigDecimal> newBalances = new LinkedHashMap<>();
+
+            for (Long id : ids) {
+                Deposit deposit = deposits.get(id);
+                if (deposit == null) {
+                    response.addFailure(id, null, null, "Deposit not found with id " + id);
+                    continue;
+                }
+                if ("APPROVED".equalsIgnoreCase(deposit.getStatus())) {
+                    response.addFailure(id, deposit.getUserId(), deposit.getStatus(), "Deposit is already approved");
+                    continue;
+                }
+                if (deposit.getSum() == null || deposit.getSum().signum() <= 0) {
+                    response.addFailure(id, deposit.getUserId(), deposit.getStatus(), "Deposit amount must be greater than 0");
+                    continue;
+                }
+                if (deposit.getUserId() == null || !balances.containsKey(deposit.getUserId())) {
+                    response.addFailure(id, deposit.getUserId(), deposit.getStatus(), "User not found with id " + deposit.getUserId());
+                    continue;
+                }
+
+                // Chain balances when one user has several deposits in the same batch
+                Long userId = deposit.getUserId();
+                BigDecimal balanceBefore = newBalances.getOrDefault(userId, balances.get(userId));
+                Transaction transaction = transactionService.buildDetailedTransaction(
+                    userRepository.getReferenceById(userId),
+                    balanceBefore,
+                    TransactionType.DEPOSIT,
+                    deposit.getSum(),
+                    "COMPLETED",
+                    "Deposit approved and credited to account",
+                    deposit.getId(),
+                    deposit.getAccountHolder(),
+                    deposit.getBankName(),
+                    null,
+                    "Deposit ID: " + deposit.getId()
+                );
+                transactions.add(transaction);
+                newBalances.put(userId, transaction.getBalanceAfter());
+                approvedIds.add(id);
+                response.addSuccess(id, userId, deposit.getSum());
+            }
+
+            if (!approvedIds.isEmpty()) {
+                depositRepository.updateStatusByIds(approvedIds, "APPROVED", LocalDateTime.now());
+                ledgerJdbcRepository.updateBalances(newBalances);
+                transactionService.saveAllInBatch(transactions);
+            }
+
+            socketServer.getBroadcastOperations().sendEvent("depositsBulkApproved", response);
+            logger.info("Bulk deposit approval finished: approved={}, failed={}, users={}, totalCredited={}",
+                    response.getApproved(), response.getFailed(), newBalances.size(), response.getTotalCredited());
+            return response;
+        } catch (Exception e) {
+            logger.error("Error bulk approving deposits {}", depositIds, e);
+            throw e;
+        }
+    }
+
     // ====== DELETE ======
     public void delete(Long id) {
         try {
@@ -166,7 +268,7 @@ public class DepositService {
     }
 
     private User creditUserBalance(Long userId, BigDecimal amount) {
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + userId));
         BigDecimal newBalance = user.getBalance() == null ? amount : user.getBalance().add(amount);
         user.setBalance(newBalance);
@@ -177,16 +279,18 @@ public class DepositService {
      * Process deposit and credit user balance
      */
     private void processDeposit(Deposit deposit) {
-        User user = userRepository.findById(deposit.getUserId())
+        User user = userRepository.findByIdForUpdate(deposit.getUserId())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + deposit.getUserId()));
         
         // Credit deposit amount to user balance
-        BigDecimal newBalance = user.getBalance() == null ? deposit.getSum() : user.getBalance().add(deposit.getSum());
+        BigDecimal balanceBefore = user.getBalance() == null ? BigDecimal.ZERO : user.getBalance();
+        BigDecimal newBalance = balanceBefore.add(deposit.getSum());
         user.setBalance(newBalance);
         
         // Create transaction record for deposit
         transactionService.createDetailedTransaction(
             user,
+            balanceBefore,
             TransactionType.DEPOSIT,
             deposit.getSum(),
             "COMPLETED",
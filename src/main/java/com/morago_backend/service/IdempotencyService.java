@@ -0,0 +1,168 @@
+package com.morago_backend.service;
+
+import com.morago_backend.entity.IdempotencyRecord;
+import com.morago_backend.exception.IdempotencyConflictException;
+import com.morago_backend.repository.IdempotencyRecordRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Stores the first response of requests sent with an {@code Idempotency-Key} header.
+ * <p>
+ * Completed responses are kept in a bounded in-memory LRU in front of the {@code idempotency_keys}
+ * table, so most replays never reach the database. A key is reserved by inserting an IN_PROGRESS row
+ * before the request runs; the unique scope hash makes a concurrent duplicate fail on insert instead
+ * of running the request twice. Failed requests release their key so the client can retry.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+    private static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+    private final Map<String, StoredResponse> cache;
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${idempotency.cache-size:10000}") int cacheSize) {
+        this.repository = repository;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    // ========== BEGIN ==========
+    /**
+     * Reserve a key for a request. Returns the stored response when the request was already completed,
+     * or empty when the caller should run the request and then call {@link #complete} or {@link #release}.
+     */
+    public Optional<StoredResponse> begin(String scopeHash, String key, String principal, String request, String requestHash) {
+        StoredResponse cached = cache.get(scopeHash);
+        if (cached != null) {
+            if (cached.getExpiresAt().isAfter(LocalDateTime.now())) {
+                verifySameRequest(cached.getRequestHash(), requestHash, key);
+                return Optional.of(cached);
+            }
+            cache.remove(scopeHash);
+        }
+
+        Optional<IdempotencyRecord> existing = repository.findByScopeHash(scopeHash);
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (record.getExpiresAt().isBefore(LocalDateTime.now())) {
+                repository.deleteByScopeHash(scopeHash);
+            } else {
+                verifySameRequest(record.getRequestHash(), requestHash, key);
+                if (!STATUS_COMPLETED.equals(record.getStatus())) {
+                    throw new IdempotencyConflictException("A request with this Idempotency-Key is still being processed", HttpStatus.CONFLICT);
+                }
+                StoredResponse stored = toStoredResponse(record);
+                cache.put(scopeHash, stored);
+                return Optional.of(stored);
+            }
+        }
+
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setScopeHash(scopeHash);
+        record.setIdempotencyKey(key);
+        record.setPrincipal(principal);
+        record.setRequest(request.length() > 300 ? request.substring(0, 300) : request);
+        record.setRequestHash(requestHash);
+        record.setStatus(STATUS_IN_PROGRESS);
+        record.setExpiresAt(LocalDateTime.now().plus(ttl));
+        try {
+            repository.saveAndFlush(record);
+        } catch (DataIntegrityViolationException e) {
+            throw new IdempotencyConflictException("A request with this Idempotency-Key is still being processed", HttpStatus.CONFLICT);
+        }
+        return Optional.empty();
+    }
+
+    // ========== COMPLETE / RELEASE ==========
+    /**
+     * Store the response of a successful request
+     */
+    public void complete(String scopeHash, int responseStatus, String responseBody, String responseLocation) {
+        IdempotencyRecord record = repository.findByScopeHash(scopeHash).orElse(null);
+        if (record == null) {
+            logger.warn("Idempotency record disappeared before completion, scope={}", scopeHash);
+            return;
+        }
+        record.setStatus(STATUS_COMPLETED);
+        record.setResponseStatus(responseStatus);
+        record.setResponseBody(responseBody);
+        record.setResponseLocation(responseLocation);
+        repository.save(record);
+        cache.put(scopeHash, toStoredResponse(record));
+    }
+
+    /**
+     * Forget a key whose request failed, so a retry runs the request again
+     */
+    public void release(String scopeHash) {
+        cache.remove(scopeHash);
+        repository.deleteByScopeHash(scopeHash);
+    }
+
+    // ========== TTL SWEEP ==========
+    @Scheduled(fixedDelayString = "${idempotency.sweep-interval-ms:3600000}")
+    public void sweepExpired() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int removed = repository.deleteExpired(now);
+            cache.values().removeIf(stored -> stored.getExpiresAt().isBefore(now));
+            if (removed > 0) {
+                logger.info("Removed {} expired idempotency keys", removed);
+            }
+        } catch (Exception e) {
+            logger.error("Error sweeping expired idempotency keys", e);
+        }
+    }
+
+    // ========== HELPERS ==========
+    private void verifySameRequest(String storedHash, String requestHash, String key) {
+        if (!storedHash.equals(requestHash)) {
+            throw new IdempotencyConflictException(
+                    "Idempotency-Key '" + key + "' was already used with a different request", HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+    }
+
+    private StoredResponse toStoredResponse(IdempotencyRecord record) {
+        return new StoredResponse(record.getRequestHash(), record.getResponseStatus(), record.getResponseBody(),
+                record.getResponseLocation(), record.getExpiresAt());
+    }
+
+    /**
+     * Response recorded for a completed request
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class StoredResponse {
+        private final String requestHash;
+        private final int status;
+        private final String body;
+        private final String location;
+        private final LocalDateTime expiresAt;
+    }
+}
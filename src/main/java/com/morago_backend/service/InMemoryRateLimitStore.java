@@ -0,0 +1,47 @@
+package com.morago_backend.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-node stand-in for a shared {@link RateLimitStore}. It lets cluster-sync mode run and be
+ * tested without external infrastructure; a multi-instance deployment replaces it with a store all
+ * instances can reach.
+ */
+@Service
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public long incrementAndGet(String key, Duration ttl) {
+        long now = System.nanoTime();
+        Counter counter = counters.compute(key, (k, existing) ->
+                existing == null || existing.isExpired(now) ? new Counter(now + ttl.toNanos()) : existing);
+        return counter.value.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        long now = System.nanoTime();
+        counters.values().removeIf(counter -> counter.isExpired(now));
+    }
+
+    private static final class Counter {
+        private final AtomicLong value = new AtomicLong();
+        private final long expiresAtNanos;
+
+        private Counter(long expiresAtNanos) {
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
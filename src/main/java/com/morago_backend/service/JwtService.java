@@ -1,83 +1,228 @@
 package com.morago_backend.service;
 
+import com.morago_backend.entity.User;
+import com.morago_backend.entity.UserRole;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import java.util.Date;
-import java.util.Map;
-import javax.crypto.SecretKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Single place where JWTs are issued and verified.
+ * <p>
+ * Signing keys are derived once at startup. Tokens are signed with the current key and carry its
+ * {@code kid} header; retired keys listed in {@code security.jwt.previous-keys} ({@code kid:secret},
+ * comma separated) are still accepted for verification, so the secret can be rotated without logging
+ * everyone out. The JJWT parser and the resource-server decoder are built once and are thread-safe.
+ */
 @Service
 public class JwtService {
 
-    @Value("${security.jwt.secret}")
-    private String secret;
-
-    @Value("${security.jwt.expiration-ms:3600000}")
-    private String expirationMsStr;
-    
-    private long getExpirationMs() {
-        try {
-            long expirationMs = Long.parseLong(expirationMsStr);
-            if (expirationMs <= 0) {
-                throw new IllegalArgumentException("JWT expiration must be greater than 0, got: " + expirationMs);
+    private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
+
+    private final String currentKeyId;
+    private final SecretKey currentKey;
+    private final Map<String, SecretKey> verificationKeys;
+    private final long expirationMs;
+    private final JwtParser parser;
+
+    public JwtService(@Value("${security.jwt.secret:${jwt.secret}}") String secret,
+                      @Value("${security.jwt.key-id:primary}") String keyId,
+                      @Value("${security.jwt.previous-keys:}") String previousKeys,
+                      @Value("${security.jwt.expiration-ms:3600000}") String expirationMsStr) {
+        this.currentKeyId = keyId;
+        this.currentKey = deriveKey(secret);
+        this.expirationMs = parseExpirationMs(expirationMsStr);
+
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        keys.put(keyId, currentKey);
+        for (String entry : previousKeys.split(",")) {
+            if (entry.isBlank()) continue;
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("security.jwt.previous-keys entries must look like kid:secret");
             }
-            return expirationMs;
-        } catch (NumberFormatException e) {
-            System.err.println("ERROR: Invalid security.jwt.expiration-ms value. Expected a number but got: " + expirationMsStr);
-            System.err.println("Please set JWT_EXPIRATION_MS to a valid number (e.g., 3600000) in your Railway environment variables.");
-            throw new IllegalArgumentException("JWT_EXPIRATION_MS must be a valid number. Current value: " + expirationMsStr, e);
+            keys.putIfAbsent(entry.substring(0, separator).trim(), deriveKey(entry.substring(separator + 1).trim()));
         }
+        this.verificationKeys = Map.copyOf(keys);
+
+        this.parser = Jwts.parser()
+                .keyLocator(header -> locateKey(header.get("kid")))
+                .build();
+        logger.info("JWT keys loaded: current kid={}, verification kids={}", currentKeyId, verificationKeys.keySet());
     }
 
-    public String extractUsername(String token) {
+    // ========== ISSUE ==========
+    /**
+     * Access token for a user: subject is the phone number, with {@code roles} and {@code id} claims
+     */
+    public String generateToken(User user) {
+        return generateToken(user.getId(), user.getPhone(), user.getRoles());
+    }
 
-        return extractAllClaims(token).getSubject();
+    public String generateToken(Long userId, String phone, Collection<UserRole> userRoles) {
+        return generateToken(userId, phone, userRoles, newTokenId());
     }
 
-    public String generateToken(UserDetails userDetails) {
+    /**
+     * Access token with a caller-chosen {@code jti}, so the token can be revoked later
+     */
+    public String generateToken(Long userId, String phone, Collection<UserRole> userRoles, String tokenId) {
+        List<String> roles = userRoles.stream()
+                .map(Enum::name)
+                .toList();
+        return generateToken(Map.of("roles", roles, "id", userId), phone, tokenId);
+    }
 
-        return generateToken(Map.of(), userDetails);
+    public String generateToken(UserDetails userDetails) {
+        return generateToken(Map.of(), userDetails.getUsername(), newTokenId());
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + getExpirationMs());
+        return generateToken(extraClaims, userDetails.getUsername(), newTokenId());
+    }
+
+    private String generateToken(Map<String, Object> extraClaims, String subject, String tokenId) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
-            .claims(extraClaims)
-            .subject(userDetails.getUsername())
-            .issuedAt(now)
-            .expiration(expiry)
-            .signWith(getSignInKey(), Jwts.SIG.HS256)
-            .compact();
+                .header().keyId(currentKeyId).and()
+                .claims(extraClaims)
+                .id(tokenId)
+                .subject(subject)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expirationMs))
+                .signWith(currentKey, Jwts.SIG.HS256)
+                .compact();
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+    public long getExpirationMs() {
+        return expirationMs;
     }
 
-    private boolean isTokenExpired(String token) {
+    public String newTokenId() {
+        return UUID.randomUUID().toString();
+    }
 
-        return extractAllClaims(token).getExpiration().before(new Date());
+    // ========== VERIFY ==========
+    /**
+     * Verify signature and expiry and return the claims; throws a {@code JwtException} otherwise
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(getSignInKey())
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+    public String extractUsername(String token) {
+        return parseClaims(token).getSubject();
     }
 
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        // parseClaims already rejects expired tokens
+        return parseClaims(token).getSubject().equals(userDetails.getUsername());
     }
-}
 
+    /**
+     * Decoder for the OAuth2 resource server, backed by the same keys. Tokens without a {@code kid}
+     * (issued before rotation support) are tried against every known key. {@code additionalValidator}
+     * runs after the standard expiry checks.
+     */
+    public JwtDecoder buildJwtDecoder(OAuth2TokenValidator<Jwt> additionalValidator) {
+        List<JWK> jwks = new ArrayList<>();
+        verificationKeys.forEach((kid, key) -> jwks.add(new OctetSequenceKey.Builder(key)
+                .keyID(kid)
+                .algorithm(JWSAlgorithm.HS256)
+                .build()));
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.HS256, new ImmutableJWKSet<>(new JWKSet(jwks))));
+        // Claims are validated by Spring's validators below
+        processor.setJWTClaimsSetVerifier((claims, context) -> {});
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(), additionalValidator));
+        return decoder;
+    }
+
+    // ========== KEYS ==========
+    private Key locateKey(Object kid) {
+        if (kid == null) {
+            // Tokens issued before kid headers were added are signed with the current key
+            return currentKey;
+        }
+        SecretKey key = verificationKeys.get(kid.toString());
+        if (key == null) {
+            throw new io.jsonwebtoken.security.SecurityException("Unknown JWT key id: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * Standard Base64, then URL-safe Base64, then raw bytes; keys shorter than 256 bits are hashed with SHA-256
+     */
+    private static SecretKey deriveKey(String secret) {
+        byte[] keyBytes;
+        try {
+            keyBytes = Decoders.BASE64.decode(secret);
+        } catch (Exception ignore) {
+            try {
+                keyBytes = Decoders.BASE64URL.decode(secret);
+            } catch (Exception ignoreToo) {
+                keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+            }
+        }
+
+        if (keyBytes.length < 32) {
+            try {
+                keyBytes = MessageDigest.getInstance("SHA-256").digest(keyBytes);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available for JWT key derivation", e);
+            }
+        }
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
 
+    private static long parseExpirationMs(String value) {
+        try {
+            long expirationMs = Long.parseLong(value);
+            if (expirationMs <= 0) {
+                throw new IllegalArgumentException("JWT expiration must be greater than 0, got: " + expirationMs);
+            }
+            return expirationMs;
+        } catch (NumberFormatException e) {
+            logger.error("Invalid security.jwt.expiration-ms value '{}'; set JWT_EXPIRATION_MS to a number of milliseconds, e.g. 3600000", value);
+            throw new IllegalArgumentException("JWT_EXPIRATION_MS must be a valid number. Current value: " + value, e);
+        }
+    }
+}
@@ -6,13 +6,14 @@ import com.morago_backend.dto.dtoRequest.LanguageRequestDTO;
 import com.morago_backend.dto.dtoResponse.LanguageResponseDTO;
 import com.morago_backend.dto.dtoResponse.PagedResponse;
 import com.morago_backend.entity.Language;
+import com.morago_backend.event.CatalogChangedEvent;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.LanguageRepository;
 import com.corundumstudio.socketio.SocketIOServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -23,14 +24,19 @@ public class LanguageService {
 
     private final LanguageRepository repository;
     private final SocketIOServer socketServer;
+    private final CatalogCache catalogCache;
+    private final ApplicationEventPublisher eventPublisher;
     private static final Logger logger = LoggerFactory.getLogger(LanguageService.class);
 
-    public LanguageService(LanguageRepository repository, SocketIOServer socketServer) {
+    public LanguageService(LanguageRepository repository, SocketIOServer socketServer,
+                           CatalogCache catalogCache, ApplicationEventPublisher eventPublisher) {
         this.repository = repository;
         this.socketServer = socketServer;
+        this.catalogCache = catalogCache;
+        this.eventPublisher = eventPublisher;
     }
 
-    private LanguageResponseDTO toDTO(Language entity) {
+    static LanguageResponseDTO toDTO(Language entity) {
         LanguageResponseDTO dto = new LanguageResponseDTO();
         dto.setId(entity.getId());
         dto.setName(entity.getName());
@@ -51,6 +57,7 @@ public class LanguageService {
             logger.info("Creating language with name={}", dto.getName());
             Language saved = repository.save(fromDTO(dto));
             socketServer.getBroadcastOperations().sendEvent("languageCreated", saved);
+            eventPublisher.publishEvent(new CatalogChangedEvent("language", saved.getId()));
             logger.info("Language created with id={}", saved.getId());
             return toDTO(saved);
         } catch (Exception e) {
@@ -63,9 +70,7 @@ public class LanguageService {
     public List<LanguageResponseDTO> findAll() {
         try {
             logger.info("Fetching all languages");
-            return repository.findAll().stream()
-                    .map(this::toDTO)
-                    .collect(Collectors.toList());
+            return catalogCache.languages().value();
         } catch (Exception e) {
             logger.error("Error fetching all languages", e);
             throw e;
@@ -75,22 +80,11 @@ public class LanguageService {
     // ========== READ paged + filtered ==========
     public PagedResponse<LanguageResponseDTO> findAll(PaginationRequest pagination, FilterRequest filter) {
         try {
-            PageRequest pageRequest = PageRequest.of(pagination.getPage(), pagination.getSize());
-            Page<Language> page = repository.findAll(pageRequest);
-
-            if (filter != null && filter.hasSearch()) {
-                String searchTerm = filter.getSearch().toLowerCase();
-                page = new org.springframework.data.domain.PageImpl<>(
-                        page.getContent().stream()
-                                .filter(l -> l.getName().toLowerCase().contains(searchTerm))
-                                .collect(Collectors.toList()),
-                        pageRequest,
-                        page.getTotalElements()
-                );
-            }
+            Page<Language> page = repository.findAll(LanguageRepository.FILTERS.toSpecification(filter),
+                    LanguageRepository.FILTERS.toPageable(pagination));
 
             List<LanguageResponseDTO> content = page.getContent().stream()
-                    .map(this::toDTO)
+                    .map(LanguageService::toDTO)
                     .collect(Collectors.toList());
             return new PagedResponse<>(content, page.getNumber(), page.getSize(), page.getTotalElements());
         } catch (Exception e) {
@@ -103,18 +97,26 @@ public class LanguageService {
     public LanguageResponseDTO findById(Long id) {
         try {
             logger.info("Fetching language by id={}", id);
-            return repository.findById(id)
-                    .map(this::toDTO)
-                    .orElseThrow(() -> {
-                        logger.warn("Language not found with id={}", id);
-                        return new ResourceNotFoundException("Language not found with id " + id);
-                    });
+            return findByIdTagged(id).value();
         } catch (Exception e) {
             logger.error("Error fetching language by id={}", id, e);
             throw e;
         }
     }
 
+    // ========== READ with ETag ==========
+    public CatalogCache.Tagged<List<LanguageResponseDTO>> findAllTagged() {
+        return catalogCache.languages();
+    }
+
+    public CatalogCache.Tagged<LanguageResponseDTO> findByIdTagged(Long id) {
+        return catalogCache.language(id)
+                .orElseThrow(() -> {
+                    logger.warn("Language not found with id={}", id);
+                    return new ResourceNotFoundException("Language not found with id " + id);
+                });
+    }
+
     // ========== UPDATE ==========
     public LanguageResponseDTO update(Long id, LanguageRequestDTO dto) {
         try {
@@ -128,6 +130,7 @@ public class LanguageService {
             existing.setName(dto.getName());
             Language saved = repository.save(existing);
             socketServer.getBroadcastOperations().sendEvent("languageUpdated", saved);
+            eventPublisher.publishEvent(new CatalogChangedEvent("language", saved.getId()));
             logger.info("Language updated id={}", saved.getId());
             return toDTO(saved);
         } catch (Exception e) {
@@ -146,6 +149,7 @@ public class LanguageService {
             }
             repository.deleteById(id);
             socketServer.getBroadcastOperations().sendEvent("languageDeleted", id);
+            eventPublisher.publishEvent(new CatalogChangedEvent("language", id));
             logger.info("Language deleted id={}", id);
         } catch (Exception e) {
             logger.error("Error deleting language id={}", id, e);
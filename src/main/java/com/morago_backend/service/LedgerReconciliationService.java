@@ -0,0 +1,344 @@
+package com.morago_backend.service;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.morago_backend.dto.dtoResponse.LedgerReconciliationIssueResponseDTO;
+import com.morago_backend.dto.dtoResponse.LedgerReconciliationRunResponseDTO;
+import com.morago_backend.dto.dtoResponse.PagedResponse;
+import com.morago_backend.entity.LedgerReconciliationIssue;
+import com.morago_backend.entity.LedgerReconciliationRun;
+import com.morago_backend.exception.ResourceNotFoundException;
+import com.morago_backend.repository.LedgerReconciliationIssueRepository;
+import com.morago_backend.repository.LedgerReconciliationJdbcRepository;
+import com.morago_backend.repository.LedgerReconciliationJdbcRepository.LedgerEntry;
+import com.morago_backend.repository.LedgerReconciliationRunRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Checks that every user's balance agrees with their transaction ledger.
+ * <p>
+ * The user ID space is split into fixed-size ranges that are scanned in parallel on virtual threads,
+ * with a semaphore keeping the number of concurrent scans (and so database connections) bounded.
+ * Each range is read in one read-only REPEATABLE READ transaction: balances and ledger rows come from
+ * the same consistent snapshot and no row locks are taken. Per user, ledger rows are walked in ID order
+ * and checked for missing balances, rows whose arithmetic does not add up, rows that do not continue
+ * from the previous row's balance, and a final balance that differs from {@code users.balance}.
+ */
+@Service
+public class LedgerReconciliationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerReconciliationService.class);
+    private static final String STATUS_RUNNING = "RUNNING";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+    private static final String STATUS_FAILED = "FAILED";
+    private static final String MISSING_BALANCE = "MISSING_BALANCE";
+    private static final String ARITHMETIC_MISMATCH = "ARITHMETIC_MISMATCH";
+    private static final String CHAIN_BREAK = "CHAIN_BREAK";
+    private static final String BALANCE_MISMATCH = "BALANCE_MISMATCH";
+    private static final int MAX_ISSUES_PER_USER = 50;
+
+    private final LedgerReconciliationRunRepository runRepository;
+    private final LedgerReconciliationIssueRepository issueRepository;
+    private final LedgerReconciliationJdbcRepository jdbcRepository;
+    private final TransactionService transactionService;
+    private final SocketIOServer socketServer;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate writeTemplate;
+    private final int rangeSize;
+    private final Semaphore scanPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public LedgerReconciliationService(LedgerReconciliationRunRepository runRepository,
+                                       LedgerReconciliationIssueRepository issueRepository,
+                                       LedgerReconciliationJdbcRepository jdbcRepository,
+                                       TransactionService transactionService,
+                                       SocketIOServer socketServer,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${ledger.reconciliation.range-size:1000}") int rangeSize,
+                                       @Value("${ledger.reconciliation.parallelism:4}") int parallelism) {
+        this.runRepository = runRepository;
+        this.issueRepository = issueRepository;
+        this.jdbcRepository = jdbcRepository;
+        this.transactionService = transactionService;
+        this.socketServer = socketServer;
+        this.rangeSize = rangeSize;
+        this.scanPermits = new Semaphore(parallelism);
+
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.readTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ========== START RUN ==========
+    /**
+     * Start a reconciliation run in the background and return it right away with status RUNNING
+     */
+    public LedgerReconciliationRunResponseDTO startRun() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalArgumentException("A ledger reconciliation run is already in progress");
+        }
+        try {
+            LedgerReconciliationRun run = new LedgerReconciliationRun();
+            run.setStatus(STATUS_RUNNING);
+            LedgerReconciliationRun saved = runRepository.save(run);
+            logger.info("Ledger reconciliation run id={} started", saved.getId());
+
+            executor.submit(() -> execute(saved.getId()));
+            return mapToResponse(saved);
+        } catch (Exception e) {
+            running.set(false);
+            logger.error("Error starting ledger reconciliation run", e);
+            throw e;
+        }
+    }
+
+    // ========== READ ==========
+    public List<LedgerReconciliationRunResponseDTO> findAll() {
+        return runRepository.findAllByOrderByCreatedAtDatetimeDesc().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    public LedgerReconciliationRunResponseDTO findById(Long runId) {
+        return mapToResponse(getRun(runId));
+    }
+
+    public PagedResponse<LedgerReconciliationIssueResponseDTO> findIssues(Long runId, String issueType, int page, int size) {
+        getRun(runId);
+        PageRequest pageable = PageRequest.of(page, size);
+        Page<LedgerReconciliationIssue> issues = issueType == null || issueType.isBlank()
+                ? issueRepository.findByRunIdOrderByUserIdAscIdAsc(runId, pageable)
+                : issueRepository.findByRunIdAndIssueTypeOrderByUserIdAscIdAsc(runId, issueType.toUpperCase(), pageable);
+
+        List<LedgerReconciliationIssueResponseDTO> content = issues.getContent().stream()
+                .map(this::mapIssueToResponse)
+                .collect(Collectors.toList());
+        return new PagedResponse<>(content, page, size, issues.getTotalElements());
+    }
+
+    // ========== EXECUTION ==========
+    private void execute(Long runId) {
+        try {
+            long[] idRange = jdbcRepository.findUserIdRange();
+            List<Future<?>> scans = new ArrayList<>();
+            if (idRange.length == 2) {
+                for (long from = idRange[0]; from <= idRange[1]; from += rangeSize) {
+                    long to = Math.min(from + rangeSize - 1, idRange[1]);
+                    long rangeFrom = from;
+                    scans.add(executor.submit(() -> {
+                        scanPermits.acquire();
+                        try {
+                            scanRange(runId, rangeFrom, to);
+                        } finally {
+                            scanPermits.release();
+                        }
+                        return null;
+                    }));
+                }
+            }
+            for (Future<?> scan : scans) {
+                scan.get();
+            }
+            finish(runId, STATUS_COMPLETED, null);
+        } catch (Exception e) {
+            logger.error("Ledger reconciliation run id={} failed", runId, e);
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            finish(runId, STATUS_FAILED, message.length() > 1000 ? message.substring(0, 1000) : message);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void scanRange(Long runId, long fromId, long toId) {
+        RangeResult result = readTemplate.execute(status -> {
+            Map<Long, BigDecimal> balances = jdbcRepository.findBalances(fromId, toId);
+            UserChain chain = new UserChain(runId, balances);
+            jdbcRepository.streamTransactions(fromId, toId, chain::accept);
+            chain.finishAll();
+            return chain.result();
+        });
+
+        writeTemplate.executeWithoutResult(status -> {
+            jdbcRepository.insertIssues(result.issues);
+            runRepository.addProgress(runId, result.users, result.transactions, result.issues.size());
+        });
+        logger.debug("Ledger reconciliation run id={} checked users {}-{}: {} issues", runId, fromId, toId, result.issues.size());
+    }
+
+    private void finish(Long runId, String status, String errorMessage) {
+        LedgerReconciliationRun run = writeTemplate.execute(tx -> {
+            LedgerReconciliationRun r = getRun(runId);
+            r.setStatus(status);
+            r.setErrorMessage(errorMessage);
+            r.setCompletedAt(LocalDateTime.now());
+            return runRepository.save(r);
+        });
+
+        LedgerReconciliationRunResponseDTO dto = mapToResponse(run);
+        socketServer.getBroadcastOperations().sendEvent("ledgerReconciliationCompleted", dto);
+        logger.info("Ledger reconciliation run id={} finished with status={}: users={}, transactions={}, issues={}",
+                runId, status, dto.getUsersChecked(), dto.getTransactionsChecked(), dto.getIssuesFound());
+    }
+
+    /**
+     * Walks the ledger rows of one ID range, one user at a time
+     */
+    private class UserChain {
+        private final Long runId;
+        private final Map<Long, BigDecimal> balances;
+        private final List<LedgerReconciliationIssue> issues = new ArrayList<>();
+        private final long users;
+        private long transactions;
+        private Long currentUserId;
+        private BigDecimal lastBalanceAfter;
+        private int userIssues;
+
+        UserChain(Long runId, Map<Long, BigDecimal> balances) {
+            this.runId = runId;
+            this.balances = balances;
+            this.users = balances.size();
+        }
+
+        void accept(LedgerEntry entry) {
+            transactions++;
+            if (!Long.valueOf(entry.getUserId()).equals(currentUserId)) {
+                finishUser();
+                currentUserId = entry.getUserId();
+                lastBalanceAfter = null;
+                userIssues = 0;
+            }
+            // Only completed rows move money
+            if (!"COMPLETED".equalsIgnoreCase(entry.getStatus())) return;
+
+            BigDecimal before = entry.getBalanceBefore();
+            BigDecimal after = entry.getBalanceAfter();
+            if (before == null || after == null) {
+                report(entry.getId(), MISSING_BALANCE, null, null, "Ledger row has no balance_before/balance_after");
+                lastBalanceAfter = after;
+                return;
+            }
+            if (lastBalanceAfter != null && lastBalanceAfter.compareTo(before) != 0) {
+                report(entry.getId(), CHAIN_BREAK, lastBalanceAfter, before,
+                        "balance_before does not continue from the previous row's balance_after");
+            }
+            BigDecimal expectedAfter = transactionService.calculateBalanceAfter(before, entry.getAmount(), entry.getTransactionType());
+            if (expectedAfter.compareTo(after) != 0) {
+                report(entry.getId(), ARITHMETIC_MISMATCH, expectedAfter, after,
+                        entry.getTransactionType() + " of " + entry.getAmount() + " does not lead to balance_after");
+            }
+            lastBalanceAfter = after;
+        }
+
+        /**
+         * Close the last user and check users that have no ledger rows at all
+         */
+        void finishAll() {
+            finishUser();
+            for (Map.Entry<Long, BigDecimal> user : balances.entrySet()) {
+                if (user.getValue().signum() != 0) {
+                    currentUserId = user.getKey();
+                    userIssues = 0;
+                    report(null, BALANCE_MISMATCH, BigDecimal.ZERO, user.getValue(), "User has a balance but no ledger entries");
+                }
+            }
+            balances.clear();
+        }
+
+        private void finishUser() {
+            if (currentUserId == null) return;
+            BigDecimal balance = balances.remove(currentUserId);
+            if (balance != null && lastBalanceAfter != null && lastBalanceAfter.compareTo(balance) != 0) {
+                report(null, BALANCE_MISMATCH, lastBalanceAfter, balance, "users.balance differs from the last ledger balance");
+            }
+        }
+
+        private void report(Long transactionId, String type, BigDecimal expected, BigDecimal actual, String details) {
+            if (userIssues++ >= MAX_ISSUES_PER_USER) return;
+            LedgerReconciliationIssue issue = new LedgerReconciliationIssue();
+            issue.setRunId(runId);
+            issue.setUserId(currentUserId);
+            issue.setTransactionId(transactionId);
+            issue.setIssueType(type);
+            issue.setExpected(expected);
+            issue.setActual(actual);
+            issue.setDetails(details);
+            issues.add(issue);
+        }
+
+        RangeResult result() {
+            return new RangeResult(users, transactions, issues);
+        }
+    }
+
+    private static class RangeResult {
+        private final long users;
+        private final long transactions;
+        private final List<LedgerReconciliationIssue> issues;
+
+        RangeResult(long users, long transactions, List<LedgerReconciliationIssue> issues) {
+            this.users = users;
+            this.transactions = transactions;
+            this.issues = issues;
+        }
+    }
+
+    // ========== HELPERS ==========
+    private LedgerReconciliationRun getRun(Long runId) {
+        return runRepository.findById(runId)
+                .orElseThrow(() -> new ResourceNotFoundException("Ledger reconciliation run not found with id " + runId));
+    }
+
+    private LedgerReconciliationRunResponseDTO mapToResponse(LedgerReconciliationRun run) {
+        LedgerReconciliationRunResponseDTO dto = new LedgerReconciliationRunResponseDTO();
+        dto.setId(run.getId());
+        dto.setStatus(run.getStatus());
+        dto.setUsersChecked(run.getUsersChecked());
+        dto.setTransactionsChecked(run.getTransactionsChecked());
+        dto.setIssuesFound(run.getIssuesFound());
+        dto.setErrorMessage(run.getErrorMessage());
+        dto.setCompletedAt(run.getCompletedAt());
+        dto.setCreatedAtDatetime(run.getCreatedAtDatetime());
+        dto.setUpdatedAtDatetime(run.getUpdatedAtDatetime());
+        return dto;
+    }
+
+    private LedgerReconciliationIssueResponseDTO mapIssueToResponse(LedgerReconciliationIssue issue) {
+        LedgerReconciliationIssueResponseDTO dto = new LedgerReconciliationIssueResponseDTO();
+        dto.setId(issue.getId());
+        dto.setRunId(issue.getRunId());
+        dto.setUserId(issue.getUserId());
+        dto.setTransactionId(issue.getTransactionId());
+        dto.setIssueType(issue.getIssueType());
+        dto.setExpected(issue.getExpected());
+        dto.setActual(issue.getActual());
+        dto.setDetails(issue.getDetails());
+        return dto;
+    }
+}
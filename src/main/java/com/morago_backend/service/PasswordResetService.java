@@ -1,42 +1,61 @@
 package com.morago_backend.service;
 
 import com.morago_backend.dto.dtoResponse.PasswordResetResponseDTO;
-import com.morago_backend.entity.PasswordReset;
 import com.morago_backend.entity.User;
+import com.morago_backend.event.UserPrincipalChangedEvent;
 import com.morago_backend.exception.ResourceNotFoundException;
-import com.morago_backend.repository.PasswordResetRepository;
+import com.morago_backend.exception.TooManyRequestsException;
 import com.morago_backend.repository.UserRepository;
+import com.morago_backend.service.PasswordResetStore.ActiveReset;
 import com.corundumstudio.socketio.SocketIOServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Base64;
-import java.util.Optional;
 
 @Service
 public class PasswordResetService {
 
     private static final Logger logger = LoggerFactory.getLogger(PasswordResetService.class);
     private static final int CODE_EXPIRY_MINUTES = 15;
+    private static final String RESET_CODE_MESSAGE = "Your Morago password reset code is %d. It expires in %d minutes.";
     private final SecureRandom random = new SecureRandom();
 
-    private final PasswordResetRepository repository;
+    private final PasswordResetStore store;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final SocketIOServer socketServer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RefreshTokenService refreshTokenService;
+    private final SmsDeliveryService smsDeliveryService;
+    private final int maxAttempts;
+    private final Duration lockout;
 
-    public PasswordResetService(PasswordResetRepository repository,
+    public PasswordResetService(PasswordResetStore store,
                                 UserRepository userRepository,
                                 PasswordEncoder passwordEncoder,
-                                SocketIOServer socketServer) {
-        this.repository = repository;
+                                SocketIOServer socketServer,
+                                ApplicationEventPublisher eventPublisher,
+                                RefreshTokenService refreshTokenService,
+                                SmsDeliveryService smsDeliveryService,
+                                @Value("${password-reset.max-attempts:5}") int maxAttempts,
+                                @Value("${password-reset.lockout-minutes:30}") long lockoutMinutes) {
+        this.store = store;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.socketServer = socketServer;
+        this.eventPublisher = eventPublisher;
+        this.refreshTokenService = refreshTokenService;
+        this.smsDeliveryService = smsDeliveryService;
+        this.maxAttempts = maxAttempts;
+        this.lockout = Duration.ofMinutes(lockoutMinutes);
     }
 
     // ========== CREATE RESET REQUEST ==========
@@ -45,26 +64,34 @@ public class PasswordResetService {
             logger.info("Creating password reset for phone={}", phone);
 
             // Check if user exists
-            if (!userRepository.findByPhone(phone).isPresent()) {
+            if (!userRepository.existsByPhone(phone)) {
                 logger.warn("Password reset requested for non-existent user: phone={}", phone);
                 throw new ResourceNotFoundException("User not found with phone " + phone);
             }
 
-            PasswordReset entity = new PasswordReset();
-            entity.setPhone(phone);
-            entity.setResetCode(generateSecureCode());
-            entity.setIsVerified(false);
-            entity.setVerificationToken(generateSecureToken());
-            entity.setExpiresAt(LocalDateTime.now().plusMinutes(CODE_EXPIRY_MINUTES));
+            LocalDateTime now = LocalDateTime.now();
+            ActiveReset previous = store.find(phone).orElse(null);
+            if (previous != null && previous.isLocked(now)) {
+                throw lockedOut(previous, now);
+            }
+            // Failed attempts carry over to a new code until the previous one expires or its lockout ends,
+            // so requesting new codes does not buy more guesses
+            int failedAttempts = previous != null && !previous.isExpired(now) && previous.lockedUntil() == null
+                    ? previous.failedAttempts() : 0;
 
-            PasswordReset saved = repository.save(entity);
+            ActiveReset saved = store.issue(phone, generateSecureCode(), generateSecureToken(),
+                    now.plusMinutes(CODE_EXPIRY_MINUTES), failedAttempts);
 
-            // Send via Socket.IO (you may want to implement SMS sending here)
-            socketServer.getRoomOperations(phone).sendEvent("passwordResetCreated", saved);
+            // Queued for SMS delivery; the request does not wait for the provider
+            smsDeliveryService.enqueue(phone, String.format(RESET_CODE_MESSAGE, saved.code(), CODE_EXPIRY_MINUTES));
 
-            PasswordResetResponseDTO dto = toDTO(saved);
+            // The code and verification token only ever travel by SMS; callers get an acknowledgement
+            PasswordResetResponseDTO dto = new PasswordResetResponseDTO();
+            dto.setPhone(phone);
+            dto.setExpiresAt(saved.expiresAt());
             dto.setMessage("Reset code generated and sent to your phone");
-            // Don't expose the code in production - this is for testing
+            socketServer.getRoomOperations(phone).sendEvent("passwordResetCreated", dto);
+
             logger.info("Generated reset code for phone={}", phone);
             return dto;
         } catch (Exception e) {
@@ -88,25 +115,44 @@ public class PasswordResetService {
     // ========== VERIFY RESET CODE ==========
     public PasswordResetResponseDTO verifyCode(String phone, Integer code) {
         try {
-            PasswordReset reset = repository.findTopByPhoneOrderByCreatedAtDatetimeDesc(phone)
+            LocalDateTime now = LocalDateTime.now();
+            ActiveReset reset = store.find(phone)
                     .orElseThrow(() -> new ResourceNotFoundException("No reset request found for phone " + phone));
 
+            if (!code.equals(reset.code())) {
+                // Another instance may have issued a newer code; only count the failure against the stored one
+                reset = store.reload(phone)
+                        .orElseThrow(() -> new ResourceNotFoundException("No reset request found for phone " + phone));
+            }
+
+            if (reset.isLocked(now)) {
+                throw lockedOut(reset, now);
+            }
+
             // Check if code is expired
-            if (reset.getExpiresAt() != null && reset.getExpiresAt().isBefore(LocalDateTime.now())) {
+            if (reset.isExpired(now)) {
                 logger.warn("Reset code expired for phone={}", phone);
                 throw new RuntimeException("Reset code has expired. Please request a new one.");
             }
 
             // Check if code matches
-            if (!reset.getResetCode().equals(code)) {
-                logger.warn("Invalid reset code for phone={}", phone);
+            if (!code.equals(reset.code())) {
+                reset = store.recordFailure(reset, maxAttempts, now.plus(lockout));
+                logger.warn("Invalid reset code for phone={}, failed attempts={}", phone, reset.failedAttempts());
+                if (reset.isLocked(now)) {
+                    throw lockedOut(reset, now);
+                }
                 throw new RuntimeException("Invalid reset code");
             }
 
-            // Mark as verified
-            reset.setIsVerified(true);
-            reset.setVerificationToken(generateSecureToken()); // Generate new token for password update
-            repository.save(reset);
+            // Mark as verified with a new token for the password update
+            reset = store.markVerified(reset, generateSecureToken());
+            if (!reset.verified()) {
+                if (reset.isLocked(now)) {
+                    throw lockedOut(reset, now);
+                }
+                throw new RuntimeException("Invalid reset code");
+            }
 
             PasswordResetResponseDTO dto = toDTO(reset);
             dto.setMessage("Code verified");
@@ -120,24 +166,28 @@ public class PasswordResetService {
     // ========== UPDATE PASSWORD ==========
     public PasswordResetResponseDTO updatePassword(String phone, String newPassword, String verificationToken) {
         try {
-            // Find the most recent verified reset request for this phone
-            PasswordReset reset = repository.findTopByPhoneOrderByCreatedAtDatetimeDesc(phone)
+            ActiveReset reset = store.find(phone)
                     .orElseThrow(() -> new ResourceNotFoundException("No reset request found for phone " + phone));
+            if (!reset.verified() || !reset.verificationToken().equals(verificationToken)) {
+                // The code may have been verified on another instance
+                reset = store.reload(phone)
+                        .orElseThrow(() -> new ResourceNotFoundException("No reset request found for phone " + phone));
+            }
 
             // Verify that the reset was verified
-            if (!Boolean.TRUE.equals(reset.getIsVerified())) {
+            if (!reset.verified()) {
                 logger.warn("Attempt to reset password without verification for phone={}", phone);
                 throw new RuntimeException("Please verify your code first");
             }
 
             // Verify the token matches
-            if (!reset.getVerificationToken().equals(verificationToken)) {
+            if (!reset.verificationToken().equals(verificationToken)) {
                 logger.warn("Invalid verification token for phone={}", phone);
                 throw new RuntimeException("Invalid verification token");
             }
 
             // Check if expired
-            if (reset.getExpiresAt() != null && reset.getExpiresAt().isBefore(LocalDateTime.now())) {
+            if (reset.isExpired(LocalDateTime.now())) {
                 logger.warn("Password reset token expired for phone={}", phone);
                 throw new RuntimeException("Reset session has expired. Please request a new code.");
             }
@@ -155,9 +205,11 @@ public class PasswordResetService {
             String encoded = passwordEncoder.encode(newPassword);
             user.setPassword(encoded);
             userRepository.save(user);
+            eventPublisher.publishEvent(new UserPrincipalChangedEvent(user.getId(), user.getPhone()));
+            refreshTokenService.revokeAllForUser(user.getId());
 
             // Invalidate the reset request (mark as used)
-            repository.delete(reset);
+            store.remove(reset);
 
             // Create response DTO
             PasswordResetResponseDTO dto = new PasswordResetResponseDTO();
@@ -176,17 +228,22 @@ public class PasswordResetService {
         }
     }
 
+    private TooManyRequestsException lockedOut(ActiveReset reset, LocalDateTime now) {
+        long retryAfterSeconds = Math.max(1, Duration.between(now, reset.lockedUntil()).toSeconds());
+        logger.warn("Password reset locked for phone={} after {} failed attempts", reset.phone(), reset.failedAttempts());
+        return new TooManyRequestsException("Too many invalid reset codes, please try again later", retryAfterSeconds);
+    }
+
     // ========== MAPPER ==========
-    private PasswordResetResponseDTO toDTO(PasswordReset entity) {
+    private PasswordResetResponseDTO toDTO(ActiveReset reset) {
         PasswordResetResponseDTO dto = new PasswordResetResponseDTO();
-        dto.setId(entity.getId());
-        dto.setPhone(entity.getPhone());
-        dto.setResetCode(entity.getResetCode());
-        dto.setVerificationToken(entity.getVerificationToken());
-        dto.setIsVerified(entity.getIsVerified());
-        dto.setExpiresAt(entity.getExpiresAt());
-        dto.setCreatedAtDatetime(entity.getCreatedAtDatetime());
-        dto.setUpdatedAtDatetime(entity.getUpdatedAtDatetime());
+        dto.setId(reset.id());
+        dto.setPhone(reset.phone());
+        dto.setVerificationToken(reset.verificationToken());
+        dto.setIsVerified(reset.verified());
+        dto.setExpiresAt(reset.expiresAt());
+        dto.setCreatedAtDatetime(reset.createdAt());
+        dto.setUpdatedAtDatetime(reset.updatedAt());
         return dto;
     }
 }
@@ -0,0 +1,155 @@
+package com.morago_backend.service;
+
+import com.morago_backend.entity.PasswordReset;
+import com.morago_backend.repository.PasswordResetRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Active password reset codes, one per phone.
+ * <p>
+ * Codes live in a concurrent map in front of the {@code password_resets} table, so a verification is a
+ * map lookup. Every change is written through to the table, which is the source of truth between
+ * instances: a phone not in memory is loaded from it, and callers {@link #reload} before acting on a
+ * mismatch in case another instance issued a newer code. Expired rows are purged on a schedule.
+ */
+@Service
+public class PasswordResetStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordResetStore.class);
+
+    private final PasswordResetRepository repository;
+    private final Map<String, ActiveReset> active = new ConcurrentHashMap<>();
+
+    public PasswordResetStore(PasswordResetRepository repository) {
+        this.repository = repository;
+    }
+
+    // ========== READ ==========
+    public Optional<ActiveReset> find(String phone) {
+        ActiveReset cached = active.get(phone);
+        return cached != null ? Optional.of(cached) : reload(phone);
+    }
+
+    /**
+     * Read the phone's reset from the table, replacing the cached copy
+     */
+    public Optional<ActiveReset> reload(String phone) {
+        Optional<ActiveReset> stored = repository.findByPhone(phone).map(ActiveReset::of);
+        stored.ifPresentOrElse(reset -> active.put(phone, reset), () -> active.remove(phone));
+        return stored;
+    }
+
+    // ========== WRITE ==========
+    /**
+     * Replace the phone's reset with a new, unverified code
+     */
+    public ActiveReset issue(String phone, Integer code, String verificationToken, LocalDateTime expiresAt, int failedAttempts) {
+        try {
+            return issueOnce(phone, code, verificationToken, expiresAt, failedAttempts);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request inserted the phone's row first; overwrite it
+            return issueOnce(phone, code, verificationToken, expiresAt, failedAttempts);
+        }
+    }
+
+    private ActiveReset issueOnce(String phone, Integer code, String verificationToken, LocalDateTime expiresAt, int failedAttempts) {
+        PasswordReset entity = repository.findByPhone(phone).orElseGet(PasswordReset::new);
+        entity.setPhone(phone);
+        entity.setResetCode(code);
+        entity.setIsVerified(false);
+        entity.setVerificationToken(verificationToken);
+        entity.setExpiresAt(expiresAt);
+        entity.setFailedAttempts(failedAttempts);
+        entity.setLockedUntil(null);
+        return cache(repository.saveAndFlush(entity));
+    }
+
+    /**
+     * Mark the checked code as verified. The returned reset stays unverified if the stored row was given
+     * a new code or locked by another instance in the meantime.
+     */
+    public ActiveReset markVerified(ActiveReset reset, String verificationToken) {
+        repository.markVerified(reset.id(), reset.code(), verificationToken, LocalDateTime.now());
+        return reload(reset.phone())
+                .orElseThrow(() -> new IllegalStateException("Password reset no longer exists for phone " + reset.phone()));
+    }
+
+    /**
+     * Count a wrong code; the reset is locked until {@code lockUntil} once {@code maxAttempts} is reached.
+     * The count is incremented in the database, so concurrent wrong guesses are all counted.
+     */
+    public ActiveReset recordFailure(ActiveReset reset, int maxAttempts, LocalDateTime lockUntil) {
+        if (repository.incrementFailedAttempts(reset.id(), maxAttempts, lockUntil) == 0) {
+            throw new IllegalStateException("Password reset no longer exists for phone " + reset.phone());
+        }
+        return reload(reset.phone())
+                .orElseThrow(() -> new IllegalStateException("Password reset no longer exists for phone " + reset.phone()));
+    }
+
+    public void remove(ActiveReset reset) {
+        active.remove(reset.phone());
+        repository.deleteById(reset.id());
+    }
+
+    private ActiveReset cache(PasswordReset entity) {
+        ActiveReset reset = ActiveReset.of(entity);
+        active.put(reset.phone(), reset);
+        return reset;
+    }
+
+    // ========== PURGE ==========
+    @Scheduled(fixedDelayString = "${password-reset.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        active.values().removeIf(reset -> reset.isExpired(now) && !reset.isLocked(now));
+        int deleted = repository.deleteExpired(now);
+        if (deleted > 0) {
+            logger.info("Purged {} expired password reset(s)", deleted);
+        }
+    }
+
+    /**
+     * Immutable copy of a {@code password_resets} row
+     */
+    public record ActiveReset(Long id,
+                              String phone,
+                              Integer code,
+                              boolean verified,
+                              String verificationToken,
+                              LocalDateTime expiresAt,
+                              int failedAttempts,
+                              LocalDateTime lockedUntil,
+                              LocalDateTime createdAt,
+                              LocalDateTime updatedAt) {
+
+        static ActiveReset of(PasswordReset entity) {
+            return new ActiveReset(entity.getId(),
+                    entity.getPhone(),
+                    entity.getResetCode(),
+                    Boolean.TRUE.equals(entity.getIsVerified()),
+                    entity.getVerificationToken(),
+                    entity.getExpiresAt(),
+                    entity.getFailedAttempts() == null ? 0 : entity.getFailedAttempts(),
+                    entity.getLockedUntil(),
+                    entity.getCreatedAtDatetime(),
+                    entity.getUpdatedAtDatetime());
+        }
+
+        public boolean isExpired(LocalDateTime now) {
+            return expiresAt != null && expiresAt.isBefore(now);
+        }
+
+        public boolean isLocked(LocalDateTime now) {
+            return lockedUntil != null && lockedUntil.isAfter(now);
+        }
+    }
+}
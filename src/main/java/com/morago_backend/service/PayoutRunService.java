@@ -0,0 +1,274 @@
+package com.morago_backend.service;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.morago_backend.dto.dtoResponse.PayoutRunResponseDTO;
+import com.morago_backend.entity.PayoutRun;
+import com.morago_backend.entity.Transaction;
+import com.morago_backend.entity.TransactionType;
+import com.morago_backend.entity.Withdrawal;
+import com.morago_backend.exception.ResourceNotFoundException;
+import com.morago_backend.repository.LedgerJdbcRepository;
+import com.morago_backend.repository.PayoutRunRepository;
+import com.morago_backend.repository.UserRepository;
+import com.morago_backend.repository.WithdrawalRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Pays out pending withdrawals in bulk.
+ * <p>
+ * A run claims every unclaimed PENDING withdrawal created up to its cutoff, then settles the claimed
+ * withdrawals in chunks. Each chunk is its own database transaction: balances are locked and checked
+ * together, debited with one batch update and recorded with batched ledger inserts. Withdrawals that
+ * cannot be covered are released back to the pending pool. Because a chunk only ever picks up the
+ * run's still-pending withdrawals, an interrupted run can be resumed and re-running it is a no-op.
+ */
+@Service
+public class PayoutRunService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayoutRunService.class);
+    private static final int CHUNK_SIZE = 500;
+    private static final String STATUS_PROCESSING = "PROCESSING";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+
+    private final PayoutRunRepository payoutRunRepository;
+    private final WithdrawalRepository withdrawalRepository;
+    private final UserRepository userRepository;
+    private final LedgerJdbcRepository ledgerJdbcRepository;
+    private final TransactionService transactionService;
+    private final SocketIOServer socketServer;
+    private final TransactionTemplate transactionTemplate;
+
+    public PayoutRunService(PayoutRunRepository payoutRunRepository,
+                            WithdrawalRepository withdrawalRepository,
+                            UserRepository userRepository,
+                            LedgerJdbcRepository ledgerJdbcRepository,
+                            TransactionService transactionService,
+                            SocketIOServer socketServer,
+                            PlatformTransactionManager transactionManager) {
+        this.payoutRunRepository = payoutRunRepository;
+        this.withdrawalRepository = withdrawalRepository;
+        this.userRepository = userRepository;
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.transactionService = transactionService;
+        this.socketServer = socketServer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ========== START RUN ==========
+    /**
+     * Start (or continue) the run for a cutoff. Calling this again with the same cutoff returns the
+     * existing run and only processes what is still outstanding.
+     */
+    public PayoutRunResponseDTO startRun(LocalDateTime cutoff) {
+        try {
+            logger.info("Starting payout run with cutoff={}", cutoff);
+            // Read through a read-write transaction so it is served by the primary
+            PayoutRun run = transactionTemplate.execute(status -> payoutRunRepository.findByCutoff(cutoff))
+                    .orElseGet(() -> createRun(cutoff));
+            return processRun(run.getId());
+        } catch (Exception e) {
+            logger.error("Error running payout run with cutoff={}", cutoff, e);
+            throw e;
+        }
+    }
+
+    // ========== RESUME RUN ==========
+    public PayoutRunResponseDTO resumeRun(Long runId) {
+        try {
+            logger.info("Resuming payout run id={}", runId);
+            return processRun(runId);
+        } catch (Exception e) {
+            logger.error("Error resuming payout run id={}", runId, e);
+            throw e;
+        }
+    }
+
+    // ========== READ ==========
+    public PayoutRunResponseDTO findById(Long runId) {
+        return mapToResponse(getRun(runId));
+    }
+
+    public List<PayoutRunResponseDTO> findAll() {
+        return payoutRunRepository.findAllByOrderByCreatedAtDatetimeDesc().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    // ========== PAYOUT FILE ==========
+    /**
+     * CSV instruction file for the bank with every withdrawal the run approved
+     */
+    public byte[] buildPayoutFile(Long runId) {
+        PayoutRun run = getRun(runId);
+        if (!STATUS_COMPLETED.equals(run.getStatus())) {
+            throw new IllegalArgumentException("Payout run " + runId + " has not completed yet");
+        }
+
+        StringBuilder csv = new StringBuilder("withdrawal_id,user_id,account_holder,bank_name,account_number,amount\n");
+        for (Withdrawal w : withdrawalRepository.findByPayoutRunIdAndStatusOrderByIdAsc(runId, "APPROVED")) {
+            csv.append(w.getId()).append(',')
+               .append(w.getUserId()).append(',')
+               .append(csvField(w.getAccountHolder())).append(',')
+               .append(csvField(w.getBankName())).append(',')
+               .append(csvField(w.getAccountNumber())).append(',')
+               .append(w.getSum().toPlainString()).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ========== PROCESSING ==========
+    private PayoutRun createRun(LocalDateTime cutoff) {
+        try {
+            return transactionTemplate.execute(status -> {
+                PayoutRun run = new PayoutRun();
+                run.setCutoff(cutoff);
+                run.setStatus(STATUS_PROCESSING);
+                PayoutRun saved = payoutRunRepository.saveAndFlush(run);
+
+                int claimed = withdrawalRepository.claimPendingForRun(saved.getId(), cutoff);
+                saved = getRun(saved.getId());
+                saved.setClaimedCount(claimed);
+                logger.info("Payout run id={} claimed {} pending withdrawals", saved.getId(), claimed);
+                return payoutRunRepository.save(saved);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another admin created the run for this cutoff first
+            logger.info("Payout run for cutoff={} already exists, reusing it", cutoff);
+            return transactionTemplate.execute(status -> payoutRunRepository.findByCutoff(cutoff)).orElseThrow(() -> e);
+        }
+    }
+
+    private PayoutRunResponseDTO processRun(Long runId) {
+        PayoutRun run = transactionTemplate.execute(status -> getRun(runId));
+        if (STATUS_COMPLETED.equals(run.getStatus())) {
+            logger.info("Payout run id={} already completed", runId);
+            return mapToResponse(run);
+        }
+
+        int processed;
+        do {
+            processed = transactionTemplate.execute(status -> processChunk(runId));
+        } while (processed > 0);
+
+        PayoutRun completed = transactionTemplate.execute(status -> {
+            PayoutRun r = getRun(runId);
+            r.setStatus(STATUS_COMPLETED);
+            r.setCompletedAt(LocalDateTime.now());
+            return payoutRunRepository.save(r);
+        });
+
+        PayoutRunResponseDTO dto = mapToResponse(completed);
+        socketServer.getBroadcastOperations().sendEvent("payoutRunCompleted", dto);
+        logger.info("Payout run id={} completed: approved={}, skipped={}, total={}",
+                runId, dto.getApprovedCount(), dto.getSkippedCount(), dto.getTotalAmount());
+        return dto;
+    }
+
+    /**
+     * Settle the next chunk of the run's pending withdrawals; returns how many were handled
+     */
+    private int processChunk(Long runId) {
+        List<Withdrawal> chunk = withdrawalRepository.findPendingForRun(runId, PageRequest.of(0, CHUNK_SIZE));
+        if (chunk.isEmpty()) return 0;
+
+        Set<Long> userIds = chunk.stream().map(Withdrawal::getUserId).collect(Collectors.toSet());
+        Map<Long, BigDecimal> balances = ledgerJdbcRepository.lockBalances(userIds);
+
+        Map<Long, BigDecimal> newBalances = new LinkedHashMap<>();
+        List<Transaction> transactions = new ArrayList<>();
+        List<Long> approvedIds = new ArrayList<>();
+        List<Long> skippedIds = new ArrayList<>();
+        BigDecimal chunkTotal = BigDecimal.ZERO;
+
+        for (Withdrawal w : chunk) {
+            Long userId = w.getUserId();
+            BigDecimal balance = newBalances.getOrDefault(userId, balances.get(userId));
+            if (balance == null || w.getSum() == null || w.getSum().signum() <= 0 || balance.compareTo(w.getSum()) < 0) {
+                logger.warn("Skipping withdrawal id={} in payout run id={}: balance={} sum={}", w.getId(), runId, balance, w.getSum());
+                skippedIds.add(w.getId());
+                continue;
+            }
+
+            Transaction transaction = transactionService.buildDetailedTransaction(
+                userRepository.getReferenceById(userId),
+                balance,
+                TransactionType.WITHDRAWAL,
+                w.getSum(),
+                "COMPLETED",
+                "Withdrawal approved and debited from account",
+                w.getId(),
+                w.getAccountHolder(),
+                w.getBankName(),
+                w.getAccountNumber(),
+                "Withdrawal ID: " + w.getId() + ", Payout run ID: " + runId
+            );
+            transactions.add(transaction);
+            newBalances.put(userId, transaction.getBalanceAfter());
+            approvedIds.add(w.getId());
+            chunkTotal = chunkTotal.add(w.getSum());
+        }
+
+        if (!approvedIds.isEmpty()) {
+            withdrawalRepository.updateStatusByIds(approvedIds, "APPROVED", LocalDateTime.now());
+            ledgerJdbcRepository.updateBalances(newBalances);
+            transactionService.saveAllInBatch(transactions);
+        }
+        if (!skippedIds.isEmpty()) {
+            withdrawalRepository.releaseFromRun(skippedIds);
+        }
+
+        PayoutRun run = getRun(runId);
+        run.setApprovedCount(run.getApprovedCount() + approvedIds.size());
+        run.setSkippedCount(run.getSkippedCount() + skippedIds.size());
+        run.setTotalAmount(run.getTotalAmount().add(chunkTotal));
+        payoutRunRepository.save(run);
+
+        logger.info("Payout run id={} chunk settled: approved={}, skipped={}", runId, approvedIds.size(), skippedIds.size());
+        return chunk.size();
+    }
+
+    // ========== HELPERS ==========
+    private PayoutRun getRun(Long runId) {
+        return payoutRunRepository.findById(runId)
+                .orElseThrow(() -> new ResourceNotFoundException("Payout run not found with id " + runId));
+    }
+
+    private String csvField(String value) {
+        if (value == null) return "";
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private PayoutRunResponseDTO mapToResponse(PayoutRun run) {
+        PayoutRunResponseDTO dto = new PayoutRunResponseDTO();
+        dto.setId(run.getId());
+        dto.setCutoff(run.getCutoff());
+        dto.setStatus(run.getStatus());
+        dto.setClaimedCount(run.getClaimedCount());
+        dto.setApprovedCount(run.getApprovedCount());
+        dto.setSkippedCount(run.getSkippedCount());
+        dto.setTotalAmount(run.getTotalAmount());
+        dto.setCompletedAt(run.getCompletedAt());
+        dto.setCreatedAtDatetime(run.getCreatedAtDatetime());
+        dto.setUpdatedAtDatetime(run.getUpdatedAtDatetime());
+        return dto;
+    }
+}
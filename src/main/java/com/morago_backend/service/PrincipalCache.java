@@ -0,0 +1,159 @@
+package com.morago_backend.service;
+
+import com.morago_backend.entity.User;
+import com.morago_backend.entity.UserRole;
+import com.morago_backend.event.UserPrincipalChangedEvent;
+import com.morago_backend.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Bounded cache of the identity data needed to authenticate and authorize a user: ID, phone, roles,
+ * active flag and password hash, looked up by phone or by user ID.
+ * <p>
+ * Entries are evicted by {@link UserPrincipalChangedEvent} after the changing transaction commits,
+ * and expire after {@code security.principal-cache.ttl-seconds} as a safety net for changes made
+ * outside the application.
+ * <p>
+ * Each eviction takes the next number of a sequence and stamps it on the user's ID and phone, in a fixed
+ * array of generation slots. A load remembers the sequence when it starts and its result is only cached
+ * if neither the user's ID nor phone was evicted since, so a load that read the row before a change
+ * committed cannot re-install the stale principal. Keys sharing a slot only cost an extra miss.
+ */
+@Service
+public class PrincipalCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrincipalCache.class);
+    private static final int GENERATION_SLOTS = 4096;
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final Map<String, CachedPrincipal> byPhone;
+    private final Map<Long, CachedPrincipal> byId;
+
+    // Guarded by this: eviction sequence, and the last eviction stamped on each slot
+    private long evictions;
+    private final long[] evictedAt = new long[GENERATION_SLOTS];
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${security.principal-cache.size:10000}") int maxSize,
+                          @Value("${security.principal-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+        this.byPhone = Collections.synchronizedMap(lruMap(maxSize));
+        this.byId = Collections.synchronizedMap(lruMap(maxSize));
+    }
+
+    // ========== LOOKUP ==========
+    public Optional<CachedPrincipal> getByPhone(String phone) {
+        if (phone == null) return Optional.empty();
+        CachedPrincipal cached = byPhone.get(phone);
+        if (cached != null && !cached.isExpired()) {
+            return Optional.of(cached);
+        }
+        long loadStartedAt = currentEviction();
+        return userRepository.findByPhone(phone).map(user -> put(user, loadStartedAt));
+    }
+
+    public Optional<CachedPrincipal> getById(Long userId) {
+        if (userId == null) return Optional.empty();
+        CachedPrincipal cached = byId.get(userId);
+        if (cached != null && !cached.isExpired()) {
+            return Optional.of(cached);
+        }
+        long loadStartedAt = currentEviction();
+        return userRepository.findById(userId).map(user -> put(user, loadStartedAt));
+    }
+
+    /**
+     * Cache a user loaded after eviction number {@code loadStartedAt}, unless it has been evicted since
+     */
+    private CachedPrincipal put(User user, long loadStartedAt) {
+        CachedPrincipal principal = new CachedPrincipal(
+                user.getId(),
+                user.getPhone(),
+                Set.copyOf(user.getRoles()),
+                user.getIsActive() == null || user.getIsActive(),
+                user.getPassword(),
+                System.currentTimeMillis() + ttlMillis);
+        synchronized (this) {
+            if (evictedAt[slot(principal.getId())] <= loadStartedAt && evictedAt[slot(principal.getPhone())] <= loadStartedAt) {
+                byPhone.put(principal.getPhone(), principal);
+                byId.put(principal.getId(), principal);
+            }
+        }
+        return principal;
+    }
+
+    // ========== INVALIDATION ==========
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onPrincipalChanged(UserPrincipalChangedEvent event) {
+        long eviction = ++evictions;
+        if (event.getUserId() != null) {
+            evictedAt[slot(event.getUserId())] = eviction;
+            CachedPrincipal removed = byId.remove(event.getUserId());
+            if (removed != null) {
+                evictedAt[slot(removed.getPhone())] = eviction;
+                byPhone.remove(removed.getPhone());
+            }
+        }
+        if (event.getPhone() != null) {
+            evictedAt[slot(event.getPhone())] = eviction;
+            CachedPrincipal removed = byPhone.remove(event.getPhone());
+            if (removed != null) {
+                evictedAt[slot(removed.getId())] = eviction;
+                byId.remove(removed.getId());
+            }
+        }
+        logger.debug("Evicted cached principal userId={} phone={}", event.getUserId(), event.getPhone());
+    }
+
+    private synchronized long currentEviction() {
+        return evictions;
+    }
+
+    private static int slot(Object key) {
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), GENERATION_SLOTS);
+    }
+
+    private static <K> LinkedHashMap<K, CachedPrincipal> lruMap(int maxSize) {
+        return new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedPrincipal> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Immutable snapshot of a user's identity
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CachedPrincipal {
+        private final Long id;
+        private final String phone;
+        private final Set<UserRole> roles;
+        private final boolean active;
+        private final String passwordHash;
+        private final long expiresAtMillis;
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+}
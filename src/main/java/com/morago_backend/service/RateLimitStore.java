@@ -0,0 +1,15 @@
+package com.morago_backend.service;
+
+import java.time.Duration;
+
+/**
+ * Counter store shared by every instance, used when {@code rate-limit.cluster-sync.enabled} is on.
+ * Semantics match Redis {@code INCR} followed by {@code EXPIRE} on first use.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Increment the counter for {@code key}, creating it with the given time to live, and return the new value
+     */
+    long incrementAndGet(String key, Duration ttl);
+}
@@ -0,0 +1,143 @@
+package com.morago_backend.service;
+
+import com.morago_backend.exception.TooManyRequestsException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process token buckets keyed by route and client key (IP or phone).
+ * <p>
+ * Buckets are lock-free: each one swaps an immutable (tokens, last refill) state with CAS, so
+ * concurrent requests for the same key never block each other. Buckets idle for longer than their
+ * refill period are full again and are evicted by a periodic sweep. With
+ * {@code rate-limit.cluster-sync.enabled} each admitted request is also counted in a shared
+ * {@link RateLimitStore} per fixed window, so the limit holds across instances.
+ */
+@Service
+public class RateLimiterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiterService.class);
+
+    private final Environment environment;
+    private final RateLimitStore rateLimitStore;
+    private final boolean enabled;
+    private final boolean clusterSync;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+
+    public RateLimiterService(Environment environment,
+                              RateLimitStore rateLimitStore,
+                              @Value("${rate-limit.enabled:true}") boolean enabled,
+                              @Value("${rate-limit.cluster-sync.enabled:false}") boolean clusterSync) {
+        this.environment = environment;
+        this.rateLimitStore = rateLimitStore;
+        this.enabled = enabled;
+        this.clusterSync = clusterSync;
+    }
+
+    // ========== CONSUME ==========
+    /**
+     * Take one token from the bucket for {@code route} and {@code key}; throws
+     * {@link TooManyRequestsException} when it is empty
+     */
+    public void consume(String route, String key, int defaultCapacity, long defaultPeriodSeconds) {
+        if (!enabled) return;
+
+        Limit limit = limits.computeIfAbsent(route, r -> new Limit(
+                environment.getProperty("rate-limit." + r + ".capacity", Integer.class, defaultCapacity),
+                environment.getProperty("rate-limit." + r + ".period-seconds", Long.class, defaultPeriodSeconds)));
+        String bucketKey = route + "|" + key;
+        long now = System.nanoTime();
+
+        TokenBucket bucket = buckets.computeIfAbsent(bucketKey, k -> new TokenBucket(limit, now));
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            reject(route, key, waitNanos);
+        }
+
+        if (clusterSync) {
+            long periodNanos = limit.periodNanos();
+            long window = now / periodNanos;
+            long count = rateLimitStore.incrementAndGet(bucketKey + "|" + window, Duration.ofNanos(periodNanos * 2));
+            if (count > limit.capacity()) {
+                reject(route, key, periodNanos - now % periodNanos);
+            }
+        }
+    }
+
+    private void reject(String route, String key, long waitNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        logger.warn("Rate limit exceeded for route={} key={}, retry after {}s", route, key, retryAfterSeconds);
+        throw new TooManyRequestsException("Too many requests, please retry later", retryAfterSeconds);
+    }
+
+    // ========== EVICTION ==========
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            logger.debug("Evicted {} idle rate limit bucket(s), {} remaining", evicted, buckets.size());
+        }
+    }
+
+    // ========== BUCKET ==========
+    private record Limit(int capacity, long periodSeconds) {
+        long periodNanos() {
+            return TimeUnit.SECONDS.toNanos(periodSeconds);
+        }
+
+        double tokensPerNano() {
+            return (double) capacity / periodNanos();
+        }
+    }
+
+    private record State(double tokens, long refilledAtNanos) {
+    }
+
+    private static final class TokenBucket {
+        private final Limit limit;
+        private final AtomicReference<State> state;
+
+        private TokenBucket(Limit limit, long now) {
+            this.limit = limit;
+            this.state = new AtomicReference<>(new State(limit.capacity(), now));
+        }
+
+        /**
+         * Returns 0 when a token was taken, otherwise the nanoseconds until one is available
+         */
+        private long tryConsume(long now) {
+            while (true) {
+                State current = state.get();
+                double refilled = Math.min(limit.capacity(),
+                        current.tokens() + Math.max(0, now - current.refilledAtNanos()) * limit.tokensPerNano());
+                if (refilled < 1) {
+                    return (long) Math.ceil((1 - refilled) / limit.tokensPerNano());
+                }
+                if (state.compareAndSet(current, new State(refilled - 1, Math.max(now, current.refilledAtNanos())))) {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * Idle for a whole period, so the bucket is full again and dropping it changes nothing
+         */
+        private boolean isIdle(long now) {
+            return now - state.get().refilledAtNanos() > limit.periodNanos();
+        }
+    }
+}
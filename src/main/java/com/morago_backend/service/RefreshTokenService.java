@@ -0,0 +1,184 @@
+package com.morago_backend.service;
+
+import com.morago_backend.entity.RefreshToken;
+import com.morago_backend.entity.UserRole;
+import com.morago_backend.payload.LoginResponse;
+import com.morago_backend.repository.RefreshTokenRepository;
+import com.morago_backend.service.PrincipalCache.CachedPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Issues access/refresh token pairs and rotates refresh tokens.
+ * <p>
+ * Refresh tokens are random, single-use and stored as SHA-256 hashes. Every refresh revokes the
+ * presented token and issues a new one in the same family; presenting an already-rotated token means
+ * it was stolen or replayed, so the whole family is revoked. Revoking a family also revokes the access
+ * tokens issued with it through {@link TokenRevocationService}, including those issued with tokens that
+ * were already rotated, so logout, account blocking and password changes take effect immediately.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository repository;
+    private final JwtService jwtService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final Duration refreshTtl;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository repository,
+                               JwtService jwtService,
+                               PrincipalCache principalCache,
+                               TokenRevocationService tokenRevocationService,
+                               @Value("${security.jwt.refresh-expiration-days:30}") long refreshExpirationDays) {
+        this.repository = repository;
+        this.jwtService = jwtService;
+        this.principalCache = principalCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.refreshTtl = Duration.ofDays(refreshExpirationDays);
+    }
+
+    // ========== ISSUE ==========
+    /**
+     * New token pair for a fresh login or signup
+     */
+    @Transactional
+    public LoginResponse issue(Long userId, String phone, Collection<UserRole> roles) {
+        return issue(userId, phone, roles, UUID.randomUUID().toString()).response();
+    }
+
+    // ========== REFRESH ==========
+    /**
+     * Exchange a refresh token for a new pair. Roles and the active flag are re-read, so role changes
+     * apply from the next refresh.
+     */
+    @Transactional(noRollbackFor = {BadCredentialsException.class, DisabledException.class})
+    public LoginResponse refresh(String rawRefreshToken) {
+        RefreshToken current = repository.findByTokenHash(hash(rawRefreshToken))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+        if (current.getRevokedAt() != null) {
+            logger.warn("Reuse of rotated refresh token id={} for userId={}, revoking family {}",
+                    current.getId(), current.getUserId(), current.getFamilyId());
+            revokeTokens(repository.findLiveByFamilyId(current.getFamilyId(), LocalDateTime.now()), current.getUserId());
+            throw new BadCredentialsException("Refresh token has already been used");
+        }
+        if (current.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new BadCredentialsException("Refresh token has expired");
+        }
+
+        CachedPrincipal principal = principalCache.getById(current.getUserId()).orElse(null);
+        if (principal == null || !principal.isActive()) {
+            revokeTokens(repository.findLiveByFamilyId(current.getFamilyId(), LocalDateTime.now()), current.getUserId());
+            throw new DisabledException("User account is not active");
+        }
+
+        IssuedToken next = issue(principal.getId(), principal.getPhone(), principal.getRoles(), current.getFamilyId());
+        current.setRevokedAt(LocalDateTime.now());
+        current.setReplacedById(next.token().getId());
+        repository.save(current);
+        return next.response();
+    }
+
+    // ========== REVOKE ==========
+    /**
+     * Log out the session the refresh token belongs to; unknown tokens are ignored
+     */
+    @Transactional
+    public void logout(String rawRefreshToken) {
+        repository.findByTokenHash(hash(rawRefreshToken)).ifPresent(token -> {
+            revokeTokens(repository.findLiveByFamilyId(token.getFamilyId(), LocalDateTime.now()), token.getUserId());
+            logger.info("Logged out refresh token family {} for userId={}", token.getFamilyId(), token.getUserId());
+        });
+    }
+
+    /**
+     * End every session of a user, e.g. when the account is blocked, its roles change or the password
+     * changes. Access tokens issued with already-rotated refresh tokens are revoked as well while they
+     * are still unexpired.
+     */
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        List<RefreshToken> live = repository.findLiveByUserId(userId, LocalDateTime.now());
+        revokeTokens(live, userId);
+        logger.info("Revoked {} token(s) for userId={}", live.size(), userId);
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.info("Purged {} expired refresh token(s)", deleted);
+        }
+    }
+
+    // ========== HELPERS ==========
+    private IssuedToken issue(Long userId, String phone, Collection<UserRole> roles, String familyId) {
+        String accessTokenId = jwtService.newTokenId();
+        String accessToken = jwtService.generateToken(userId, phone, roles, accessTokenId);
+
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(tokenBytes);
+        String rawRefreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken token = new RefreshToken();
+        token.setUserId(userId);
+        token.setTokenHash(hash(rawRefreshToken));
+        token.setFamilyId(familyId);
+        token.setAccessTokenId(accessTokenId);
+        token.setAccessExpiresAt(now.plus(Duration.ofMillis(jwtService.getExpirationMs())));
+        token.setExpiresAt(now.plus(refreshTtl));
+        RefreshToken saved = repository.save(token);
+
+        return new IssuedToken(saved, new LoginResponse(accessToken, rawRefreshToken, jwtService.getExpirationMs() / 1000));
+    }
+
+    private void revokeTokens(List<RefreshToken> tokens, Long userId) {
+        if (tokens.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, LocalDateTime> accessTokens = new LinkedHashMap<>();
+        for (RefreshToken token : tokens) {
+            if (token.getRevokedAt() == null) token.setRevokedAt(now);
+            accessTokens.put(token.getAccessTokenId(), token.getAccessExpiresAt());
+        }
+        repository.saveAll(tokens);
+        tokenRevocationService.revoke(accessTokens, userId);
+    }
+
+    private String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record IssuedToken(RefreshToken token, LoginResponse response) {
+    }
+}
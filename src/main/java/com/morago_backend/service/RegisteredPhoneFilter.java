@@ -0,0 +1,70 @@
+package com.morago_backend.service;
+
+import com.morago_backend.repository.UserRepository;
+import com.morago_backend.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * In-memory Bloom filter of registered phone numbers, consulted before a signup touches the database.
+ * <p>
+ * A miss means the phone was not registered when the filter was built or through this instance since,
+ * so signup skips the existence query and relies on the unique index on {@code users.phone}. A hit may
+ * be a false positive and is confirmed with a cheap existence query before the request is rejected, so
+ * duplicates are turned away before any password hashing. The filter is rebuilt periodically to pick up
+ * signups on other instances and drop deleted users.
+ */
+@Service
+public class RegisteredPhoneFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegisteredPhoneFilter.class);
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final UserRepository userRepository;
+    private final long expectedPhones;
+
+    private volatile BloomFilter filter;
+
+    public RegisteredPhoneFilter(UserRepository userRepository,
+                                 @Value("${signup.phone-filter.expected-phones:100000}") long expectedPhones) {
+        this.userRepository = userRepository;
+        this.expectedPhones = expectedPhones;
+        this.filter = new BloomFilter(expectedPhones, FALSE_POSITIVE_RATE);
+    }
+
+    // ========== CHECK ==========
+    /**
+     * {@code true} if the phone may be registered; {@code false} means it was not seen
+     */
+    public boolean mightBeRegistered(String phone) {
+        return filter.mightContain(phone);
+    }
+
+    public void add(String phone) {
+        filter.put(phone);
+    }
+
+    // ========== REBUILD ==========
+    @PostConstruct
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${signup.phone-filter.rebuild-interval-ms:3600000}",
+            initialDelayString = "${signup.phone-filter.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        List<String> phones = userRepository.findAllPhones();
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedPhones, phones.size() * 2L), FALSE_POSITIVE_RATE);
+        phones.forEach(rebuilt::put);
+        // Phones added while the rebuild was running are only in the old filter; a miss for them is
+        // still caught by the unique index
+        filter = rebuilt;
+        logger.info("Registered phone filter loaded with {} phone(s)", phones.size());
+    }
+}
@@ -1,69 +1,51 @@
 package com.morago_backend.service;
 
-import com.morago_backend.entity.RoleConstants;
-import org.springframework.security.core.Authentication;
+import com.morago_backend.security.RoleMask;
+import com.morago_backend.security.RolePolicy;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-
+/**
+ * Runtime role checks for the current caller. Every check is one AND between the caller's
+ * {@link RoleMask}, compiled when the token was verified, and a precompiled {@link RolePolicy} mask.
+ */
 @Service
 public class RoleBasedAccessControlService {
 
     /**
-     * Check if the current user has a specific role
+     * Check if the current user is allowed by a policy
+     */
+    public boolean allows(RolePolicy policy) {
+        return policy.allows(currentMask());
+    }
+
+    /**
+     * Check if the current user has a specific role ({@code CLIENT} or {@code ROLE_CLIENT})
      */
     public boolean hasRole(String roleName) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return false;
-        }
-        
-        return authentication.getAuthorities().stream()
-                .anyMatch(authority -> authority.getAuthority().equals(roleName));
+        int required = RoleMask.ofNames(roleName);
+        return required != RoleMask.NONE && (currentMask() & required) != 0;
     }
 
     /**
      * Check if the current user has any of the specified roles
      */
     public boolean hasAnyRole(String... roleNames) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return false;
-        }
-        
-        Set<String> userRoles = authentication.getAuthorities().stream()
-                .map(authority -> authority.getAuthority())
-                .collect(Collectors.toSet());
-        
-        for (String roleName : roleNames) {
-            if (userRoles.contains(roleName)) {
-                return true;
-            }
-        }
-        return false;
+        return (currentMask() & RoleMask.ofNames(roleNames)) != 0;
     }
 
     /**
-     * Check if the current user has all of the specified roles
+     * Check if the current user has all of the specified roles; false when no role is given or any
+     * name is not a known role, since nobody can hold it
      */
     public boolean hasAllRoles(String... roleNames) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return false;
-        }
-        
-        Set<String> userRoles = authentication.getAuthorities().stream()
-                .map(authority -> authority.getAuthority())
-                .collect(Collectors.toSet());
-        
+        int required = RoleMask.NONE;
         for (String roleName : roleNames) {
-            if (!userRoles.contains(roleName)) {
-                return false;
-            }
+            int bit = RoleMask.ofNames(roleName);
+            if (bit == RoleMask.NONE) return false;
+            required |= bit;
         }
-        return true;
+        return required != RoleMask.NONE && (currentMask() & required) == required;
     }
 
     /**
@@ -71,7 +53,7 @@ public class RoleBasedAccessControlService {
      */
     public boolean isClient() {
 
-        return hasRole(RoleConstants.CLIENT);
+        return allows(RolePolicy.CLIENT);
     }
 
     /**
@@ -79,7 +61,7 @@ public class RoleBasedAccessControlService {
      */
     public boolean isInterpreter() {
 
-        return hasRole(RoleConstants.INTERPRETER);
+        return allows(RolePolicy.INTERPRETER);
     }
 
     /**
@@ -87,7 +69,7 @@ public class RoleBasedAccessControlService {
      */
     public boolean isAdministrator() {
 
-        return hasRole(RoleConstants.ADMINISTRATOR);
+        return allows(RolePolicy.ADMINISTRATOR);
     }
 
     /**
@@ -95,7 +77,7 @@ public class RoleBasedAccessControlService {
      */
     public boolean isInterpreterOrAdmin() {
 
-        return hasAnyRole(RoleConstants.INTERPRETER, RoleConstants.ADMINISTRATOR);
+        return allows(RolePolicy.INTERPRETER_OR_ADMIN);
     }
 
     /**
@@ -103,14 +85,14 @@ public class RoleBasedAccessControlService {
      */
     public boolean canAccessClientResources() {
 
-        return hasAnyRole(RoleConstants.CLIENT, RoleConstants.ADMINISTRATOR);
+        return allows(RolePolicy.CLIENT_OR_ADMIN);
     }
 
     /**
      * Check if the current user can access interpreter resources
      */
     public boolean canAccessInterpreterResources() {
-        return hasAnyRole(RoleConstants.INTERPRETER, RoleConstants.ADMINISTRATOR);
+        return allows(RolePolicy.INTERPRETER_OR_ADMIN);
     }
 
     /**
@@ -118,7 +100,7 @@ public class RoleBasedAccessControlService {
      */
     public boolean canAccessAdminResources() {
 
-        return hasRole(RoleConstants.ADMINISTRATOR);
+        return allows(RolePolicy.ADMINISTRATOR);
     }
 
     /**
@@ -126,7 +108,7 @@ public class RoleBasedAccessControlService {
      */
     public boolean canManageUsers() {
 
-        return hasRole(RoleConstants.ADMINISTRATOR);
+        return allows(RolePolicy.ADMINISTRATOR);
     }
 
     /**
@@ -134,7 +116,7 @@ public class RoleBasedAccessControlService {
      */
     public boolean canManageRoles() {
 
-        return hasRole(RoleConstants.ADMINISTRATOR);
+        return allows(RolePolicy.ADMINISTRATOR);
     }
 
     /**
@@ -142,14 +124,14 @@ public class RoleBasedAccessControlService {
      */
     public boolean canViewAllCallRecords() {
 
-        return hasRole(RoleConstants.ADMINISTRATOR);
+        return allows(RolePolicy.ADMINISTRATOR);
     }
 
     /**
      * Check if the current user can view their own call records
      */
     public boolean canViewOwnCallRecords() {
-        return hasAnyRole(RoleConstants.CLIENT, RoleConstants.INTERPRETER, RoleConstants.ADMINISTRATOR);
+        return allows(RolePolicy.ANY_ROLE);
     }
 
     /**
@@ -157,21 +139,21 @@ public class RoleBasedAccessControlService {
      */
     public boolean canCreateCallRecords() {
 
-        return hasAnyRole(RoleConstants.CLIENT, RoleConstants.ADMINISTRATOR);
+        return allows(RolePolicy.CLIENT_OR_ADMIN);
     }
 
     /**
      * Check if the current user can manage translator profiles
      */
     public boolean canManageTranslatorProfiles() {
-        return hasAnyRole(RoleConstants.INTERPRETER, RoleConstants.ADMINISTRATOR);
+        return allows(RolePolicy.INTERPRETER_OR_ADMIN);
     }
 
     /**
      * Check if the current user can manage ratings
      */
     public boolean canManageRatings() {
-        return hasAnyRole(RoleConstants.CLIENT, RoleConstants.INTERPRETER, RoleConstants.ADMINISTRATOR);
+        return allows(RolePolicy.ANY_ROLE);
     }
 
     /**
@@ -179,7 +161,7 @@ public class RoleBasedAccessControlService {
      */
     public boolean canManageFinancialOperations() {
 
-        return hasAnyRole(RoleConstants.ADMINISTRATOR);
+        return allows(RolePolicy.ADMINISTRATOR);
     }
 
     /**
@@ -187,6 +169,10 @@ public class RoleBasedAccessControlService {
      */
     public boolean canManageSystemResources() {
 
-        return hasRole(RoleConstants.ADMINISTRATOR);
+        return allows(RolePolicy.ADMINISTRATOR);
+    }
+
+    private int currentMask() {
+        return RoleMask.of(SecurityContextHolder.getContext().getAuthentication());
     }
 }
@@ -0,0 +1,176 @@
+package com.morago_backend.service;
+
+import com.morago_backend.exception.TooManyRequestsException;
+import com.morago_backend.service.SmsProvider.SmsMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends text messages asynchronously through the configured {@link SmsProvider}.
+ * <p>
+ * {@link #enqueue} only puts the message on a bounded queue and returns; a full queue is rejected with a
+ * 429. A single sender thread drains the queue in batches of up to the provider's batch size, waiting
+ * at most {@code sms.batch-linger-ms} for a batch to fill. A failed batch is retried with exponential
+ * backoff up to {@code sms.max-attempts} times and then dropped with an error log.
+ */
+@Service
+public class SmsDeliveryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmsDeliveryService.class);
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    private final SmsProvider provider;
+    private final BlockingQueue<QueuedMessage> queue;
+    private final long lingerMillis;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final ScheduledExecutorService executor;
+    private final Timer deliveryLatency;
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter rejected;
+
+    private volatile boolean running = true;
+
+    public SmsDeliveryService(SmsProvider provider,
+                              MeterRegistry meterRegistry,
+                              @Value("${sms.queue-capacity:1000}") int queueCapacity,
+                              @Value("${sms.batch-linger-ms:50}") long lingerMillis,
+                              @Value("${sms.max-attempts:5}") int maxAttempts,
+                              @Value("${sms.initial-backoff-ms:500}") long initialBackoffMillis) {
+        this.provider = provider;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.lingerMillis = lingerMillis;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+
+        // One thread runs the send loop, the other runs scheduled retries
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "sms-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.deliveryLatency = Timer.builder("sms.delivery.latency")
+                .description("Time from queueing a text message to the provider accepting it")
+                .tag("provider", provider.getName())
+                .register(meterRegistry);
+        this.delivered = Counter.builder("sms.delivered")
+                .description("Text messages accepted by the provider")
+                .tag("provider", provider.getName())
+                .register(meterRegistry);
+        this.failed = Counter.builder("sms.failed")
+                .description("Text messages dropped after exhausting retries")
+                .tag("provider", provider.getName())
+                .register(meterRegistry);
+        this.rejected = Counter.builder("sms.rejected")
+                .description("Text messages rejected because the send queue was full")
+                .tag("provider", provider.getName())
+                .register(meterRegistry);
+        Gauge.builder("sms.queue.depth", queue, BlockingQueue::size)
+                .description("Text messages waiting to be sent")
+                .tag("provider", provider.getName())
+                .register(meterRegistry);
+
+        executor.execute(this::sendLoop);
+        logger.info("SMS delivery started: provider={}, queueCapacity={}, batchSize={}",
+                provider.getName(), queueCapacity, provider.getMaxBatchSize());
+    }
+
+    // ========== ENQUEUE ==========
+    /**
+     * Queue a message for delivery; returns without waiting for the provider
+     */
+    public void enqueue(String phone, String text) {
+        if (!running || !queue.offer(new QueuedMessage(new SmsMessage(phone, text), System.nanoTime()))) {
+            rejected.increment();
+            logger.warn("SMS queue full, rejecting message to phone={}", phone);
+            throw new TooManyRequestsException("Too many messages queued, please retry shortly", RETRY_AFTER_SECONDS);
+        }
+    }
+
+    // ========== SENDING ==========
+    private void sendLoop() {
+        int batchSize = Math.max(1, provider.getMaxBatchSize());
+        List<QueuedMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                QueuedMessage first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                // Give a burst a moment to fill the batch
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) break;
+                    QueuedMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                send(List.copyOf(batch), 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Unexpected error in SMS sender: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<QueuedMessage> batch, int attempt) {
+        try {
+            provider.sendBatch(batch.stream().map(QueuedMessage::message).toList());
+            long now = System.nanoTime();
+            for (QueuedMessage message : batch) {
+                deliveryLatency.record(now - message.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+            }
+            delivered.increment(batch.size());
+        } catch (Exception e) {
+            if (attempt >= maxAttempts || executor.isShutdown()) {
+                failed.increment(batch.size());
+                logger.error("Dropping {} SMS message(s) after {} attempt(s) via {}: {}",
+                        batch.size(), attempt, provider.getName(), e.getMessage(), e);
+                return;
+            }
+            long backoffMillis = initialBackoffMillis << Math.min(attempt - 1, 10);
+            logger.warn("SMS batch of {} failed via {} (attempt {}), retrying in {}ms: {}",
+                    batch.size(), provider.getName(), attempt, backoffMillis, e.getMessage());
+            executor.schedule(() -> send(batch, attempt + 1), backoffMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            logger.warn("SMS sender stopped with {} message(s) still queued", queue.size());
+            executor.shutdownNow();
+        }
+    }
+
+    private record QueuedMessage(SmsMessage message, long enqueuedAtNanos) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.morago_backend.service;
+
+import java.util.List;
+
+/**
+ * Gateway that delivers text messages. {@link SmsDeliveryService} calls it from its own thread with up
+ * to {@link #getMaxBatchSize()} messages at a time and retries the whole batch if it throws.
+ */
+public interface SmsProvider {
+
+    String getName();
+
+    /**
+     * Largest number of messages the gateway accepts in one call
+     */
+    int getMaxBatchSize();
+
+    void sendBatch(List<SmsMessage> messages);
+
+    record SmsMessage(String phone, String text) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.morago_backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Local stand-in for an SMS gateway: keeps the most recent messages in memory and, when
+ * {@code sms.stub.file} is set, appends them to that file. Nothing leaves the machine.
+ */
+@Service
+@ConditionalOnProperty(name = "sms.provider", havingValue = "stub", matchIfMissing = true)
+public class StubSmsProvider implements SmsProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubSmsProvider.class);
+    private static final int RETAINED_MESSAGES = 100;
+
+    private final Path file;
+    private final Deque<SmsMessage> recent = new ArrayDeque<>();
+
+    public StubSmsProvider(@Value("${sms.stub.file:}") String file) {
+        this.file = file.isBlank() ? null : Paths.get(file).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String getName() {
+        return "stub";
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return 50;
+    }
+
+    @Override
+    public void sendBatch(List<SmsMessage> messages) {
+        synchronized (recent) {
+            for (SmsMessage message : messages) {
+                recent.addLast(message);
+                if (recent.size() > RETAINED_MESSAGES) recent.removeFirst();
+            }
+        }
+        if (file != null) {
+            StringBuilder lines = new StringBuilder();
+            for (SmsMessage message : messages) {
+                lines.append(LocalDateTime.now()).append('\t').append(message.phone()).append('\t').append(message.text()).append('\n');
+            }
+            try {
+                Files.writeString(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write SMS stub file " + file, e);
+            }
+        }
+        logger.debug("Stub SMS provider accepted {} message(s)", messages.size());
+    }
+
+    /**
+     * Messages accepted so far, oldest first, at most the last {@value #RETAINED_MESSAGES}
+     */
+    public List<SmsMessage> getRecentMessages() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+}
@@ -4,18 +4,20 @@ import com.morago_backend.dto.dtoRequest.ThemeRequestDTO;
 import com.morago_backend.dto.dtoResponse.ThemeResponseDTO;
 import com.morago_backend.entity.Theme;
 import com.morago_backend.entity.Category;
+import com.morago_backend.event.CatalogChangedEvent;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.ThemeRepository;
 import com.morago_backend.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +28,8 @@ public class ThemeService {
 
     private final ThemeRepository themeRepository;
     private final CategoryRepository categoryRepository;
+    private final CatalogCache catalogCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ========== CREATE ==========
     public ThemeResponseDTO create(ThemeRequestDTO dto) {
@@ -35,6 +39,7 @@ public class ThemeService {
             theme.setCreatedAt(LocalDateTime.now());
             theme.setUpdatedAt(LocalDateTime.now());
             Theme saved = themeRepository.save(theme);
+            eventPublisher.publishEvent(new CatalogChangedEvent("theme", saved.getId()));
             logger.info("Theme created with id={}", saved.getId());
             return mapToResponseDTO(saved);
         } catch (Exception e) {
@@ -44,12 +49,12 @@ public class ThemeService {
     }
 
     // ========== READ ALL ==========
+    // Served from the catalog cache; no transaction, so a cache hit does not take a connection
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ThemeResponseDTO> findAll() {
         try {
             logger.info("Fetching all themes");
-            return themeRepository.findAll().stream()
-                    .map(this::mapToResponseDTO)
-                    .collect(Collectors.toList());
+            return catalogCache.themes().value();
         } catch (Exception e) {
             logger.error("Error fetching all themes", e);
             throw e;
@@ -57,18 +62,29 @@ public class ThemeService {
     }
 
     // ========== READ by ID ==========
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ThemeResponseDTO findById(Long id) {
         try {
             logger.info("Fetching theme with id={}", id);
-            Theme theme = themeRepository.findById(id)
-                    .orElseThrow(() -> new ResourceNotFoundException("Theme not found with id " + id));
-            return mapToResponseDTO(theme);
+            return findByIdTagged(id).value();
         } catch (Exception e) {
             logger.error("Error fetching theme with id={}", id, e);
             throw e;
         }
     }
 
+    // ========== READ WITH ETAG ==========
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CatalogCache.Tagged<List<ThemeResponseDTO>> findAllTagged() {
+        return catalogCache.themes();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CatalogCache.Tagged<ThemeResponseDTO> findByIdTagged(Long id) {
+        return catalogCache.theme(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Theme not found with id " + id));
+    }
+
     // ========== UPDATE ==========
     public ThemeResponseDTO update(Long id, ThemeRequestDTO dto) {
         try {
@@ -93,6 +109,7 @@ public class ThemeService {
             }
 
             Theme saved = themeRepository.save(existing);
+            eventPublisher.publishEvent(new CatalogChangedEvent("theme", saved.getId()));
             logger.info("Theme updated with id={}", saved.getId());
             return mapToResponseDTO(saved);
         } catch (Exception e) {
@@ -110,6 +127,7 @@ public class ThemeService {
                 throw new ResourceNotFoundException("Theme not found with id " + id);
             }
             themeRepository.deleteById(id);
+            eventPublisher.publishEvent(new CatalogChangedEvent("theme", id));
             logger.info("Theme deleted with id={}", id);
         } catch (Exception e) {
             logger.error("Error deleting theme with id={}", id, e);
@@ -118,7 +136,7 @@ public class ThemeService {
     }
 
     // ========== MAPPERS ==========
-    private ThemeResponseDTO mapToResponseDTO(Theme theme) {
+    static ThemeResponseDTO mapToResponseDTO(Theme theme) {
         ThemeResponseDTO dto = new ThemeResponseDTO();
         dto.setId(theme.getId());
         dto.setName(theme.getName());
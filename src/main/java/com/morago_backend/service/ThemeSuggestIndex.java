@@ -0,0 +1,199 @@
+package com.morago_backend.service;
+
+import com.morago_backend.dto.dtoResponse.ThemeResponseDTO;
+import com.morago_backend.event.CatalogChangedEvent;
+import com.morago_backend.repository.CallRecordRepository;
+import com.morago_backend.repository.CallRecordRepository.ThemeCallCount;
+import com.morago_backend.util.HangulJamo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory autocomplete over the names and Korean titles of active themes.
+ * <p>
+ * Both fields are normalized with {@link HangulJamo}, and every suffix that starts a word or a Hangul
+ * syllable becomes a key in one sorted array, so a query is a binary search plus a scan of the keys
+ * it prefixes. Because syllables are split into jamo, half-typed input such as "법ㄹ" or "버" already
+ * matches "법률". Matches are ranked popular themes first, then by calls in the last
+ * {@code theme-suggest.call-volume-days}, then by whether the match is at the start of the title.
+ * <p>
+ * A changed theme only has its own keys recomputed before the array is re-sorted; a changed category
+ * rebuilds everything, since it can activate or hide all of its themes.
+ */
+@Service
+public class ThemeSuggestIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThemeSuggestIndex.class);
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final CatalogCache catalogCache;
+    private final CallRecordRepository callRecordRepository;
+    private final int callVolumeDays;
+
+    // Guarded by this: keys of each indexed theme, and the theme itself
+    private final Map<Long, List<Key>> keysByTheme = new HashMap<>();
+    private final Map<Long, ThemeResponseDTO> themes = new HashMap<>();
+
+    private volatile Index index = new Index(new String[0], new long[0], new boolean[0], Map.of());
+    private volatile Map<Long, Long> callVolume = Map.of();
+
+    public ThemeSuggestIndex(CatalogCache catalogCache,
+                             CallRecordRepository callRecordRepository,
+                             @Value("${theme-suggest.call-volume-days:90}") int callVolumeDays) {
+        this.catalogCache = catalogCache;
+        this.callRecordRepository = callRecordRepository;
+        this.callVolumeDays = callVolumeDays;
+    }
+
+    // ========== QUERY ==========
+    /**
+     * Up to {@code limit} active themes whose name or Korean title has a word or syllable starting with
+     * {@code query}, best first
+     */
+    public List<ThemeResponseDTO> suggest(String query, int limit) {
+        String prefix = HangulJamo.normalize(query).trim();
+        if (prefix.isEmpty() || limit <= 0) return List.of();
+
+        Index current = index;
+        Map<Long, Boolean> matches = new LinkedHashMap<>();
+        int position = Arrays.binarySearch(current.keys(), prefix);
+        for (int i = position >= 0 ? position : -position - 1; i < current.keys().length && current.keys()[i].startsWith(prefix); i++) {
+            matches.merge(current.themeIds()[i], current.titleStart()[i], Boolean::logicalOr);
+        }
+
+        Map<Long, Long> volume = callVolume;
+        Comparator<Map.Entry<Long, Boolean>> ranking = Comparator
+                .comparing((Map.Entry<Long, Boolean> match) -> !Boolean.TRUE.equals(current.themes().get(match.getKey()).getIsPopular()))
+                .thenComparing(match -> -volume.getOrDefault(match.getKey(), 0L))
+                .thenComparing(match -> !match.getValue())
+                .thenComparing(match -> current.themes().get(match.getKey()).getName(), Comparator.nullsLast(String::compareTo));
+
+        return matches.entrySet().stream()
+                .sorted(ranking)
+                .limit(limit)
+                .map(match -> current.themes().get(match.getKey()))
+                .toList();
+    }
+
+    // ========== MAINTENANCE ==========
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        refreshCallVolume();
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        try {
+            if ("theme".equals(event.getEntity())) {
+                refresh(event.getId());
+            } else if ("category".equals(event.getEntity())) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            // Suggestions may lag until the next catalog change, the change itself has committed
+            logger.error("Error updating theme suggestions after {} id={} changed", event.getEntity(), event.getId(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${theme-suggest.call-volume-refresh-ms:600000}",
+            initialDelayString = "${theme-suggest.call-volume-refresh-ms:600000}")
+    public void refreshCallVolume() {
+        try {
+            Map<Long, Long> counts = new HashMap<>();
+            for (ThemeCallCount row : callRecordRepository.countCallsByTheme(LocalDateTime.now().minusDays(callVolumeDays))) {
+                counts.put(row.getThemeId(), row.getCalls());
+            }
+            callVolume = Map.copyOf(counts);
+        } catch (Exception e) {
+            logger.error("Error refreshing theme call volume", e);
+        }
+    }
+
+    /**
+     * Re-index every active theme from the catalog cache
+     */
+    public synchronized void rebuild() {
+        keysByTheme.clear();
+        themes.clear();
+        for (ThemeResponseDTO theme : catalogCache.snapshot().activeThemes()) {
+            put(theme);
+        }
+        publish();
+        logger.info("Theme suggest index built with {} theme(s)", themes.size());
+    }
+
+    /**
+     * Re-index one theme, or drop it when it was deleted or is no longer active
+     */
+    private synchronized void refresh(Long themeId) {
+        keysByTheme.remove(themeId);
+        themes.remove(themeId);
+        catalogCache.snapshot().activeThemes().stream()
+                .filter(theme -> theme.getId().equals(themeId))
+                .findFirst()
+                .ifPresent(this::put);
+        publish();
+    }
+
+    private void put(ThemeResponseDTO theme) {
+        List<Key> keys = new ArrayList<>();
+        addKeys(keys, theme.getName());
+        addKeys(keys, theme.getKoreanTitle());
+        keysByTheme.put(theme.getId(), keys);
+        themes.put(theme.getId(), theme);
+    }
+
+    private static void addKeys(List<Key> keys, String title) {
+        String normalized = HangulJamo.normalize(title);
+        for (int i = 0; i < normalized.length(); i++) {
+            if (normalized.charAt(i) != ' ' && HangulJamo.isSyllableStart(normalized, i)) {
+                keys.add(new Key(normalized.substring(i, Math.min(normalized.length(), i + MAX_KEY_LENGTH)), i == 0));
+            }
+        }
+    }
+
+    /**
+     * Sort the current keys into a fresh array and swap it in
+     */
+    private void publish() {
+        List<Map.Entry<Key, Long>> entries = new ArrayList<>();
+        keysByTheme.forEach((themeId, keys) -> keys.forEach(key -> entries.add(Map.entry(key, themeId))));
+        entries.sort(Map.Entry.comparingByKey(Comparator.comparing(Key::text)));
+
+        String[] keys = new String[entries.size()];
+        long[] themeIds = new long[entries.size()];
+        boolean[] titleStart = new boolean[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = entries.get(i).getKey().text();
+            themeIds[i] = entries.get(i).getValue();
+            titleStart[i] = entries.get(i).getKey().titleStart();
+        }
+        index = new Index(keys, themeIds, titleStart, Map.copyOf(themes));
+    }
+
+    private record Key(String text, boolean titleStart) {
+    }
+
+    /**
+     * Immutable sorted keys with the theme each belongs to and whether it starts the title
+     */
+    private record Index(String[] keys, long[] themeIds, boolean[] titleStart, Map<Long, ThemeResponseDTO> themes) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.morago_backend.service;
+
+import com.morago_backend.entity.RevokedToken;
+import com.morago_backend.repository.RevokedTokenRepository;
+import com.morago_backend.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers "has this access token been revoked?" from memory on every authenticated request.
+ * <p>
+ * Revoked token IDs ({@code jti}) are kept in a Bloom filter in front of an exact set: almost every
+ * token is absent from the filter and is accepted after a few bit reads, and the rare filter hit is
+ * confirmed against the set. Both are built from {@code revoked_tokens} at startup and rebuilt after
+ * expired rows are purged; revocations made by other instances are picked up every
+ * {@code security.jwt.revocation.sync-interval-ms}.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(5);
+
+    private final RevokedTokenRepository repository;
+    private final long expectedTokens;
+
+    private volatile Snapshot snapshot;
+    private LocalDateTime lastSyncedAt = LocalDateTime.now();
+
+    public TokenRevocationService(RevokedTokenRepository repository,
+                                  @Value("${security.jwt.revocation.expected-tokens:100000}") long expectedTokens) {
+        this.repository = repository;
+        this.expectedTokens = expectedTokens;
+        this.snapshot = new Snapshot(new BloomFilter(expectedTokens, FALSE_POSITIVE_RATE), ConcurrentHashMap.newKeySet());
+    }
+
+    // ========== CHECK ==========
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) return false;
+        Snapshot current = snapshot;
+        return current.filter.mightContain(tokenId) && current.tokenIds.contains(tokenId);
+    }
+
+    // ========== REVOKE ==========
+    /**
+     * Revoke access tokens by ID; the map values are the tokens' expiry times
+     */
+    public void revoke(Map<String, LocalDateTime> tokenExpiries, Long userId) {
+        if (tokenExpiries.isEmpty()) return;
+
+        Set<String> alreadyStored = new HashSet<>(repository.findExistingTokenIds(tokenExpiries.keySet()));
+        List<RevokedToken> rows = new ArrayList<>();
+        tokenExpiries.forEach((tokenId, expiresAt) -> {
+            if (alreadyStored.contains(tokenId) || expiresAt.isBefore(LocalDateTime.now())) return;
+            RevokedToken row = new RevokedToken();
+            row.setTokenId(tokenId);
+            row.setUserId(userId);
+            row.setExpiresAt(expiresAt);
+            rows.add(row);
+        });
+        repository.saveAll(rows);
+
+        Snapshot current = snapshot;
+        tokenExpiries.keySet().forEach(current::add);
+        logger.info("Revoked {} access token(s) for userId={}", tokenExpiries.size(), userId);
+    }
+
+    // ========== SYNC ==========
+    @PostConstruct
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Pick up revocations recorded by other instances. Rows are read by creation time with an overlap
+     * window, so rows from transactions that committed late are not missed; re-adding an ID is harmless.
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.sync-interval-ms:15000}")
+    public synchronized void syncFromDatabase() {
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        List<RevokedToken> rows = repository.findByCreatedAtDatetimeAfter(lastSyncedAt.minus(SYNC_OVERLAP));
+        Snapshot current = snapshot;
+        for (RevokedToken row : rows) {
+            current.add(row.getTokenId());
+        }
+        lastSyncedAt = syncStartedAt;
+    }
+
+    /**
+     * Drop revocations of tokens that have expired anyway and rebuild the filter without them
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.info("Purged {} expired revoked token(s)", deleted);
+            rebuild();
+        }
+    }
+
+    /**
+     * Load every stored revocation into a fresh filter and set, then swap them in
+     */
+    private synchronized void rebuild() {
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+        List<RevokedToken> rows = repository.findAll();
+        Snapshot rebuilt = new Snapshot(
+                new BloomFilter(Math.max(expectedTokens, rows.size() * 2L), FALSE_POSITIVE_RATE),
+                ConcurrentHashMap.newKeySet());
+        for (RevokedToken row : rows) {
+            rebuilt.add(row.getTokenId());
+        }
+        snapshot = rebuilt;
+        lastSyncedAt = loadStartedAt;
+        logger.info("Token revocation list loaded with {} revoked token(s)", rebuilt.tokenIds().size());
+    }
+
+    private record Snapshot(BloomFilter filter, Set<String> tokenIds) {
+        void add(String tokenId) {
+            // Set first, so a filter hit is always backed by the set
+            tokenIds.add(tokenId);
+            filter.put(tokenId);
+        }
+    }
+}
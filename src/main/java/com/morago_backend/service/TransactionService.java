@@ -1,8 +1,10 @@
 package com.morago_backend.service;
 
+import com.morago_backend.config.ReplicaRead;
 import com.morago_backend.dto.dtoRequest.TransactionFilterRequest;
 import com.morago_backend.dto.dtoResponse.TransactionResponse;
 import com.morago_backend.entity.*;
+import com.morago_backend.repository.LedgerJdbcRepository;
 import com.morago_backend.repository.TransactionRepository;
 import com.morago_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +26,7 @@ public class TransactionService {
 
     private final TransactionRepository transactionRepository;
     private final UserRepository userRepository;
+    private final LedgerJdbcRepository ledgerJdbcRepository;
 
     /**
      * Create a new transaction record
@@ -52,11 +55,40 @@ public class TransactionService {
     }
 
     /**
-     * Create transaction with additional details
+     * Create transaction with additional details.
+     * {@code balanceBefore} is the user's balance before this operation was applied.
      */
     @Transactional
     public Transaction createDetailedTransaction(
             User user,
+            BigDecimal balanceBefore,
+            TransactionType transactionType,
+            BigDecimal amount,
+            String status,
+            String description,
+            Long relatedEntityId,
+            String accountHolder,
+            String bankName,
+            String accountNumber,
+            String notes
+    ) {
+        Transaction transaction = buildDetailedTransaction(user, balanceBefore, transactionType, amount, status,
+                description, relatedEntityId, accountHolder, bankName, accountNumber, notes);
+
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        log.info("Created transaction: type={}, amount={}, userId={}", 
+                transactionType, amount, user.getId());
+        
+        return savedTransaction;
+    }
+
+    /**
+     * Build a transaction row from an explicit starting balance without saving it.
+     * Used by bulk operations that post many rows at once through {@link #saveAllInBatch(List)}.
+     */
+    public Transaction buildDetailedTransaction(
+            User user,
+            BigDecimal balanceBefore,
             TransactionType transactionType,
             BigDecimal amount,
             String status,
@@ -71,7 +103,8 @@ public class TransactionService {
         transaction.setUser(user);
         transaction.setTransactionType(transactionType);
         transaction.setAmount(amount);
-        transaction.setBalanceBefore(user.getBalance());
+        transaction.setBalanceBefore(balanceBefore);
+        transaction.setBalanceAfter(calculateBalanceAfter(balanceBefore, amount, transactionType));
         transaction.setStatus(status);
         transaction.setDescription(description);
         transaction.setAccountHolder(accountHolder);
@@ -79,27 +112,27 @@ public class TransactionService {
         transaction.setAccountNumber(accountNumber);
         transaction.setNotes(notes);
 
-        // Set related entity ID based on transaction type
         switch (transactionType) {
             case DEPOSIT -> transaction.setDepositId(relatedEntityId);
             case WITHDRAWAL -> transaction.setWithdrawalId(relatedEntityId);
             case CALL_PAYMENT, CALL_EARNING, COMMISSION -> transaction.setCallRecordId(relatedEntityId);
         }
+        return transaction;
+    }
 
-        // Calculate balance after
-        BigDecimal balanceAfter = calculateBalanceAfter(user.getBalance(), amount, transactionType);
-        transaction.setBalanceAfter(balanceAfter);
-
-        Transaction savedTransaction = transactionRepository.save(transaction);
-        log.info("Created transaction: type={}, amount={}, userId={}", 
-                transactionType, amount, user.getId());
-        
-        return savedTransaction;
+    /**
+     * Insert prepared transaction rows using JDBC batches
+     */
+    @Transactional
+    public void saveAllInBatch(List<Transaction> transactions) {
+        ledgerJdbcRepository.insertTransactions(transactions);
+        log.info("Created {} transactions in batch", transactions.size());
     }
 
     /**
      * Get all transactions for a user with pagination
      */
+    @ReplicaRead
     @Transactional(readOnly = true)
     public Page<TransactionResponse> getUserTransactions(Long userId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -110,6 +143,7 @@ public class TransactionService {
     /**
      * Get filtered transactions for a user
      */
+    @ReplicaRead
     @Transactional(readOnly = true)
     public Page<TransactionResponse> getFilteredTransactions(Long userId, TransactionFilterRequest filter) {
         Pageable pageable = PageRequest.of(filter.getPage(), filter.getSize());
@@ -137,6 +171,7 @@ public class TransactionService {
     /**
      * Get transaction by ID
      */
+    @ReplicaRead
     @Transactional(readOnly = true)
     public TransactionResponse getTransactionById(Long transactionId) {
         Transaction transaction = transactionRepository.findById(transactionId)
@@ -147,6 +182,7 @@ public class TransactionService {
     /**
      * Get total amounts by transaction type for a user
      */
+    @ReplicaRead
     @Transactional(readOnly = true)
     public BigDecimal getTotalByType(Long userId, TransactionType type) {
         return transactionRepository.sumByUserIdAndType(userId, type);
@@ -155,6 +191,7 @@ public class TransactionService {
     /**
      * Get transaction count for a user
      */
+    @ReplicaRead
     @Transactional(readOnly = true)
     public long getTransactionCount(Long userId) {
         return transactionRepository.countByUserId(userId);
@@ -163,7 +200,7 @@ public class TransactionService {
     /**
      * Calculate balance after transaction
      */
-    private BigDecimal calculateBalanceAfter(BigDecimal currentBalance, BigDecimal amount, TransactionType type) {
+    public BigDecimal calculateBalanceAfter(BigDecimal currentBalance, BigDecimal amount, TransactionType type) {
         return switch (type) {
             case DEPOSIT, CALL_EARNING, REFUND -> currentBalance.add(amount);
             case WITHDRAWAL, CALL_PAYMENT, COMMISSION -> currentBalance.subtract(amount);
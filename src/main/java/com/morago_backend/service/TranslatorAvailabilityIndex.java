@@ -0,0 +1,268 @@
+package com.morago_backend.service;
+
+import com.morago_backend.event.TranslatorProfileChangedEvent;
+import com.morago_backend.event.UserPrincipalChangedEvent;
+import com.morago_backend.repository.TranslatorProfileRepository;
+import com.morago_backend.repository.TranslatorProfileRepository.IndexLink;
+import com.morago_backend.repository.TranslatorProfileRepository.IndexRow;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory bitmap index of translator profiles for matching calls.
+ * <p>
+ * Each profile ID is a bit position. There is one bitmap each for online, available, verified and active
+ * (user not blocked) translators, and one per theme and per language. "Verified, online, available,
+ * speaks X, covers theme Y" is then an AND of a few bitmaps with no database access. The index is built
+ * at startup, patched per profile after {@link TranslatorProfileChangedEvent}s and user changes commit,
+ * and rebuilt periodically to pick up changes made by other instances.
+ */
+@Service
+public class TranslatorAvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslatorAvailabilityIndex.class);
+
+    private final TranslatorProfileRepository repository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private State state = new State();
+    // Profiles refreshed while a rebuild was reading the database; re-applied after the swap
+    private Set<Long> refreshedDuringRebuild;
+
+    public TranslatorAvailabilityIndex(TranslatorProfileRepository repository) {
+        this.repository = repository;
+    }
+
+    // ========== QUERY ==========
+    /**
+     * IDs of verified, active, online and available translator profiles covering the theme and speaking
+     * the language, in ascending order; a {@code null} theme or language is not filtered on
+     */
+    public List<Long> findAvailable(Long themeId, Long languageId) {
+        lock.readLock().lock();
+        try {
+            BitSet result = matching(themeId, languageId);
+            List<Long> ids = new ArrayList<>(result.cardinality());
+            for (int id = result.nextSetBit(0); id >= 0; id = result.nextSetBit(id + 1)) {
+                ids.add((long) id);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int countAvailable(Long themeId, Long languageId) {
+        lock.readLock().lock();
+        try {
+            return matching(themeId, languageId).cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Same match as {@link #findAvailable}, with each translator's user ID and rating for ranking
+     */
+    public List<Candidate> findCandidates(Long themeId, Long languageId) {
+        lock.readLock().lock();
+        try {
+            BitSet result = matching(themeId, languageId);
+            List<Candidate> candidates = new ArrayList<>(result.cardinality());
+            for (int id = result.nextSetBit(0); id >= 0; id = result.nextSetBit(id + 1)) {
+                Entry entry = state.entries.get((long) id);
+                candidates.add(new Candidate((long) id, entry.userId(), entry.rating()));
+            }
+            return candidates;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Long> getUserId(Long profileId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = state.entries.get(profileId);
+            return entry == null ? Optional.empty() : Optional.of(entry.userId());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet matching(Long themeId, Long languageId) {
+        BitSet result = (BitSet) state.verified.clone();
+        result.and(state.active);
+        result.and(state.online);
+        result.and(state.available);
+        if (themeId != null) result.and(state.byTheme.getOrDefault(themeId, State.EMPTY));
+        if (languageId != null) result.and(state.byLanguage.getOrDefault(languageId, State.EMPTY));
+        return result;
+    }
+
+    // ========== INCREMENTAL UPDATES ==========
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTranslatorProfileChanged(TranslatorProfileChangedEvent event) {
+        refresh(event.getTranslatorProfileId());
+    }
+
+    /**
+     * Blocking, activating or deleting a user changes whether their profile can be matched
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPrincipalChanged(UserPrincipalChangedEvent event) {
+        if (event.getUserId() == null) return;
+        Long profileId;
+        lock.readLock().lock();
+        try {
+            profileId = state.profileByUser.get(event.getUserId());
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (profileId != null) {
+            refresh(profileId);
+        }
+    }
+
+    /**
+     * Re-read one profile and replace its bits; a profile that no longer exists is removed
+     */
+    public void refresh(Long profileId) {
+        if (profileId == null) return;
+        Optional<IndexRow> row = repository.findIndexRow(profileId);
+        List<IndexLink> themes = row.isPresent() ? repository.findThemeLinks(profileId) : List.of();
+        List<IndexLink> languages = row.isPresent() ? repository.findLanguageLinks(profileId) : List.of();
+
+        lock.writeLock().lock();
+        try {
+            if (refreshedDuringRebuild != null) refreshedDuringRebuild.add(profileId);
+            state.remove(profileId);
+            row.ifPresent(r -> state.add(r, themes.stream().map(IndexLink::getValueId).toList(),
+                    languages.stream().map(IndexLink::getValueId).toList()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.debug("Availability index refreshed for translatorProfile id={}", profileId);
+    }
+
+    // ========== REBUILD ==========
+    @PostConstruct
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${translator-index.rebuild-interval-ms:300000}",
+            initialDelayString = "${translator-index.rebuild-interval-ms:300000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            refreshedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, List<Long>> themes = group(repository.findThemeLinks());
+        Map<Long, List<Long>> languages = group(repository.findLanguageLinks());
+        List<IndexRow> rows = repository.findIndexRows();
+
+        State rebuilt = new State();
+        for (IndexRow row : rows) {
+            rebuilt.add(row, themes.getOrDefault(row.getProfileId(), List.of()), languages.getOrDefault(row.getProfileId(), List.of()));
+        }
+
+        Set<Long> refreshed;
+        lock.writeLock().lock();
+        try {
+            state = rebuilt;
+            refreshed = refreshedDuringRebuild;
+            refreshedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // The rebuild may have read these before their changes committed
+        refreshed.forEach(this::refresh);
+        logger.info("Translator availability index built with {} profile(s)", rows.size());
+    }
+
+    private static Map<Long, List<Long>> group(List<IndexLink> links) {
+        Map<Long, List<Long>> grouped = new HashMap<>();
+        for (IndexLink link : links) {
+            grouped.computeIfAbsent(link.getProfileId(), id -> new ArrayList<>()).add(link.getValueId());
+        }
+        return grouped;
+    }
+
+    // ========== STATE ==========
+    public record Candidate(Long profileId, Long userId, double rating) {
+    }
+
+    private record Entry(Long userId, double rating, List<Long> themeIds, List<Long> languageIds) {
+    }
+
+    /**
+     * Bitmaps and per-profile entries; only touched under the index lock
+     */
+    private static final class State {
+        private static final BitSet EMPTY = new BitSet();
+
+        private final BitSet online = new BitSet();
+        private final BitSet available = new BitSet();
+        private final BitSet verified = new BitSet();
+        private final BitSet active = new BitSet();
+        private final Map<Long, BitSet> byTheme = new HashMap<>();
+        private final Map<Long, BitSet> byLanguage = new HashMap<>();
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final Map<Long, Long> profileByUser = new HashMap<>();
+
+        void add(IndexRow row, List<Long> themeIds, List<Long> languageIds) {
+            int bit = bitOf(row.getProfileId());
+            online.set(bit, Boolean.TRUE.equals(row.getOnline()));
+            available.set(bit, Boolean.TRUE.equals(row.getAvailable()));
+            verified.set(bit, Boolean.TRUE.equals(row.getVerified()));
+            active.set(bit, row.getActive() == null || row.getActive());
+            themeIds.forEach(id -> byTheme.computeIfAbsent(id, k -> new BitSet()).set(bit));
+            languageIds.forEach(id -> byLanguage.computeIfAbsent(id, k -> new BitSet()).set(bit));
+            double rating = row.getRatings() == null ? 0 : row.getRatings().doubleValue();
+            entries.put(row.getProfileId(), new Entry(row.getUserId(), rating, themeIds, languageIds));
+            profileByUser.put(row.getUserId(), row.getProfileId());
+        }
+
+        void remove(Long profileId) {
+            Entry entry = entries.remove(profileId);
+            if (entry == null) return;
+            int bit = bitOf(profileId);
+            online.clear(bit);
+            available.clear(bit);
+            verified.clear(bit);
+            active.clear(bit);
+            entry.themeIds().forEach(id -> clear(byTheme, id, bit));
+            entry.languageIds().forEach(id -> clear(byLanguage, id, bit));
+            profileByUser.remove(entry.userId());
+        }
+
+        private static void clear(Map<Long, BitSet> bitmaps, Long key, int bit) {
+            BitSet bitmap = bitmaps.get(key);
+            if (bitmap == null) return;
+            bitmap.clear(bit);
+            if (bitmap.isEmpty()) bitmaps.remove(key);
+        }
+
+        private static int bitOf(Long profileId) {
+            return Math.toIntExact(profileId);
+        }
+    }
+}
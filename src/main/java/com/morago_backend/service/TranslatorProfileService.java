@@ -7,12 +7,14 @@ import com.morago_backend.dto.dtoRequest.TranslatorProfileRequestDTO;
 import com.morago_backend.dto.dtoResponse.TranslatorProfileResponseDTO;
 import com.morago_backend.entity.Theme;
 import com.morago_backend.entity.TranslatorProfile;
+import com.morago_backend.event.TranslatorProfileChangedEvent;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.ThemeRepository;
 import com.morago_backend.repository.TranslatorProfileRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +22,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,17 +34,24 @@ public class TranslatorProfileService {
 
     private static final Logger logger = LoggerFactory.getLogger(TranslatorProfileService.class);
 
+    // Sortable fields and their columns in the native search queries
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "email", "email",
+            "levelOfKorean", "level_of_korean",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at");
+
     private final TranslatorProfileRepository repository;
     private final ThemeRepository themeRepository;
     private final SocketIOServer socketServer;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ========== READ ALL ==========
     public List<TranslatorProfileResponseDTO> findAll() {
         try {
             logger.info("Fetching all translatorProfiles");
-            return repository.findAll().stream()
-                    .map(this::mapToResponse)
-                    .collect(Collectors.toList());
+            return mapToResponses(repository.findAllWithUser());
         } catch (Exception e) {
             logger.error("Error fetching all translatorProfiles", e);
             throw e;
@@ -73,6 +85,14 @@ public class TranslatorProfileService {
     }
 
 
+    // ========== OWNERSHIP ==========
+    /**
+     * Whether the translator profile belongs to the given user; an existence check, nothing is loaded
+     */
+    public boolean isOwnedBy(Long profileId, Long userId) {
+        return repository.existsByIdAndUserId(profileId, userId);
+    }
+
     // ========== UPDATE ==========
     public TranslatorProfileResponseDTO update(Long id, TranslatorProfileRequestDTO dto) {
         try {
@@ -88,9 +108,11 @@ public class TranslatorProfileService {
             existing.setUpdatedAt(LocalDateTime.now());
 
             TranslatorProfile saved = repository.save(existing);
-            socketServer.getBroadcastOperations().sendEvent("translatorProfileUpdated", saved);
+            TranslatorProfileResponseDTO response = mapToResponse(saved);
+            socketServer.getBroadcastOperations().sendEvent("translatorProfileUpdated", response);
+            eventPublisher.publishEvent(new TranslatorProfileChangedEvent(saved.getId()));
             logger.info("TranslatorProfile updated with id={}", saved.getId());
-            return mapToResponse(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error updating translatorProfile with id={}", id, e);
             throw e;
@@ -115,10 +137,12 @@ public class TranslatorProfileService {
             profile.setUpdatedAt(LocalDateTime.now());
 
             TranslatorProfile saved = repository.save(profile);
-            socketServer.getBroadcastOperations().sendEvent("translatorThemesUpdated", saved);
+            TranslatorProfileResponseDTO response = mapToResponse(saved);
+            socketServer.getBroadcastOperations().sendEvent("translatorThemesUpdated", response);
+            eventPublisher.publishEvent(new TranslatorProfileChangedEvent(saved.getId()));
             logger.info("Themes updated successfully for translatorProfile id={}", translatorId);
 
-            return mapToResponse(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error updating themes for translatorProfile id={}", translatorId, e);
             throw e;
@@ -126,16 +150,17 @@ public class TranslatorProfileService {
     }
 
     //========== UPDATE AVAILABILITY ==========
-    public TranslatorProfileResponseDTO updateAvailability(Long translatorId, Boolean isAvailable) {
-        TranslatorProfile profile = repository.findById(translatorId)
-                .orElseThrow(() -> new ResourceNotFoundException("TranslatorProfile not found with id " + translatorId));
+    public TranslatorProfileResponseDTO updateAvailability(Long userId, Boolean isAvailable) {
+        TranslatorProfile profile = repository.findByUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("TranslatorProfile not found for user id " + userId));
 
         profile.setIsAvailable(isAvailable);
         profile.setUpdatedAt(LocalDateTime.now());
 
         TranslatorProfile saved = repository.save(profile);
-        socketServer.getBroadcastOperations().sendEvent("translatorAvailabilityUpdated", saved);
-        logger.info("Availability updated for translatorProfile id={}", translatorId);
+        // Subscribers get the change through TranslatorStatusStream, coalesced with other status changes
+        eventPublisher.publishEvent(new TranslatorProfileChangedEvent(saved.getId()));
+        logger.info("Availability updated for translatorProfile id={}", saved.getId());
 
         return mapToResponse(saved);
     }
@@ -151,9 +176,11 @@ public class TranslatorProfileService {
             profile.setIsVerified(true);
             profile.setUpdatedAt(LocalDateTime.now());
             TranslatorProfile saved = repository.save(profile);
-            socketServer.getBroadcastOperations().sendEvent("translatorProfileVerified", saved);
+            TranslatorProfileResponseDTO response = mapToResponse(saved);
+            socketServer.getBroadcastOperations().sendEvent("translatorProfileVerified", response);
+            eventPublisher.publishEvent(new TranslatorProfileChangedEvent(saved.getId()));
             logger.info("TranslatorProfile verified with id={}", saved.getId());
-            return mapToResponse(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error verifying translatorProfile with id={}", id, e);
             throw e;
@@ -170,9 +197,11 @@ public class TranslatorProfileService {
             profile.setIsVerified(false);
             profile.setUpdatedAt(LocalDateTime.now());
             TranslatorProfile saved = repository.save(profile);
-            socketServer.getBroadcastOperations().sendEvent("translatorProfileUnverified", saved);
+            TranslatorProfileResponseDTO response = mapToResponse(saved);
+            socketServer.getBroadcastOperations().sendEvent("translatorProfileUnverified", response);
+            eventPublisher.publishEvent(new TranslatorProfileChangedEvent(saved.getId()));
             logger.info("TranslatorProfile unverified with id={}", saved.getId());
-            return mapToResponse(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error unverifying translatorProfile with id={}", id, e);
             throw e;
@@ -183,10 +212,7 @@ public class TranslatorProfileService {
     public List<TranslatorProfileResponseDTO> findUnverifiedProfiles() {
         try {
             logger.info("Fetching all unverified translatorProfiles");
-            return repository.findAll().stream()
-                    .filter(profile -> profile.getIsVerified() == null || !profile.getIsVerified())
-                    .map(this::mapToResponse)
-                    .collect(Collectors.toList());
+            return mapToResponses(repository.findUnverified());
         } catch (Exception e) {
             logger.error("Error fetching unverified translatorProfiles", e);
             throw e;
@@ -194,51 +220,119 @@ public class TranslatorProfileService {
     }
 
     // ========== PAGINATION + FILTER ==========
+    /**
+     * Page of profiles filtered in the database. {@code filter.search} is matched against names, email,
+     * level of Korean and theme names through the full-text index; {@code filter.filters} may hold
+     * {@code isVerified}, {@code isOnline}, {@code isAvailable}, {@code themeId} and {@code languageId}.
+     */
     public Page<TranslatorProfileResponseDTO> getAllWithFilterAndPagination(FilterRequest filter, PaginationRequest pagination) {
         try {
             logger.info("Fetching translatorProfiles with filter and pagination");
+            String sortColumn = SORT_COLUMNS.get(pagination.getSortBy());
+            if (sortColumn == null) {
+                throw new IllegalArgumentException("Unsupported sort field: " + pagination.getSortBy());
+            }
             Pageable pageable = PageRequest.of(
                     pagination.getPage(),
                     pagination.getSize(),
-                    pagination.isAscending() ? Sort.by(pagination.getSortBy()).ascending() : Sort.by(pagination.getSortBy()).descending()
+                    pagination.isAscending() ? Sort.by(sortColumn).ascending() : Sort.by(sortColumn).descending()
             );
 
-            Page<TranslatorProfile> page = repository.findAll(pageable);
+            Boolean verified = booleanFilter(filter, "isVerified");
+            Boolean online = booleanFilter(filter, "isOnline");
+            Boolean available = booleanFilter(filter, "isAvailable");
+            Long themeId = longFilter(filter, "themeId");
+            Long languageId = longFilter(filter, "languageId");
+            String term = filter != null && filter.hasSearch() ? toFullTextQuery(filter.getSearch()) : null;
 
-            if (filter != null && filter.hasSearch()) {
-                String term = filter.getSearch().toLowerCase();
-                List<TranslatorProfile> filtered = page.getContent().stream()
-                        .filter(p -> p.getEmail().toLowerCase().contains(term))
-                        .toList();
-                page = new PageImpl<>(filtered, page.getPageable(), filtered.size());
-            }
+            Page<Long> page = term != null
+                    ? repository.searchIds(term, verified, online, available, themeId, languageId, pageable)
+                    : repository.filterIds(verified, online, available, themeId, languageId, pageable);
 
-            return page.map(this::mapToResponse);
+            return new PageImpl<>(mapToResponses(loadInOrder(page.getContent())), page.getPageable(), page.getTotalElements());
         } catch (Exception e) {
             logger.error("Error fetching translatorProfiles with filter and pagination", e);
             throw e;
         }
     }
 
+    /**
+     * Boolean-mode query requiring every word as a phrase; operators typed by the user are stripped.
+     * Returns {@code null} when nothing searchable is left (ngram tokens are at least two characters).
+     */
+    private static String toFullTextQuery(String search) {
+        StringBuilder query = new StringBuilder();
+        for (String word : search.trim().split("\\s+")) {
+            String cleaned = word.replaceAll("[+\\-<>()~*\"@]", "");
+            if (cleaned.length() < 2) continue;
+            if (!query.isEmpty()) query.append(' ');
+            query.append("+\"").append(cleaned).append('"');
+        }
+        return query.isEmpty() ? null : query.toString();
+    }
+
+    /**
+     * Profiles with their users for a page of ids, in the page's order
+     */
+    private List<TranslatorProfile> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, TranslatorProfile> byId = repository.findAllWithUserByIdIn(ids).stream()
+                .collect(Collectors.toMap(TranslatorProfile::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    private static Boolean booleanFilter(FilterRequest filter, String key) {
+        Object value = filter != null && filter.hasFilters() ? filter.getFilters().get(key) : null;
+        return value == null ? null : Boolean.valueOf(value.toString());
+    }
+
+    private static Long longFilter(FilterRequest filter, String key) {
+        Object value = filter != null && filter.hasFilters() ? filter.getFilters().get(key) : null;
+        if (value == null) return null;
+        try {
+            return Long.valueOf(value.toString());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + key + ": " + value);
+        }
+    }
+
     // ========== MAPPERS ==========
     private TranslatorProfileResponseDTO mapToResponse(TranslatorProfile entity) {
-        TranslatorProfileResponseDTO dto = new TranslatorProfileResponseDTO();
-        dto.setId(entity.getId());
-        dto.setEmail(entity.getEmail());
-        dto.setDateOfBirth(entity.getDateOfBirth());
-        dto.setIsAvailable(entity.getIsAvailable());
-        dto.setIsOnline(entity.getIsOnline());
-        dto.setIsVerified(entity.getIsVerified());
-        dto.setLevelOfKorean(entity.getLevelOfKorean());
-        dto.setCreatedAtDatetime(entity.getCreatedAt());
-        dto.setUpdatedAtDatetime(entity.getUpdatedAt());
-
-        if (entity.getThemes() != null) {
-            dto.setThemes(entity.getThemes().stream()
-                    .map(Theme::getName)
-                    .collect(Collectors.toList()));
-        }
-        return dto;
+        return mapToResponses(List.of(entity)).get(0);
+    }
+
+    /**
+     * Maps a batch of profiles with two extra queries in total: theme and language names are read as
+     * flat (profile id, name) rows for all profiles at once rather than through each lazy collection
+     */
+    private List<TranslatorProfileResponseDTO> mapToResponses(List<TranslatorProfile> entities) {
+        if (entities.isEmpty()) return List.of();
+
+        List<Long> ids = entities.stream().map(TranslatorProfile::getId).collect(Collectors.toList());
+        Map<Long, List<String>> themes = groupNames(repository.findThemeNames(ids));
+        Map<Long, List<String>> languages = groupNames(repository.findLanguageNames(ids));
+
+        return entities.stream().map(entity -> {
+            TranslatorProfileResponseDTO dto = new TranslatorProfileResponseDTO();
+            dto.setId(entity.getId());
+            dto.setEmail(entity.getEmail());
+            dto.setDateOfBirth(entity.getDateOfBirth());
+            dto.setIsAvailable(entity.getIsAvailable());
+            dto.setIsOnline(entity.getIsOnline());
+            dto.setIsVerified(entity.getIsVerified());
+            dto.setLevelOfKorean(entity.getLevelOfKorean());
+            dto.setThemes(themes.getOrDefault(entity.getId(), List.of()));
+            dto.setLanguages(languages.getOrDefault(entity.getId(), List.of()));
+            dto.setCreatedAtDatetime(entity.getCreatedAt());
+            dto.setUpdatedAtDatetime(entity.getUpdatedAt());
+            return dto;
+        }).collect(Collectors.toList());
+    }
+
+    private Map<Long, List<String>> groupNames(List<TranslatorProfileRepository.NameLink> links) {
+        return links.stream().collect(Collectors.groupingBy(
+                TranslatorProfileRepository.NameLink::getProfileId,
+                Collectors.mapping(TranslatorProfileRepository.NameLink::getName, Collectors.toList())));
     }
 
     private TranslatorProfile mapToEntity(TranslatorProfileRequestDTO dto) {
@@ -0,0 +1,77 @@
+package com.morago_backend.service;
+
+import com.morago_backend.event.TranslatorProfileChangedEvent;
+import com.morago_backend.event.UserPrincipalChangedEvent;
+import com.morago_backend.repository.TranslatorProfileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the {@code translator_search} full-text documents in step with translator profiles.
+ * <p>
+ * A profile's document is rewritten after its profile or its user (names) changes, all documents are
+ * rebuilt at startup, and a periodic rebuild catches what events do not cover, such as renamed themes.
+ */
+@Service
+public class TranslatorSearchIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslatorSearchIndexer.class);
+
+    private final TranslatorProfileRepository repository;
+
+    public TranslatorSearchIndexer(TranslatorProfileRepository repository) {
+        this.repository = repository;
+    }
+
+    // ========== INCREMENTAL ==========
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTranslatorProfileChanged(TranslatorProfileChangedEvent event) {
+        refresh(event.getTranslatorProfileId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPrincipalChanged(UserPrincipalChangedEvent event) {
+        if (event.getUserId() == null) return;
+        repository.findProfileIdByUserId(event.getUserId()).ifPresent(this::refresh);
+    }
+
+    private void refresh(Long profileId) {
+        try {
+            // Removes the document of a deleted profile; the upsert recreates it otherwise
+            repository.deleteSearchDocument(profileId);
+            repository.upsertSearchDocument(profileId);
+            logger.debug("Search document refreshed for translatorProfile id={}", profileId);
+        } catch (Exception e) {
+            // Search may lag until the next rebuild, the change itself has committed
+            logger.error("Error refreshing search document for translatorProfile id={}", profileId, e);
+        }
+    }
+
+    // ========== REBUILD ==========
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${translator-search.rebuild-interval-ms:3600000}",
+            initialDelayString = "${translator-search.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        try {
+            int deleted = repository.deleteOrphanedSearchDocuments();
+            int upserted = repository.upsertAllSearchDocuments();
+            logger.info("Translator search documents rebuilt: {} row(s) written, {} orphan(s) removed", upserted, deleted);
+        } catch (Exception e) {
+            logger.error("Error rebuilding translator search documents", e);
+        }
+    }
+}
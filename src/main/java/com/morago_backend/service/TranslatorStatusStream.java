@@ -0,0 +1,231 @@
+package com.morago_backend.service;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.morago_backend.dto.dtoResponse.TranslatorStatusDTO;
+import com.morago_backend.dto.dtoResponse.TranslatorStatusEventDTO;
+import com.morago_backend.event.TranslatorProfileChangedEvent;
+import com.morago_backend.event.UserPrincipalChangedEvent;
+import com.morago_backend.repository.TranslatorProfileRepository;
+import com.morago_backend.repository.TranslatorProfileRepository.IndexRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Live translator status (online, available, verified, active) for dashboards over Socket.IO.
+ * <p>
+ * A client sends "subscribeTranslatorStatus" and receives a "translatorStatusSnapshot" with every
+ * translator and the current sequence number, then "translatorStatusDelta" batches holding only the
+ * changed fields of the translators that changed, each with the next sequence number. Changes are
+ * coalesced for {@code translator-status.coalesce-window-ms}, so a translator toggling availability
+ * several times within the window costs one delta carrying the final state, and nothing is sent when a
+ * toggle is undone. A client that reconnects, or sees a gap in the sequence, subscribes again and
+ * starts over from a new snapshot. A periodic resync emits deltas for changes made by other instances.
+ */
+@Service
+public class TranslatorStatusStream {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslatorStatusStream.class);
+    static final String ROOM = "translator_status";
+
+    private final TranslatorProfileRepository repository;
+    private final SocketIOServer socketServer;
+    private final long coalesceWindowMillis;
+    private final ScheduledExecutorService executor;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    // Guarded by this: the state last published to subscribers and its sequence number
+    private final Map<Long, Status> published = new HashMap<>();
+    private long sequence;
+
+    public TranslatorStatusStream(TranslatorProfileRepository repository,
+                                  SocketIOServer socketServer,
+                                  @Value("${translator-status.coalesce-window-ms:250}") long coalesceWindowMillis) {
+        this.repository = repository;
+        this.socketServer = socketServer;
+        this.coalesceWindowMillis = coalesceWindowMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "translator-status");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void registerListeners() {
+        socketServer.addEventListener("subscribeTranslatorStatus", Object.class,
+                (client, data, ackRequest) -> subscribe(client));
+        socketServer.addEventListener("unsubscribeTranslatorStatus", Object.class,
+                (client, data, ackRequest) -> client.leaveRoom(ROOM));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ========== SUBSCRIBE ==========
+    /**
+     * Joining the room and sending the snapshot happen under the publishing lock, so the first delta
+     * the client receives is the one right after its snapshot
+     */
+    private synchronized void subscribe(SocketIOClient client) {
+        List<TranslatorStatusDTO> translators = new ArrayList<>(published.size());
+        published.forEach((profileId, status) -> translators.add(status.toDto(profileId)));
+        client.joinRoom(ROOM);
+        client.sendEvent("translatorStatusSnapshot", new TranslatorStatusEventDTO(sequence, translators));
+    }
+
+    // ========== CHANGES ==========
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTranslatorProfileChanged(TranslatorProfileChangedEvent event) {
+        markChanged(event.getTranslatorProfileId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPrincipalChanged(UserPrincipalChangedEvent event) {
+        if (event.getUserId() == null) return;
+        try {
+            repository.findProfileIdByUserId(event.getUserId()).ifPresent(this::markChanged);
+        } catch (Exception e) {
+            logger.error("Error resolving translatorProfile for userId={}", event.getUserId(), e);
+        }
+    }
+
+    private void markChanged(Long profileId) {
+        pending.add(profileId);
+        if (flushScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::flush, coalesceWindowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        Set<Long> profileIds = new HashSet<>(pending);
+        pending.removeAll(profileIds);
+        if (profileIds.isEmpty()) return;
+
+        try {
+            Map<Long, Status> current = new HashMap<>();
+            for (IndexRow row : repository.findIndexRows(profileIds)) {
+                current.put(row.getProfileId(), Status.of(row));
+            }
+            publish(profileIds, current);
+        } catch (Exception e) {
+            // The next resync publishes whatever this flush missed
+            logger.error("Error publishing status of {} translator(s)", profileIds.size(), e);
+        }
+    }
+
+    // ========== RESYNC ==========
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        resync();
+    }
+
+    /**
+     * Runs on the stream thread like {@link #flush}, so a resync never publishes a state older than one
+     * a flush has already sent
+     */
+    @Scheduled(fixedDelayString = "${translator-status.resync-interval-ms:60000}",
+            initialDelayString = "${translator-status.resync-interval-ms:60000}")
+    public void resync() {
+        executor.execute(this::reload);
+    }
+
+    private void reload() {
+        try {
+            Map<Long, Status> current = new HashMap<>();
+            for (IndexRow row : repository.findIndexRows()) {
+                current.put(row.getProfileId(), Status.of(row));
+            }
+            Set<Long> profileIds = new HashSet<>(current.keySet());
+            synchronized (this) {
+                profileIds.addAll(published.keySet());
+            }
+            publish(profileIds, current);
+        } catch (Exception e) {
+            logger.error("Error resyncing translator status stream", e);
+        }
+    }
+
+    // ========== PUBLISH ==========
+    /**
+     * Diff the given profiles against the published state and send one delta batch for those that changed
+     */
+    private synchronized void publish(Set<Long> profileIds, Map<Long, Status> current) {
+        List<TranslatorStatusDTO> deltas = new ArrayList<>();
+        for (Long profileId : profileIds) {
+            Status before = published.get(profileId);
+            Status after = current.get(profileId);
+            if (Objects.equals(before, after)) continue;
+
+            if (after == null) {
+                published.remove(profileId);
+                TranslatorStatusDTO removed = new TranslatorStatusDTO(profileId);
+                removed.setRemoved(true);
+                deltas.add(removed);
+            } else {
+                published.put(profileId, after);
+                deltas.add(after.diff(profileId, before));
+            }
+        }
+        if (deltas.isEmpty()) return;
+
+        sequence++;
+        socketServer.getRoomOperations(ROOM).sendEvent("translatorStatusDelta", new TranslatorStatusEventDTO(sequence, deltas));
+        logger.debug("Published translator status delta seq={} with {} change(s)", sequence, deltas.size());
+    }
+
+    private record Status(Long userId, boolean online, boolean available, boolean verified, boolean active) {
+
+        static Status of(IndexRow row) {
+            return new Status(row.getUserId(),
+                    Boolean.TRUE.equals(row.getOnline()),
+                    Boolean.TRUE.equals(row.getAvailable()),
+                    Boolean.TRUE.equals(row.getVerified()),
+                    !Boolean.FALSE.equals(row.getActive()));  // no active flag counts as active, as in the availability index
+        }
+
+        TranslatorStatusDTO toDto(Long profileId) {
+            return diff(profileId, null);
+        }
+
+        /**
+         * Entry with only the fields that differ from {@code before}; every field when there is no before
+         */
+        TranslatorStatusDTO diff(Long profileId, Status before) {
+            TranslatorStatusDTO dto = new TranslatorStatusDTO(profileId);
+            if (before == null || !Objects.equals(before.userId, userId)) dto.setUserId(userId);
+            if (before == null || before.online != online) dto.setIsOnline(online);
+            if (before == null || before.available != available) dto.setIsAvailable(available);
+            if (before == null || before.verified != verified) dto.setIsVerified(verified);
+            if (before == null || before.active != active) dto.setIsActive(active);
+            return dto;
+        }
+    }
+}
@@ -1,29 +1,43 @@
 package com.morago_backend.service;
 
-import com.morago_backend.entity.User;
+import com.morago_backend.event.UserPrincipalChangedEvent;
 import com.morago_backend.repository.UserRepository;
+import com.morago_backend.service.PrincipalCache.CachedPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserDetailsServiceImpl.class);
+
+    private final PrincipalCache principalCache;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(PrincipalCache principalCache,
+                                  UserRepository userRepository,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.principalCache = principalCache;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public UserDetails loadUserByUsername(String phone) throws UsernameNotFoundException {
-        User user = userRepository.findByPhone(phone)
+        CachedPrincipal user = principalCache.getByPhone(phone)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with phone: " + phone));
 
         List<GrantedAuthority> authorities = user.getRoles()
@@ -33,13 +47,26 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getPhone())
-                .password(user.getPassword())
+                .password(user.getPasswordHash())
                 .authorities(authorities)
                 .accountExpired(false)
                 .accountLocked(false)
                 .credentialsExpired(false)
-                .disabled(user.getIsActive() != null && !user.getIsActive())
+                .disabled(!user.isActive())
                 .build();
     }
 
+    /**
+     * Called by Spring Security after a successful login whose stored hash uses an outdated BCrypt cost
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordByPhone(user.getUsername(), newPassword);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(null, user.getUsername()));
+        logger.info("Rehashed password with the current BCrypt cost for phone={}", user.getUsername());
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
 }
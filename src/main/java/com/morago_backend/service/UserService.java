@@ -1,13 +1,16 @@
 package com.morago_backend.service;
 
+import com.morago_backend.config.CurrentUser;
 import com.morago_backend.dto.dtoRequest.FilterRequest;
 import com.morago_backend.dto.dtoRequest.PaginationRequest;
 import com.morago_backend.dto.dtoRequest.PasswordChangeRequestDTO;
 import com.morago_backend.dto.dtoRequest.UserRequestDTO;
 import com.morago_backend.dto.dtoResponse.PagedResponse;
 import com.morago_backend.dto.dtoResponse.UserResponseDTO;
+import com.morago_backend.entity.TransactionType;
 import com.morago_backend.entity.User;
 import com.morago_backend.entity.UserRole;
+import com.morago_backend.event.UserPrincipalChangedEvent;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.UserRepository;
 import com.corundumstudio.socketio.SocketIOServer;
@@ -15,12 +18,10 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -32,47 +33,17 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final SocketIOServer socketServer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionService transactionService;
+    private final RefreshTokenService refreshTokenService;
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
-    protected Page<User> applyFilters(Page<User> page, FilterRequest filter) {
-        if (filter == null) return page;
-
-        List<User> filtered = page.getContent();
-
-        if (filter.hasSearch()) {
-            String term = filter.getSearch().toLowerCase();
-            filtered = filtered.stream()
-                    .filter(u -> u.getPhone().toLowerCase().contains(term) ||
-                            (u.getFirstName() != null && u.getFirstName().toLowerCase().contains(term)) ||
-                            (u.getLastName() != null && u.getLastName().toLowerCase().contains(term)))
-                    .toList();
-        }
-
-        if (filter.hasFilters()) {
-            if (filter.getFilters().containsKey("role")) {
-                String roleFilter = filter.getFilters().get("role").toString();
-                filtered = filtered.stream()
-                        .filter(u -> u.getRoles().stream()
-                                .anyMatch(r -> r.name().equalsIgnoreCase(roleFilter)))
-                        .toList();
-            }
-            if (filter.getFilters().containsKey("active")) {
-                boolean activeFilter = Boolean.parseBoolean(filter.getFilters().get("active").toString());
-                filtered = filtered.stream()
-                        .filter(u -> Boolean.TRUE.equals(u.getIsActive()) == activeFilter)
-                        .toList();
-            }
-        }
-
-        return new PageImpl<>(filtered, page.getPageable(), page.getTotalElements());
-    }
-
-    //=== Helper: get current authenticated user ===//
-    private User getCurrentUserEntity() {
+    //=== Helper: load the current user's entity when its mutable state is needed ===//
+    private User getCurrentUserEntity(CurrentUser currentUser) {
         try {
-            String phone = SecurityContextHolder.getContext().getAuthentication().getName();
-            return userRepository.findByPhone(phone)
+            Long userId = currentUser.getId();
+            return userRepository.findById(userId)
                     .orElseThrow(() -> new ResourceNotFoundException("Current user not found"));
         } catch (Exception e) {
             logger.error("Error fetching current authenticated user", e);
@@ -81,9 +52,9 @@ public class UserService {
     }
 
     //=== Get current user's profile ===//
-    public UserResponseDTO getCurrentUserProfile() {
+    public UserResponseDTO getCurrentUserProfile(CurrentUser currentUser) {
         try {
-            User user = getCurrentUserEntity();
+            User user = getCurrentUserEntity(currentUser);
             logger.info("Fetched profile for user id={}", user.getId());
             return mapToResponse(user);
         } catch (Exception e) {
@@ -93,17 +64,22 @@ public class UserService {
     }
 
     //=== Update current user's profile ===//
-    public UserResponseDTO updateCurrentUser(UserRequestDTO request) {
+    public UserResponseDTO updateCurrentUser(CurrentUser currentUser, UserRequestDTO request) {
         try {
-            User user = getCurrentUserEntity();
+            User user = getCurrentUserEntity(currentUser);
 
             if (request.getFirstName() != null) user.setFirstName(request.getFirstName());
             if (request.getLastName() != null) user.setLastName(request.getLastName());
-            if (request.getPassword() != null && !request.getPassword().isBlank()) {
+            boolean passwordChanged = request.getPassword() != null && !request.getPassword().isBlank();
+            if (passwordChanged) {
                 user.setPassword(passwordEncoder.encode(request.getPassword()));
             }
 
             User saved = userRepository.save(user);
+            if (passwordChanged) {
+                refreshTokenService.revokeAllForUser(saved.getId());
+            }
+            eventPublisher.publishEvent(new UserPrincipalChangedEvent(saved.getId(), saved.getPhone()));
             UserResponseDTO dto = mapToResponse(saved);
             socketServer.getBroadcastOperations().sendEvent("userUpdated", dto);
             logger.info("Updated profile for user id={}", saved.getId());
@@ -115,17 +91,35 @@ public class UserService {
     }
 
     //=== Deposit money (Client only) ===//
-    public UserResponseDTO deposit(BigDecimal amount) {
+    // Locks the user's row and records the ledger transaction in the same database transaction
+    @Transactional
+    public UserResponseDTO deposit(CurrentUser currentUser, BigDecimal amount) {
         try {
-            User user = getCurrentUserEntity();
-            if (!user.getRoles().contains(UserRole.CLIENT)) {
+            if (!currentUser.hasRole(UserRole.CLIENT)) {
                 throw new RuntimeException("Only clients can deposit");
             }
+            if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) throw new IllegalArgumentException("Amount must be positive");
 
-            if (amount.compareTo(BigDecimal.ZERO) <= 0) throw new IllegalArgumentException("Amount must be positive");
+            User user = userRepository.findByIdForUpdate(currentUser.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Current user not found"));
 
-            user.setBalance(user.getBalance() == null ? amount : user.getBalance().add(amount));
+            BigDecimal balanceBefore = user.getBalance() == null ? BigDecimal.ZERO : user.getBalance();
+            user.setBalance(balanceBefore.add(amount));
+            transactionService.createDetailedTransaction(
+                    user,
+                    balanceBefore,
+                    TransactionType.DEPOSIT,
+                    amount,
+                    "COMPLETED",
+                    "Direct deposit credited to account",
+                    null,
+                    null,
+                    null,
+                    null,
+                    null
+            );
             User saved = userRepository.save(user);
+            logger.info("Deposited amount={} for user id={}", amount, saved.getId());
             socketServer.getBroadcastOperations().sendEvent("userDeposited", saved);
             return mapToResponse(saved);
         } catch (Exception e) {
@@ -135,9 +129,9 @@ public class UserService {
     }
 
     //=== Get current balance ===//
-    public BigDecimal getBalance() {
+    public BigDecimal getBalance(CurrentUser currentUser) {
         try {
-            User user = getCurrentUserEntity();
+            User user = getCurrentUserEntity(currentUser);
             BigDecimal balance = user.getBalance() != null ? user.getBalance() : BigDecimal.ZERO;
             logger.info("Fetched balance={} for user id={}", balance, user.getId());
             return balance;
@@ -151,8 +145,8 @@ public class UserService {
     public PagedResponse<UserResponseDTO> findAllDTOWithPaginationAndFilter(PaginationRequest pagination, FilterRequest filter) {
         try {
             logger.info("Fetching users with pagination={} filter={}", pagination, filter);
-            Pageable pageable = PageRequest.of(pagination.getPage(), pagination.getSize());
-            Page<User> page = applyFilters(userRepository.findAll(pageable), filter);
+            Page<User> page = userRepository.findAll(UserRepository.FILTERS.toSpecification(filter),
+                    UserRepository.FILTERS.toPageable(pagination));
             List<UserResponseDTO> content = page.getContent().stream()
                     .map(this::mapToResponse)
                     .toList();
@@ -164,9 +158,9 @@ public class UserService {
     }
 
     //=== Change password (for authenticated users) ===//
-    public void changePassword(PasswordChangeRequestDTO request) {
+    public void changePassword(CurrentUser currentUser, PasswordChangeRequestDTO request) {
         try {
-            User user = getCurrentUserEntity();
+            User user = getCurrentUserEntity(currentUser);
             
             // Verify current password
             if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
@@ -183,6 +177,8 @@ public class UserService {
             // Update password
             user.setPassword(passwordEncoder.encode(request.getNewPassword()));
             userRepository.save(user);
+            refreshTokenService.revokeAllForUser(user.getId());
+            eventPublisher.publishEvent(new UserPrincipalChangedEvent(user.getId(), user.getPhone()));
             
             logger.info("Successfully changed password for user id={}", user.getId());
             
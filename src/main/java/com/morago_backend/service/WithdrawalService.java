@@ -1,5 +1,7 @@
 package com.morago_backend.service;
 
+import com.morago_backend.config.CurrentUser;
+import com.morago_backend.config.ReplicaRead;
 import com.morago_backend.dto.dtoResponse.WithdrawalResponseDTO;
 import com.morago_backend.entity.TransactionType;
 import com.morago_backend.entity.User;
@@ -11,7 +13,6 @@ import com.corundumstudio.socketio.SocketIOServer;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,12 +34,8 @@ public class WithdrawalService {
 
     //=== Translator request withdrawal ===//
     @Transactional
-    public WithdrawalResponseDTO requestWithdrawal(BigDecimal sum, String accountNumber, String accountHolder, String bankName) {
-        String phone = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByPhone(phone)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        if (!user.getRoles().contains(UserRole.INTERPRETER)) {
+    public WithdrawalResponseDTO requestWithdrawal(CurrentUser user, BigDecimal sum, String accountNumber, String accountHolder, String bankName) {
+        if (!user.hasRole(UserRole.INTERPRETER)) {
             throw new RuntimeException("Only translators can request withdrawal");
         }
 
@@ -69,13 +66,16 @@ public class WithdrawalService {
         if (!status.equalsIgnoreCase("APPROVED") && !status.equalsIgnoreCase("REJECTED")) {
             throw new IllegalArgumentException("Status must be APPROVED or REJECTED");
         }
+        if (w.getPayoutRunId() != null && "PENDING".equalsIgnoreCase(w.getStatus())) {
+            throw new IllegalStateException("Withdrawal is part of payout run " + w.getPayoutRunId());
+        }
 
         String prevStatus = w.getStatus();
         w.setStatus(status);
         Withdrawal saved = repository.save(w);
 
         if ("APPROVED".equalsIgnoreCase(status) && !"APPROVED".equalsIgnoreCase(prevStatus)) {
-            User user = userRepository.findById(w.getUserId())
+            User user = userRepository.findByIdForUpdate(w.getUserId())
                     .orElseThrow(() -> new RuntimeException("User not found"));
             BigDecimal balance = user.getBalance() == null ? BigDecimal.ZERO : user.getBalance();
             if (balance.compareTo(w.getSum()) < 0) {
@@ -87,6 +87,7 @@ public class WithdrawalService {
             // Create transaction record
             transactionService.createDetailedTransaction(
                 user,
+                balance,
                 TransactionType.WITHDRAWAL,
                 saved.getSum(),
                 "COMPLETED",
@@ -106,11 +107,14 @@ public class WithdrawalService {
     }
 
     //=== Admin get all withdrawals ===//
+    @ReplicaRead
+    @Transactional(readOnly = true)
     public List<WithdrawalResponseDTO> findAll() {
         return repository.findAll().stream().map(this::mapToResponse).collect(Collectors.toList());
     }
 
     //=== Admin get withdrawal by ID ===//
+    @Transactional(readOnly = true)
     public Optional<WithdrawalResponseDTO> findById(Long id) {
         return repository.findById(id).map(this::mapToResponse);
     }
@@ -0,0 +1,97 @@
+package com.morago_backend.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Normalizes text for prefix matching across Korean and Latin scripts.
+ * <p>
+ * Hangul syllables are split into their jamo, and compound vowels and final consonant clusters are
+ * split further into the keys typed for them, so text typed so far is always a prefix of the text
+ * being typed: "하" (ㅎㅏ), "학" (ㅎㅏㄱ) and "학교" (ㅎㅏㄱㄱㅛ) are all prefixes of "학교", and "닭"
+ * matches while typing "달". Latin letters are lower-cased; everything else except letters and digits
+ * becomes a single space.
+ */
+public final class HangulJamo {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+    private static final int VOWEL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    private static final String[] INITIALS = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    private static final String[] VOWELS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    // Compound compatibility jamo typed on their own, e.g. a lone "ㅘ" or "ㄺ"
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_KEYS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"};
+
+    private HangulJamo() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) return "";
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder out = new StringBuilder(composed.length() * 3);
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                out.append(INITIALS[index / (VOWEL_COUNT * FINAL_COUNT)])
+                        .append(VOWELS[(index / FINAL_COUNT) % VOWEL_COUNT])
+                        .append(FINALS[index % FINAL_COUNT]);
+            } else {
+                int compound = COMPOUND_JAMO.indexOf(c);
+                if (compound >= 0) {
+                    out.append(COMPOUND_KEYS[compound]);
+                } else {
+                    out.append(c);
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Whether a match may begin at {@code index} of normalized text: the start of a word, or the start
+     * of a Hangul syllable inside a word
+     */
+    public static boolean isSyllableStart(String normalized, int index) {
+        return index == 0 || normalized.charAt(index - 1) == ' ' || isInitial(normalized, index);
+    }
+
+    private static boolean isInitial(String normalized, int index) {
+        // A consonant followed by a vowel begins a Hangul syllable
+        char c = normalized.charAt(index);
+        return index + 1 < normalized.length() && isConsonant(c) && isVowel(normalized.charAt(index + 1));
+    }
+
+    private static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    private static boolean isVowel(char c) {
+        return c >= 'ㅏ' && c <= 'ㅣ';
+    }
+}
@@ -0,0 +1,35 @@
+-- V10: Rotating refresh tokens and revoked access token IDs
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id_bigint BIGINT NOT NULL,
+    token_hash_char64 CHAR(64) NOT NULL,
+    family_id_char36 CHAR(36) NOT NULL,
+    access_token_id_char36 CHAR(36) NOT NULL,
+    access_expires_at_datetime DATETIME(6) NOT NULL,
+    expires_at_datetime DATETIME(6) NOT NULL,
+    revoked_at_datetime DATETIME(6) NULL,
+    replaced_by_id_bigint BIGINT NULL,
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    -- Only the SHA-256 of a refresh token is stored
+    CONSTRAINT uq_refresh_tokens_hash UNIQUE (token_hash_char64),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id_bigint) REFERENCES users(id) ON DELETE CASCADE,
+    INDEX idx_refresh_tokens_user (user_id_bigint, revoked_at_datetime),
+    INDEX idx_refresh_tokens_family (family_id_char36),
+    INDEX idx_refresh_tokens_expires (expires_at_datetime)
+);
+
+-- Access tokens revoked before their expiry; rows can be dropped once expires_at_datetime has passed
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    token_id_char36 CHAR(36) NOT NULL,
+    user_id_bigint BIGINT NULL,
+    expires_at_datetime DATETIME(6) NOT NULL,
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    CONSTRAINT uq_revoked_tokens_token UNIQUE (token_id_char36),
+    INDEX idx_revoked_tokens_expires (expires_at_datetime)
+);
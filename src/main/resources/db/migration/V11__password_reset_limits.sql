@@ -0,0 +1,25 @@
+-- V11: One password reset row per phone, with failed verification attempts and lockout
+
+CREATE TABLE IF NOT EXISTS password_resets (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    phone_varchar100 VARCHAR(100),
+    reset_code_int INT,
+    is_verified BOOLEAN NOT NULL DEFAULT FALSE,
+    verification_token VARCHAR(255),
+    expires_at DATETIME(6),
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL
+);
+
+ALTER TABLE password_resets
+    ADD COLUMN failed_attempts_int INT NOT NULL DEFAULT 0,
+    ADD COLUMN locked_until_datetime DATETIME(6) NULL;
+
+-- Older versions inserted a row per request and never deleted them; keep only the latest per phone
+DELETE older FROM password_resets older
+    JOIN password_resets newer ON newer.phone_varchar100 = older.phone_varchar100 AND newer.id > older.id;
+DELETE FROM password_resets WHERE expires_at < NOW() OR phone_varchar100 IS NULL;
+
+ALTER TABLE password_resets
+    ADD CONSTRAINT uq_password_resets_phone UNIQUE (phone_varchar100),
+    ADD INDEX idx_password_resets_expires (expires_at);
@@ -0,0 +1,10 @@
+-- V12: Full-text search document per translator profile (names, email, level of Korean, theme names).
+-- Maintained by the application; the ngram parser makes Korean and partial words searchable.
+
+CREATE TABLE IF NOT EXISTS translator_search (
+    translator_profile_id_bigint BIGINT PRIMARY KEY,
+    document_text TEXT NOT NULL,
+    updated_at_datetime DATETIME(6) NULL,
+
+    FULLTEXT INDEX ftx_translator_search_document (document_text) WITH PARSER ngram
+);
@@ -0,0 +1,8 @@
+-- V13: Indexes for the paged user lists, which now filter, sort and count in the database
+
+-- Active/blocked filter with the default and date-range orderings
+CREATE INDEX idx_users_active_created ON users(is_active, created_at);
+CREATE INDEX idx_users_created ON users(created_at);
+
+-- Role filter: look up users by role without scanning every role row
+CREATE INDEX idx_user_roles_role ON user_roles(role, user_id);
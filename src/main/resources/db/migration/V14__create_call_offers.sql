@@ -0,0 +1,11 @@
+-- V14: Outstanding call offers, so an instance that did not dispatch a call can check an accept
+
+CREATE TABLE IF NOT EXISTS call_offers (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    call_id_bigint BIGINT NOT NULL,
+    user_id_bigint BIGINT NOT NULL,
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    CONSTRAINT uq_call_offers_call_user UNIQUE (call_id_bigint, user_id_bigint)
+);
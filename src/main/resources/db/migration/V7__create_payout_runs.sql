@@ -0,0 +1,37 @@
+-- V7: Payout runs for batched withdrawal processing
+
+CREATE TABLE IF NOT EXISTS payout_runs (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    cutoff_datetime DATETIME(6) NOT NULL,
+    status_varchar50 VARCHAR(50) NOT NULL,
+    claimed_count_int INT DEFAULT 0,
+    approved_count_int INT DEFAULT 0,
+    skipped_count_int INT DEFAULT 0,
+    total_amount_decimal12_2 DECIMAL(12,2) DEFAULT 0.00,
+    completed_at_datetime DATETIME(6) NULL,
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    -- One run per cutoff keeps run creation idempotent
+    CONSTRAINT uq_payout_runs_cutoff UNIQUE (cutoff_datetime)
+);
+
+-- withdrawals was created by Hibernate before this migration existed; create it here so a fresh
+-- schema can be migrated before the application starts
+CREATE TABLE IF NOT EXISTS withdrawals (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    account_number_varchar200 VARCHAR(200),
+    account_holder_varchar200 VARCHAR(200),
+    name_of_bank_varchar200 VARCHAR(200),
+    sum_decimal12_2 DECIMAL(12,2),
+    status_varchar50 VARCHAR(50),
+    user_id_bigint BIGINT,
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL
+);
+
+-- Withdrawals claimed by a run; NULL while unclaimed
+ALTER TABLE withdrawals ADD COLUMN payout_run_id_bigint BIGINT NULL;
+
+CREATE INDEX idx_withdrawals_payout_run ON withdrawals(payout_run_id_bigint, status_varchar50);
+CREATE INDEX idx_withdrawals_status_created ON withdrawals(status_varchar50, created_at_datetime);
@@ -0,0 +1,30 @@
+-- V8: Ledger reconciliation runs and the issues they report
+
+CREATE TABLE IF NOT EXISTS ledger_reconciliation_runs (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    status_varchar50 VARCHAR(50) NOT NULL,
+    users_checked_bigint BIGINT DEFAULT 0,
+    transactions_checked_bigint BIGINT DEFAULT 0,
+    issues_found_bigint BIGINT DEFAULT 0,
+    error_message_varchar1000 VARCHAR(1000),
+    completed_at_datetime DATETIME(6) NULL,
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL
+);
+
+CREATE TABLE IF NOT EXISTS ledger_reconciliation_issues (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    run_id_bigint BIGINT NOT NULL,
+    user_id_bigint BIGINT NOT NULL,
+    transaction_id_bigint BIGINT NULL,
+    issue_type_varchar50 VARCHAR(50) NOT NULL,
+    expected_decimal12_2 DECIMAL(12,2),
+    actual_decimal12_2 DECIMAL(12,2),
+    details_varchar500 VARCHAR(500),
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    CONSTRAINT fk_ledger_issues_run FOREIGN KEY (run_id_bigint) REFERENCES ledger_reconciliation_runs(id) ON DELETE CASCADE,
+    INDEX idx_ledger_issues_run_user (run_id_bigint, user_id_bigint),
+    INDEX idx_ledger_issues_run_type (run_id_bigint, issue_type_varchar50)
+);
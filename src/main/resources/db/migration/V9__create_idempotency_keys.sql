@@ -0,0 +1,21 @@
+-- V9: Stored first responses of money-moving requests sent with an Idempotency-Key header
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    scope_hash_char64 CHAR(64) NOT NULL,
+    idempotency_key_varchar255 VARCHAR(255) NOT NULL,
+    principal_varchar200 VARCHAR(200),
+    request_varchar300 VARCHAR(300),
+    request_hash_char64 CHAR(64) NOT NULL,
+    status_varchar50 VARCHAR(50) NOT NULL,
+    response_status_int INT NULL,
+    response_body_text MEDIUMTEXT NULL,
+    response_location_varchar500 VARCHAR(500) NULL,
+    expires_at_datetime DATETIME(6) NOT NULL,
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    -- One record per (principal, method, path, key); a concurrent duplicate fails on insert
+    CONSTRAINT uq_idempotency_keys_scope UNIQUE (scope_hash_char64),
+    INDEX idx_idempotency_keys_expires (expires_at_datetime)
+);
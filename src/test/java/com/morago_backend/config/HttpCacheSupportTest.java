@@ -0,0 +1,107 @@
+package com.morago_backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpCacheSupportTest {
+
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("http-cache.catalog.max-age-seconds", "300")
+            .withProperty("http-cache.catalog.public", "true");
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpCacheSupport cacheSupport = new HttpCacheSupport(environment, objectMapper);
+
+    // ========== ETAGS ==========
+    @Test
+    void equalValuesShareAnEtagAndChangesProduceANewOne() {
+        String etag = cacheSupport.etagOf(List.of("Medical", "Legal"));
+
+        assertThat(etag).hasSize(32).isEqualTo(cacheSupport.etagOf(List.of("Medical", "Legal")));
+        assertThat(cacheSupport.etagOf(List.of("Medical"))).isNotEqualTo(etag);
+    }
+
+    @Test
+    void encodedBytesGetTheSameEtagAsTheirValue() throws Exception {
+        Map<String, Object> value = Map.of("name", "Medical");
+        byte[] json = objectMapper.writeValueAsBytes(value);
+
+        assertThat(HttpCacheSupport.contentEtag(json)).isEqualTo(cacheSupport.etagOf(value));
+        assertThat(HttpCacheSupport.contentEtag("{}".getBytes(StandardCharsets.UTF_8))).isNotEqualTo(cacheSupport.etagOf(value));
+    }
+
+    // ========== RESPONSES ==========
+    @Test
+    void firstRequestGetsTheBodyWithEtagAndCacheControl() {
+        AtomicInteger bodiesBuilt = new AtomicInteger();
+
+        ResponseEntity<String> response = cacheSupport.respond(request(null), "catalog", "abc123",
+                () -> "body" + bodiesBuilt.incrementAndGet());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo("body1");
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"abc123\"");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=300, must-revalidate, public");
+    }
+
+    @Test
+    void matchingIfNoneMatchGets304WithoutBuildingTheBody() {
+        AtomicInteger bodiesBuilt = new AtomicInteger();
+
+        ResponseEntity<String> response = cacheSupport.respond(request("\"abc123\""), "catalog", "abc123",
+                () -> "body" + bodiesBuilt.incrementAndGet());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"abc123\"");
+        assertThat(bodiesBuilt).hasValue(0);
+    }
+
+    @Test
+    void staleIfNoneMatchGetsTheNewBody() {
+        ResponseEntity<String> response = cacheSupport.respond(request("\"old\""), "catalog", "abc123", () -> "body");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo("body");
+    }
+
+    @Test
+    void extraHeadersAreOnBoth200And304() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+
+        ResponseEntity<String> ok = cacheSupport.respond(request(null), "catalog", "abc123", headers, () -> "body");
+        ResponseEntity<String> notModified = cacheSupport.respond(request("\"abc123\""), "catalog", "abc123", headers, () -> "body");
+
+        assertThat(ok.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_LANGUAGE);
+        assertThat(notModified.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_LANGUAGE);
+    }
+
+    @Test
+    void unconfiguredRouteRevalidatesPrivately() {
+        ResponseEntity<String> response = cacheSupport.respond(request(null), "profile", "abc123", () -> "body");
+
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/catalog");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,170 @@
+package com.morago_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing against two embedded databases that each know their own name, so every read shows where it
+ * was sent. The replica pool list also holds a replica that cannot connect, which must never be used.
+ */
+@SpringJUnitConfig(ReplicaRoutingDataSourceTest.RoutingConfig.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Autowired
+    private Reads reads;
+
+    @Test
+    void replicaReadInReadOnlyTransactionGoesToReplica() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(reads.replicaRead()).isEqualTo("replica");
+        }
+    }
+
+    @Test
+    void readOnlyTransactionWithoutReplicaReadStaysOnPrimary() {
+        assertThat(reads.readOnly()).isEqualTo("primary");
+    }
+
+    @Test
+    void replicaReadInReadWriteTransactionStaysOnPrimary() {
+        assertThat(reads.replicaReadInWriteTransaction()).isEqualTo("primary");
+    }
+
+    @Test
+    void markerIsClearedWhenReplicaReadReturns() {
+        assertThat(reads.replicaRead()).isEqualTo("replica");
+        assertThat(reads.readOnly()).isEqualTo("primary");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenNoReplicaIsHealthy() {
+        HikariDataSource primary = database("fallback_primary", "primary");
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(unreachable("fallback_replica")), 5);
+        try (routing) {
+            routing.afterPropertiesSet();
+            routing.checkReplicas();
+            DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+            TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            readOnly.setReadOnly(true);
+
+            boolean previous = ReplicaRoutingDataSource.enterReplicaRead();
+            try {
+                String source = readOnly.execute(status -> sourceName(new JdbcTemplate(dataSource)));
+                assertThat(source).isEqualTo("primary");
+            } finally {
+                ReplicaRoutingDataSource.exitReplicaRead(previous);
+            }
+        }
+    }
+
+    // ========== FIXTURES ==========
+    private static HikariDataSource database(String name, String source) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        dataSource.setMaximumPoolSize(2);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS source (name VARCHAR(16))");
+        jdbc.update("DELETE FROM source");
+        jdbc.update("INSERT INTO source (name) VALUES (?)", source);
+        return dataSource;
+    }
+
+    /**
+     * Pool whose connections fail, like a replica that is down
+     */
+    private static HikariDataSource unreachable(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:./target/" + name + "-missing;IFEXISTS=TRUE");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        dataSource.setConnectionTimeout(250);
+        return dataSource;
+    }
+
+    private static String sourceName(JdbcTemplate jdbc) {
+        return jdbc.queryForObject("SELECT name FROM source", String.class);
+    }
+
+    public static class Reads {
+
+        private final JdbcTemplate jdbc;
+
+        public Reads(JdbcTemplate jdbc) {
+            this.jdbc = jdbc;
+        }
+
+        @ReplicaRead
+        @Transactional(readOnly = true)
+        public String replicaRead() {
+            return sourceName(jdbc);
+        }
+
+        @Transactional(readOnly = true)
+        public String readOnly() {
+            return sourceName(jdbc);
+        }
+
+        @ReplicaRead
+        @Transactional
+        public String replicaReadInWriteTransaction() {
+            return sourceName(jdbc);
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    static class RoutingConfig {
+
+        @Bean(destroyMethod = "close")
+        ReplicaRoutingDataSource replicaRoutingDataSource() {
+            ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(database("routing_primary", "primary"),
+                    List.of(unreachable("routing_replica_down"), database("routing_replica", "replica")), 5);
+            routing.checkReplicas();
+            return routing;
+        }
+
+        @Bean
+        @Primary
+        DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+            return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        ReplicaReadAspect replicaReadAspect() {
+            return new ReplicaReadAspect();
+        }
+
+        @Bean
+        Reads reads(DataSource dataSource) {
+            return new Reads(new JdbcTemplate(dataSource));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.dto.dtoRequest.FilterRequest;
+import com.morago_backend.dto.dtoRequest.PaginationRequest;
+import com.morago_backend.entity.User;
+import com.morago_backend.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The user list whitelist run against H2, so every filter is checked by the query it produces
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class FilterSpecificationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void seedUsers() {
+        user("+821000000001", "Minji", "Kim", true, LocalDateTime.of(2024, 1, 10, 9, 0), UserRole.CLIENT);
+        user("+821000000002", "Jisoo", "Park", true, LocalDateTime.of(2024, 1, 31, 23, 30), UserRole.INTERPRETER);
+        user("+821000000003", "Daniel", "Kimball", false, LocalDateTime.of(2024, 2, 1, 0, 0), UserRole.CLIENT);
+        user("+821000000004", "100%_real", "Lee", true, LocalDateTime.of(2024, 3, 5, 12, 0), UserRole.ADMINISTRATOR);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // ========== FILTERS ==========
+    @Test
+    void searchMatchesAnyAttributeIgnoringCase() {
+        assertThat(phones(filter("kim", null, null, null))).containsExactly("+821000000001", "+821000000003");
+        assertThat(phones(filter("0000002", null, null, null))).containsExactly("+821000000002");
+    }
+
+    @Test
+    void searchTreatsWildcardsLiterally() {
+        assertThat(phones(filter("0%_", null, null, null))).containsExactly("+821000000004");
+        assertThat(phones(filter("%", null, null, null))).containsExactly("+821000000004");
+    }
+
+    @Test
+    void declaredFiltersAreConvertedToTheirTypes() {
+        assertThat(phones(filter(null, Map.of("active", "false"), null, null))).containsExactly("+821000000003");
+        assertThat(phones(filter(null, Map.of("role", "client"), null, null))).containsExactly("+821000000001", "+821000000003");
+        assertThat(phones(filter("kim", Map.of("active", "TRUE"), null, null))).containsExactly("+821000000001");
+    }
+
+    @Test
+    void blankFilterValueIsIgnored() {
+        Map<String, Object> filters = new HashMap<>();
+        filters.put("active", " ");
+        filters.put("role", null);
+
+        assertThat(phones(filter(null, filters, null, null))).hasSize(4);
+    }
+
+    @Test
+    void bareDateToCoversTheWholeDay() {
+        assertThat(phones(filter(null, null, "2024-01-10", "2024-01-31")))
+                .containsExactly("+821000000001", "+821000000002");
+        assertThat(phones(filter(null, null, null, "2024-01-31T12:00:00")))
+                .containsExactly("+821000000001");
+        assertThat(phones(filter(null, null, "2024-02-01T00:00:00", null)))
+                .containsExactly("+821000000003", "+821000000004");
+    }
+
+    // ========== VALIDATION ==========
+    @Test
+    void undeclaredOrUnparsableValuesAreRejectedBeforeAnyQuery() {
+        assertThatThrownBy(() -> UserRepository.FILTERS.toSpecification(new FilterRequest(null, Map.of("password", "x"), null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("password");
+        assertThatThrownBy(() -> UserRepository.FILTERS.toSpecification(new FilterRequest(null, Map.of("active", "yes"), null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UserRepository.FILTERS.toSpecification(new FilterRequest(null, Map.of("role", "OWNER"), null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UserRepository.FILTERS.toSpecification(new FilterRequest(null, null, "last week", null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("dateFrom");
+    }
+
+    // ========== SORT ==========
+    @Test
+    void sortAddsIdAsTieBreaker() {
+        Pageable pageable = UserRepository.FILTERS.toPageable(new PaginationRequest(0, 2, "isActive", false));
+
+        assertThat(pageable.getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "isActive").and(Sort.by(Sort.Direction.DESC, "id")));
+        assertThatThrownBy(() -> UserRepository.FILTERS.toPageable(new PaginationRequest(0, 2, "password", true)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pagesAreCountedInTheDatabase() {
+        Page<User> page = userRepository.findAll(
+                UserRepository.FILTERS.toSpecification(new FilterRequest(null, Map.of("active", "true"), null, null)),
+                UserRepository.FILTERS.toPageable(new PaginationRequest(1, 2, "lastName", true)));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(User::getLastName).containsExactly("Park");
+    }
+
+    // ========== FIXTURES ==========
+    private List<User> filter(String search, Map<String, Object> filters, String dateFrom, String dateTo) {
+        return userRepository.findAll(
+                UserRepository.FILTERS.toSpecification(new FilterRequest(search, filters, dateFrom, dateTo)),
+                Sort.by("phone"));
+    }
+
+    private void user(String phone, String firstName, String lastName, boolean active, LocalDateTime createdAt, UserRole role) {
+        User user = new User();
+        user.setPhone(phone);
+        user.setPassword("hash");
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setIsActive(active);
+        user.setRoles(Set.of(role));
+        entityManager.persist(user);
+        // createdAt is not updatable through the entity
+        entityManager.getEntityManager()
+                .createQuery("UPDATE User u SET u.createdAt = :createdAt WHERE u.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", user.getId())
+                .executeUpdate();
+    }
+
+    private static List<String> phones(List<User> users) {
+        return users.stream().map(User::getPhone).toList();
+    }
+}
@@ -0,0 +1,128 @@
+package com.morago_backend.service;
+
+import com.morago_backend.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class RateLimiterServiceTest {
+
+    private final MockEnvironment environment = new MockEnvironment();
+
+    @Test
+    void admitsCapacityThenRejectsWithRetryAfter() {
+        RateLimiterService limiter = limiter(false);
+        for (int i = 0; i < 3; i++) {
+            limiter.consume("login", "10.0.0.1", 3, 60);
+        }
+
+        TooManyRequestsException rejected = catchThrowableOfType(
+                () -> limiter.consume("login", "10.0.0.1", 3, 60), TooManyRequestsException.class);
+
+        assertThat(rejected).isNotNull();
+        // One token comes back every 20 seconds
+        assertThat(rejected.getRetryAfterSeconds()).isBetween(19L, 20L);
+    }
+
+    @Test
+    void bucketsAreSeparatePerRouteAndKey() {
+        RateLimiterService limiter = limiter(false);
+        limiter.consume("login", "10.0.0.1", 1, 60);
+
+        limiter.consume("login", "10.0.0.2", 1, 60);
+        limiter.consume("signup", "10.0.0.1", 1, 60);
+        assertThatThrownBy(() -> limiter.consume("login", "10.0.0.1", 1, 60))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void refillsOverThePeriod() throws InterruptedException {
+        RateLimiterService limiter = limiter(false);
+        limiter.consume("verify", "+821000000000", 1, 1);
+        assertThatThrownBy(() -> limiter.consume("verify", "+821000000000", 1, 1))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        Thread.sleep(1100);
+
+        limiter.consume("verify", "+821000000000", 1, 1);
+    }
+
+    @Test
+    void configuredCapacityOverridesTheDefault() {
+        environment.setProperty("rate-limit.login.capacity", "1");
+        RateLimiterService limiter = limiter(false);
+        limiter.consume("login", "10.0.0.1", 10, 60);
+
+        assertThatThrownBy(() -> limiter.consume("login", "10.0.0.1", 10, 60))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void disabledLimiterAdmitsEverything() {
+        RateLimiterService limiter = new RateLimiterService(environment, new InMemoryRateLimitStore(), false, false);
+        for (int i = 0; i < 10; i++) {
+            limiter.consume("login", "10.0.0.1", 1, 60);
+        }
+    }
+
+    @Test
+    void concurrentRequestsNeverOverdrawTheBucket() throws InterruptedException {
+        RateLimiterService limiter = limiter(false);
+        int threads = 8;
+        int attemptsPerThread = 500;
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        try {
+                            limiter.consume("login", "10.0.0.1", 100, 3600);
+                            admitted.incrementAndGet();
+                        } catch (TooManyRequestsException ignored) {
+                            // expected once the bucket is empty
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Refill over the test run is a fraction of a token per second at 100 tokens per hour
+        assertThat(admitted.get()).isBetween(100, 101);
+    }
+
+    @Test
+    void clusterSyncEnforcesTheLimitAcrossInstances() {
+        InMemoryRateLimitStore sharedStore = new InMemoryRateLimitStore();
+        RateLimiterService first = new RateLimiterService(environment, sharedStore, true, true);
+        RateLimiterService second = new RateLimiterService(environment, sharedStore, true, true);
+
+        first.consume("login", "10.0.0.1", 2, 3600);
+        second.consume("login", "10.0.0.1", 2, 3600);
+
+        // Each local bucket still has a token, but the shared window is used up
+        assertThatThrownBy(() -> first.consume("login", "10.0.0.1", 2, 3600))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    private RateLimiterService limiter(boolean clusterSync) {
+        return new RateLimiterService(environment, new InMemoryRateLimitStore(), true, clusterSync);
+    }
+}
@@ -0,0 +1,68 @@
+package com.morago_backend.service;
+
+import com.morago_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RegisteredPhoneFilterTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    @Test
+    void startupLoadsRegisteredPhones() {
+        when(userRepository.findAllPhones()).thenReturn(List.of("+821011112222", "+821033334444"));
+        RegisteredPhoneFilter filter = new RegisteredPhoneFilter(userRepository, 1000);
+        filter.loadOnStartup();
+
+        assertThat(filter.mightBeRegistered("+821011112222")).isTrue();
+        assertThat(filter.mightBeRegistered("+821033334444")).isTrue();
+        assertThat(filter.mightBeRegistered("+821055556666")).isFalse();
+    }
+
+    @Test
+    void addedPhoneIsSeenBeforeTheNextRebuild() {
+        when(userRepository.findAllPhones()).thenReturn(List.of());
+        RegisteredPhoneFilter filter = new RegisteredPhoneFilter(userRepository, 1000);
+        filter.loadOnStartup();
+
+        filter.add("+821011112222");
+
+        assertThat(filter.mightBeRegistered("+821011112222")).isTrue();
+    }
+
+    @Test
+    void rebuildPicksUpOtherInstancesAndDropsDeletedUsers() {
+        when(userRepository.findAllPhones())
+                .thenReturn(List.of("+821011112222"))
+                .thenReturn(List.of("+821033334444"));
+        RegisteredPhoneFilter filter = new RegisteredPhoneFilter(userRepository, 1000);
+        filter.loadOnStartup();
+
+        filter.rebuild();
+
+        assertThat(filter.mightBeRegistered("+821033334444")).isTrue();
+        assertThat(filter.mightBeRegistered("+821011112222")).isFalse();
+    }
+
+    @Test
+    void rebuildGrowsPastTheExpectedSize() {
+        List<String> phones = IntStream.range(0, 5000)
+                .mapToObj(i -> "+8210" + String.format("%08d", i))
+                .toList();
+        when(userRepository.findAllPhones()).thenReturn(phones);
+        RegisteredPhoneFilter filter = new RegisteredPhoneFilter(userRepository, 10);
+        filter.loadOnStartup();
+
+        assertThat(phones).allMatch(filter::mightBeRegistered);
+        long falsePositives = IntStream.range(5000, 15000)
+                .filter(i -> filter.mightBeRegistered("+8210" + String.format("%08d", i)))
+                .count();
+        assertThat(falsePositives).isLessThan(200);
+    }
+}
@@ -0,0 +1,137 @@
+package com.morago_backend.service;
+
+import com.morago_backend.dto.dtoResponse.ThemeResponseDTO;
+import com.morago_backend.event.CatalogChangedEvent;
+import com.morago_backend.repository.CallRecordRepository;
+import com.morago_backend.repository.CallRecordRepository.ThemeCallCount;
+import com.morago_backend.service.CatalogCache.Snapshot;
+import com.morago_backend.service.CatalogCache.Table;
+import com.morago_backend.service.CatalogCache.Tagged;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ThemeSuggestIndexTest {
+
+    private final CatalogCache catalogCache = mock(CatalogCache.class);
+    private final CallRecordRepository callRecordRepository = mock(CallRecordRepository.class);
+    private final List<ThemeResponseDTO> themes = new ArrayList<>();
+
+    private ThemeSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(catalogCache.snapshot()).thenAnswer(inv -> snapshot());
+        when(callRecordRepository.countCallsByTheme(any())).thenReturn(List.of());
+
+        themes.add(theme(1L, "Legal Consultation", "법률 상담", false));
+        themes.add(theme(2L, "Medical Translation", "의료 통역", false));
+        themes.add(theme(3L, "Real Estate", "부동산 법무", false));
+        themes.add(theme(4L, "Education", "학교 상담", false));
+
+        index = new ThemeSuggestIndex(catalogCache, callRecordRepository, 90);
+        index.buildOnStartup();
+    }
+
+    // ========== MATCHING ==========
+    @Test
+    void halfTypedHangulMatches() {
+        // "버" is the start of "법" in both "법률" and "법무"
+        assertThat(ids(index.suggest("버", 10))).containsExactly(1L, 3L);
+        assertThat(ids(index.suggest("법ㄹ", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("법률", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void matchesWordsAndSyllablesInsideTheTitle() {
+        // "상담" starts the second word of two titles
+        assertThat(ids(index.suggest("상", 10))).containsExactlyInAnyOrder(1L, 4L);
+        // "률" is the second syllable of "법률"
+        assertThat(ids(index.suggest("률", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("trans", 10))).containsExactly(2L);
+    }
+
+    @Test
+    void emptyOrUnknownQueryMatchesNothing() {
+        assertThat(index.suggest("  ", 10)).isEmpty();
+        assertThat(index.suggest("zzz", 10)).isEmpty();
+        assertThat(index.suggest("법", 0)).isEmpty();
+    }
+
+    // ========== RANKING ==========
+    @Test
+    void titleStartRanksAheadOfMatchInsideTheTitle() {
+        // Legal has "법" at the start, Real Estate only in its second word
+        assertThat(ids(index.suggest("법", 10))).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void popularThenCallVolumeRankFirst() {
+        ThemeCallCount busy = mock(ThemeCallCount.class);
+        when(busy.getThemeId()).thenReturn(4L);
+        when(busy.getCalls()).thenReturn(50L);
+        when(callRecordRepository.countCallsByTheme(any())).thenReturn(List.of(busy));
+        index.refreshCallVolume();
+        assertThat(ids(index.suggest("상", 10))).containsExactly(4L, 1L);
+
+        themes.set(0, theme(1L, "Legal Consultation", "법률 상담", true));
+        index.onCatalogChanged(new CatalogChangedEvent("theme", 1L));
+        assertThat(ids(index.suggest("상", 10))).containsExactly(1L, 4L);
+    }
+
+    @Test
+    void limitCapsTheSuggestions() {
+        assertThat(index.suggest("상", 1)).hasSize(1);
+    }
+
+    // ========== MAINTENANCE ==========
+    @Test
+    void changedThemeIsReindexed() {
+        themes.set(1, theme(2L, "Medical Interpreting", "의료 통역", false));
+        index.onCatalogChanged(new CatalogChangedEvent("theme", 2L));
+
+        assertThat(index.suggest("trans", 10)).isEmpty();
+        assertThat(ids(index.suggest("interp", 10))).containsExactly(2L);
+    }
+
+    @Test
+    void deletedThemeIsDropped() {
+        themes.remove(0);
+        index.onCatalogChanged(new CatalogChangedEvent("theme", 1L));
+
+        assertThat(ids(index.suggest("법", 10))).containsExactly(3L);
+    }
+
+    // ========== FIXTURES ==========
+    private Snapshot snapshot() {
+        Map<Long, Tagged<ThemeResponseDTO>> byId = themes.stream()
+                .collect(Collectors.toMap(ThemeResponseDTO::getId, theme -> new Tagged<>(theme, "etag")));
+        return new Snapshot(1L, System.currentTimeMillis(),
+                new Table<>(new Tagged<>(List.of(), "etag"), Map.of()),
+                new Table<>(new Tagged<>(List.copyOf(themes), "etag"), byId),
+                new Table<>(new Tagged<>(List.of(), "etag"), Map.of()));
+    }
+
+    private static ThemeResponseDTO theme(Long id, String name, String koreanTitle, boolean popular) {
+        return ThemeResponseDTO.builder()
+                .id(id)
+                .name(name)
+                .koreanTitle(koreanTitle)
+                .isPopular(popular)
+                .isActive(true)
+                .build();
+    }
+
+    private static List<Long> ids(List<ThemeResponseDTO> suggestions) {
+        return suggestions.stream().map(ThemeResponseDTO::getId).toList();
+    }
+}
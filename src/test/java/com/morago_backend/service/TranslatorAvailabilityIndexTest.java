@@ -0,0 +1,152 @@
+package com.morago_backend.service;
+
+import com.morago_backend.event.TranslatorProfileChangedEvent;
+import com.morago_backend.event.UserPrincipalChangedEvent;
+import com.morago_backend.repository.TranslatorProfileRepository;
+import com.morago_backend.repository.TranslatorProfileRepository.IndexLink;
+import com.morago_backend.repository.TranslatorProfileRepository.IndexRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The index is backed by a mocked repository that answers from in-memory rows, so each test can change
+ * a profile "in the database" and check what a refresh or rebuild makes of it.
+ */
+class TranslatorAvailabilityIndexTest {
+
+    private static final long MEDICAL = 1L;
+    private static final long LEGAL = 2L;
+    private static final long KOREAN = 10L;
+    private static final long ENGLISH = 11L;
+
+    private final Map<Long, Row> rows = new LinkedHashMap<>();
+    private final List<Link> themeLinks = new ArrayList<>();
+    private final List<Link> languageLinks = new ArrayList<>();
+    private final TranslatorProfileRepository repository = mock(TranslatorProfileRepository.class);
+
+    private TranslatorAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findIndexRows()).thenAnswer(inv -> List.<IndexRow>copyOf(rows.values()));
+        when(repository.findIndexRow(anyLong())).thenAnswer(inv -> Optional.<IndexRow>ofNullable(rows.get(inv.<Long>getArgument(0))));
+        when(repository.findThemeLinks()).thenAnswer(inv -> List.<IndexLink>copyOf(themeLinks));
+        when(repository.findThemeLinks(anyLong())).thenAnswer(inv -> linksOf(themeLinks, inv.getArgument(0)));
+        when(repository.findLanguageLinks()).thenAnswer(inv -> List.<IndexLink>copyOf(languageLinks));
+        when(repository.findLanguageLinks(anyLong())).thenAnswer(inv -> linksOf(languageLinks, inv.getArgument(0)));
+
+        profile(1, 101, true, true, true, true, List.of(MEDICAL), List.of(KOREAN, ENGLISH));
+        profile(2, 102, true, true, true, true, List.of(LEGAL), List.of(KOREAN));
+        profile(3, 103, false, true, true, true, List.of(MEDICAL), List.of(KOREAN));
+        profile(4, 104, true, false, true, true, List.of(MEDICAL), List.of(KOREAN));
+        profile(5, 105, true, true, false, true, List.of(MEDICAL), List.of(KOREAN));
+        profile(6, 106, true, true, true, false, List.of(MEDICAL), List.of(KOREAN));
+
+        index = new TranslatorAvailabilityIndex(repository);
+        index.loadOnStartup();
+    }
+
+    // ========== QUERY ==========
+    @Test
+    void matchesOnlyOnlineAvailableVerifiedActiveProfiles() {
+        assertThat(index.findAvailable(null, null)).containsExactly(1L, 2L);
+        assertThat(index.countAvailable(null, null)).isEqualTo(2);
+    }
+
+    @Test
+    void filtersByThemeAndLanguage() {
+        assertThat(index.findAvailable(MEDICAL, null)).containsExactly(1L);
+        assertThat(index.findAvailable(null, KOREAN)).containsExactly(1L, 2L);
+        assertThat(index.findAvailable(LEGAL, ENGLISH)).isEmpty();
+        assertThat(index.findAvailable(99L, null)).isEmpty();
+    }
+
+    @Test
+    void candidatesCarryUserAndRating() {
+        assertThat(index.findCandidates(MEDICAL, KOREAN))
+                .containsExactly(new TranslatorAvailabilityIndex.Candidate(1L, 101L, 4.5));
+        assertThat(index.getUserId(2L)).contains(102L);
+        assertThat(index.getUserId(99L)).isEmpty();
+    }
+
+    // ========== INCREMENTAL UPDATES ==========
+    @Test
+    void profileChangeReplacesItsBits() {
+        profile(1, 101, true, true, true, true, List.of(LEGAL), List.of(ENGLISH));
+        index.onTranslatorProfileChanged(new TranslatorProfileChangedEvent(1L));
+
+        assertThat(index.findAvailable(MEDICAL, null)).isEmpty();
+        assertThat(index.findAvailable(LEGAL, ENGLISH)).containsExactly(1L);
+        assertThat(index.findAvailable(LEGAL, KOREAN)).containsExactly(2L);
+    }
+
+    @Test
+    void goingOfflineDropsTheProfile() {
+        profile(2, 102, false, true, true, true, List.of(LEGAL), List.of(KOREAN));
+        index.refresh(2L);
+
+        assertThat(index.findAvailable(null, null)).containsExactly(1L);
+    }
+
+    @Test
+    void blockingTheUserDropsTheirProfile() {
+        profile(1, 101, true, true, true, false, List.of(MEDICAL), List.of(KOREAN, ENGLISH));
+        index.onPrincipalChanged(new UserPrincipalChangedEvent(101L, "+821000000101"));
+
+        assertThat(index.findAvailable(null, null)).containsExactly(2L);
+    }
+
+    @Test
+    void deletedProfileIsRemoved() {
+        rows.remove(1L);
+        themeLinks.removeIf(link -> link.getProfileId() == 1L);
+        languageLinks.removeIf(link -> link.getProfileId() == 1L);
+        index.refresh(1L);
+
+        assertThat(index.findAvailable(null, null)).containsExactly(2L);
+        assertThat(index.getUserId(1L)).isEmpty();
+    }
+
+    @Test
+    void rebuildPicksUpChangesMadeElsewhere() {
+        profile(3, 103, true, true, true, true, List.of(MEDICAL), List.of(KOREAN));
+        assertThat(index.findAvailable(MEDICAL, null)).containsExactly(1L);
+
+        index.rebuild();
+
+        assertThat(index.findAvailable(MEDICAL, null)).containsExactly(1L, 3L);
+    }
+
+    // ========== FIXTURES ==========
+    private void profile(long profileId, long userId, boolean online, boolean available, boolean verified,
+                         boolean active, List<Long> themes, List<Long> languages) {
+        rows.put(profileId, new Row(profileId, userId, online, available, verified, active, BigDecimal.valueOf(4.5)));
+        themeLinks.removeIf(link -> link.getProfileId() == profileId);
+        languageLinks.removeIf(link -> link.getProfileId() == profileId);
+        themes.forEach(id -> themeLinks.add(new Link(profileId, id)));
+        languages.forEach(id -> languageLinks.add(new Link(profileId, id)));
+    }
+
+    private static List<IndexLink> linksOf(List<Link> links, Long profileId) {
+        return links.stream().filter(link -> link.getProfileId().equals(profileId)).map(IndexLink.class::cast).toList();
+    }
+
+    private record Row(Long getProfileId, Long getUserId, Boolean getOnline, Boolean getAvailable,
+                       Boolean getVerified, Boolean getActive, BigDecimal getRatings) implements IndexRow {
+    }
+
+    private record Link(Long getProfileId, Long getValueId) implements IndexLink {
+    }
+}
@@ -0,0 +1,133 @@
+package com.morago_backend.service;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.morago_backend.dto.dtoRequest.PaginationRequest;
+import com.morago_backend.dto.dtoResponse.TranslatorProfileResponseDTO;
+import com.morago_backend.entity.Category;
+import com.morago_backend.entity.Language;
+import com.morago_backend.entity.Theme;
+import com.morago_backend.entity.TranslatorProfile;
+import com.morago_backend.entity.User;
+import com.morago_backend.entity.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mapping a page of translator profiles must cost the same number of statements whatever the page
+ * size: the page and count queries, one query each for theme and language names, and the batched
+ * loads of the profiles' users.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(TranslatorProfileService.class)
+class TranslatorProfileServiceStatementCountTest {
+
+    private static final int PROFILES = 100;
+
+    @Autowired
+    private TranslatorProfileService service;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private SocketIOServer socketServer;
+
+    @BeforeEach
+    void seedProfiles() {
+        Category category = new Category();
+        category.setName("General");
+        entityManager.persist(category);
+
+        Theme medical = theme("Medical", category);
+        Theme legal = theme("Legal", category);
+        Language korean = language("Korean");
+        Language english = language("English");
+
+        for (int i = 0; i < PROFILES; i++) {
+            TranslatorProfile profile = new TranslatorProfile();
+            profile.setEmail("translator" + i + "@example.com");
+            profile.setIsVerified(true);
+            profile.setThemes(Set.of(medical, legal));
+            profile.setLanguages(Set.of(korean, english));
+            entityManager.persist(profile);
+
+            User user = new User();
+            user.setPhone("+8210000" + String.format("%04d", i));
+            user.setPassword("hash");
+            user.setRoles(Set.of(UserRole.INTERPRETER));
+            user.setTranslatorProfile(profile);
+            entityManager.persist(user);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void pageOfHundredCostsNoMoreStatementsThanPageOfTen() {
+        long tenRows = statementsForPage(10);
+        long hundredRows = statementsForPage(PROFILES);
+
+        assertThat(hundredRows).isEqualTo(tenRows);
+        assertThat(hundredRows).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void pageCarriesThemeAndLanguageNames() {
+        Page<TranslatorProfileResponseDTO> page = service.getAllWithFilterAndPagination(
+                null, new PaginationRequest(0, PROFILES, "id", true));
+
+        assertThat(page.getContent()).hasSize(PROFILES);
+        assertThat(page.getContent()).allSatisfy(dto -> {
+            assertThat(dto.getThemes()).containsExactly("Legal", "Medical");
+            assertThat(dto.getLanguages()).containsExactly("English", "Korean");
+        });
+    }
+
+    // ========== HELPERS ==========
+    private long statementsForPage(int size) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<TranslatorProfileResponseDTO> page = service.getAllWithFilterAndPagination(
+                null, new PaginationRequest(0, size, "id", true));
+
+        assertThat(page.getContent()).hasSize(size);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Theme theme(String name, Category category) {
+        Theme theme = new Theme();
+        theme.setName(name);
+        theme.setCategory(category);
+        theme.setIsActive(true);
+        return entityManager.persist(theme);
+    }
+
+    private Language language(String name) {
+        Language language = new Language();
+        language.setName(name);
+        return entityManager.persist(language);
+    }
+}
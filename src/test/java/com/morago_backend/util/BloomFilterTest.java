@@ -0,0 +1,62 @@
+package com.morago_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+
+    @Test
+    void neverMissesAnAddedValue() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put(phone(i)));
+
+        assertThat(IntStream.range(0, INSERTIONS).allMatch(i -> filter.mightContain(phone(i)))).isTrue();
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTarget() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put(phone(i)));
+
+        long falsePositives = IntStream.range(INSERTIONS, INSERTIONS * 11)
+                .filter(i -> filter.mightContain(phone(i)))
+                .count();
+
+        // 100,000 absent phones at a 1% target; allow twice the target for hash skew
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+
+        assertThat(filter.mightContain(phone(1))).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+
+    @Test
+    void concurrentAddsAreAllVisible() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        IntStream.range(0, INSERTIONS).parallel().forEach(i -> filter.put(phone(i)));
+
+        assertThat(IntStream.range(0, INSERTIONS).allMatch(i -> filter.mightContain(phone(i)))).isTrue();
+    }
+
+    @Test
+    void rejectsFalsePositiveRateOutsideZeroAndOne() {
+        assertThatThrownBy(() -> new BloomFilter(INSERTIONS, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(INSERTIONS, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String phone(int i) {
+        return "+8210" + String.format("%08d", i);
+    }
+}
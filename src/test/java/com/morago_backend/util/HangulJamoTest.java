@@ -0,0 +1,53 @@
+package com.morago_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+    @Test
+    void splitsSyllablesIntoTypedKeys() {
+        assertThat(HangulJamo.normalize("학교")).isEqualTo("ㅎㅏㄱㄱㅛ");
+        // Compound vowel and final cluster are split into the keys typed for them
+        assertThat(HangulJamo.normalize("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.normalize("닭")).isEqualTo("ㄷㅏㄹㄱ");
+    }
+
+    @Test
+    void everyStageOfTypingIsAPrefix() {
+        String word = HangulJamo.normalize("학교");
+
+        assertThat(word).startsWith(HangulJamo.normalize("ㅎ"));
+        assertThat(word).startsWith(HangulJamo.normalize("하"));
+        assertThat(word).startsWith(HangulJamo.normalize("학"));
+        assertThat(word).startsWith(HangulJamo.normalize("학ㄱ"));
+        assertThat(HangulJamo.normalize("닭")).startsWith(HangulJamo.normalize("달"));
+        assertThat(HangulJamo.normalize("닭")).startsWith(HangulJamo.normalize("다ㄺ"));
+    }
+
+    @Test
+    void decomposedInputMatchesComposedText() {
+        assertThat(HangulJamo.normalize("\u1112\u1161\u11A8")).isEqualTo(HangulJamo.normalize("학"));
+    }
+
+    @Test
+    void lowerCasesLatinAndCollapsesSeparators() {
+        assertThat(HangulJamo.normalize("  Medical -- Translation! ")).isEqualTo("medical translation");
+        assertThat(HangulJamo.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void matchesMayStartAtWordsAndSyllables() {
+        String normalized = HangulJamo.normalize("법률 상담");
+        // ㅂㅓㅂㄹㅠㄹ ㅅㅏㅇㄷㅏㅁ
+
+        assertThat(HangulJamo.isSyllableStart(normalized, 0)).isTrue();
+        assertThat(HangulJamo.isSyllableStart(normalized, 3)).isTrue();
+        assertThat(HangulJamo.isSyllableStart(normalized, 7)).isTrue();
+        assertThat(HangulJamo.isSyllableStart(normalized, 10)).isTrue();
+        // A final consonant or vowel never starts a match
+        assertThat(HangulJamo.isSyllableStart(normalized, 1)).isFalse();
+        assertThat(HangulJamo.isSyllableStart(normalized, 2)).isFalse();
+    }
+}